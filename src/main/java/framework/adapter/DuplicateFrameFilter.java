@@ -0,0 +1,194 @@
+package framework.adapter;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.pcap4j.packet.namednumber.DataLinkType;
+
+/**
+ * 여러 NIC에서 중복 캡처된 프레임을 걸러내는 필터
+ *
+ * - {@code any}, 브리지와 그 구성 인터페이스를 함께 캡처하면 같은 프레임이 여러 번 수신된다
+ * - 링크 헤더를 제외한 프레임 내용의 64비트 지문(fingerprint)을 시간 창(window) 동안 기억하여 다시 나타나면 중복으로 판정한다
+ * - 링크 헤더 형식이 달라도(Ethernet / Linux cooked) 같은 L3 패킷이면 같은 지문을 갖는다
+ *
+ * <p>
+ * 지문은 고정 크기 {@link AtomicLongArray}에 set-associative 방식으로 저장되며,
+ * 항목 하나는 지문 상위 비트와 기록 시각(epoch)을 하나의 {@code long}으로 묶은 값이다.
+ * 조회와 기록은 락 없이 CAS로 수행되므로 여러 캡처 스레드가 동시에 사용할 수 있다.
+ * <br>
+ * 메모리 사용량은 {@code capacity * 8} 바이트로 고정된다.
+ * 판정 시각은 캡처 시각이므로 여러 NIC의 프레임이 시간 순서대로 검사된다는 보장이 없다.
+ * 따라서 기록된 시각의 앞뒤 시간 창 안에 있으면 모두 중복으로 판정한다.
+ * <br>
+ * 집합(set)이 가득 차면 만료되었거나 가장 오래된 항목을 덮어쓰므로,
+ * 처리량에 비해 용량이 작으면 일부 중복을 놓칠 수 있지만 정상 프레임을 잘못 버리지는 않는다
+ * (지문 충돌 확률 제외).
+ */
+public final class DuplicateFrameFilter {
+
+    private static final int WAYS = 8;
+    private static final int EPOCH_BITS = 24;
+    private static final long EPOCH_MASK = (1L << EPOCH_BITS) - 1;
+    private static final long EPOCH_HALF = 1L << (EPOCH_BITS - 1);
+    private static final long TAG_MASK = ~EPOCH_MASK;
+    /** 시간 창 하나를 나누는 epoch 단위 수 (판정 시각 해상도) */
+    private static final int EPOCHS_PER_WINDOW = 8;
+
+    private static final int ETHERNET_HEADER_LENGTH = 14;
+    private static final int VLAN_TAG_LENGTH = 4;
+    private static final int LINUX_SLL_HEADER_LENGTH = 16;
+
+    private static final VarHandle LONG_LE =
+            MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final long PRIME_1 = 0x9E37_79B1_85EB_CA87L;
+    private static final long PRIME_2 = 0xC2B2_AE3D_27D4_EB4FL;
+
+    private final AtomicLongArray entries;
+    private final int setMask;
+    private final int epochShift;
+    private final long windowEpochs;
+
+    private final LongAdder inspected = new LongAdder();
+    private final LongAdder suppressed = new LongAdder();
+
+    /**
+     * 시간 창 5ms, 용량 65536 항목(512KB)의 필터를 생성한다.
+     */
+    public DuplicateFrameFilter() {
+        this(TimeUnit.MILLISECONDS.toNanos(5), 1 << 16);
+    }
+
+    /**
+     * @param windowNanos 같은 프레임을 중복으로 간주할 시간 창
+     * @param capacity    기억할 최대 지문 수 (2의 거듭제곱으로 올림)
+     */
+    public DuplicateFrameFilter(long windowNanos, int capacity) {
+        if (windowNanos <= 0)
+            throw new IllegalArgumentException("windowNanos must be positive");
+        if (capacity < WAYS || capacity > 1 << 30)
+            throw new IllegalArgumentException("capacity must be in [" + WAYS + ", 2^30]");
+        int entries = Integer.highestOneBit(capacity - 1) << 1;
+        this.entries = new AtomicLongArray(entries);
+        this.setMask = entries / WAYS - 1;
+        // epoch 단위는 시간 창의 1/8 이하인 2의 거듭제곱 나노초
+        this.epochShift = Math.max(0, 63 - Long.numberOfLeadingZeros(Math.max(1, windowNanos / EPOCHS_PER_WINDOW)));
+        this.windowEpochs = Math.max(1, windowNanos >> epochShift);
+    }
+
+    /**
+     * 프레임이 시간 창 안에서 이미 수신된 것인지 판정하고, 처음 보는 프레임이면 기록한다.
+     *
+     * - 배열의 {@code [offset, end)} 구간으로 지문을 계산하므로, 여러 프레임을 담은 버퍼에서도 복사 없이 검사할 수 있다
+     *
+     * @param frame  캡처된 프레임
+     * @param offset 링크 헤더를 제외한 비교 시작 위치 ({@link #payloadOffset(DataLinkType, byte[])})
+     * @param end    비교 끝 위치 (프레임 끝, 배타적)
+     * @param nowNanos 수신 시각, 호출 순서와 달리 이전에 검사한 프레임보다 이른 시각일 수 있다
+     * @return 중복 프레임이면 {@code true}
+     */
+    public boolean isDuplicate(byte[] frame, int offset, int end, long nowNanos) {
+        inspected.increment();
+        long fingerprint = fingerprint(frame, offset, end - offset);
+        long tag = fingerprint & TAG_MASK;
+        if (tag == 0) tag = 1L << EPOCH_BITS;
+        long epoch = (nowNanos >>> epochShift) & EPOCH_MASK;
+        int base = ((int) fingerprint & setMask) * WAYS;
+
+        while (true) {
+            int victim = base;
+            long victimAge = -1;
+            long victimValue = 0;
+            for (int i = base; i < base + WAYS; i++) {
+                long value = entries.get(i);
+                long age = value == 0 ? Long.MAX_VALUE : distance(epoch, value);
+                if ((value & TAG_MASK) == tag && age <= windowEpochs) {
+                    suppressed.increment();
+                    return true;
+                }
+                if (age > victimAge) {
+                    victim = i;
+                    victimAge = age;
+                    victimValue = value;
+                }
+            }
+            // 같은 프레임을 동시에 기록하려는 다른 스레드와 경합하면 다시 조회한다
+            if (entries.compareAndSet(victim, victimValue, tag | epoch)) return false;
+        }
+    }
+
+    /**
+     * 두 epoch 사이의 거리를 {@code EPOCH_BITS} 범위의 부호 있는 차이의 절댓값으로 반환한다.
+     *
+     * - 기록된 항목보다 먼저 캡처된 프레임이 나중에 검사되어도 거리가 작게 계산된다
+     */
+    private static long distance(long epoch, long value) {
+        long diff = (epoch - value) & EPOCH_MASK;
+        return diff >= EPOCH_HALF ? (1L << EPOCH_BITS) - diff : diff;
+    }
+
+    /**
+     * 데이터 링크 유형에 따라 링크 헤더를 건너뛴 L3 시작 위치를 반환한다.
+     *
+     * - EN10MB : Ethernet 헤더 14바이트 (802.1Q / 802.1ad 태그 포함)
+     * - LINUX_SLL : Linux cooked 헤더 16바이트
+     * - 그 외 : 프레임 전체를 비교한다
+     */
+    public static int payloadOffset(DataLinkType dlt, byte[] frame) {
+        return payloadOffset(dlt, frame, 0, frame.length);
+    }
+
+    /**
+     * 배열의 {@code [start, end)} 구간에 담긴 프레임에서 링크 계층 헤더를 건너뛴 위치를 반환한다.
+     *
+     * - 여러 프레임을 담은 버퍼에서 프레임을 복사하지 않고 검사할 때 사용한다
+     */
+    public static int payloadOffset(DataLinkType dlt, byte[] bytes, int start, int end) {
+        if (DataLinkType.EN10MB.equals(dlt)) {
+            int offset = start + ETHERNET_HEADER_LENGTH;
+            while (offset + VLAN_TAG_LENGTH <= end) {
+                int etherType = ((bytes[offset - 2] & 0xFF) << 8) | (bytes[offset - 1] & 0xFF);
+                if (etherType != 0x8100 && etherType != 0x88A8) break;
+                offset += VLAN_TAG_LENGTH;
+            }
+            return Math.min(offset, end);
+        }
+        if (DataLinkType.LINUX_SLL.equals(dlt)) return Math.min(start + LINUX_SLL_HEADER_LENGTH, end);
+        return start;
+    }
+
+    /**
+     * 검사한 프레임 수를 반환한다.
+     */
+    public long inspected() { return inspected.sum(); }
+
+    /**
+     * 중복으로 판정되어 걸러진 프레임 수를 반환한다.
+     */
+    public long suppressed() { return suppressed.sum(); }
+
+    public int capacity() { return entries.length(); }
+
+    /**
+     * 8바이트 단위로 읽어 섞는 64비트 지문
+     */
+    static long fingerprint(byte[] bytes, int offset, int length) {
+        long h = PRIME_2 ^ (length * PRIME_1);
+        int i = offset;
+        int end = offset + length;
+        for (; i + 8 <= end; i += 8) {
+            long word = (long) LONG_LE.get(bytes, i);
+            h = Long.rotateLeft(h ^ (word * PRIME_2), 31) * PRIME_1;
+        }
+        long tail = 0;
+        for (int shift = 0; i < end; i++, shift += 8) tail |= (bytes[i] & 0xFFL) << shift;
+        h = Long.rotateLeft(h ^ (tail * PRIME_2), 31) * PRIME_1;
+        h ^= h >>> 33;
+        h *= PRIME_2;
+        return h ^ (h >>> 29);
+    }
+}
@@ -1,32 +1,82 @@
 package framework.adapter;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.LockSupport;
 
+import org.pcap4j.core.NotOpenException;
 import org.pcap4j.core.PcapHandle;
 import org.pcap4j.core.PcapNativeException;
-import org.pcap4j.packet.Packet;
+import org.pcap4j.core.PcapStat;
+import org.pcap4j.packet.namednumber.DataLinkType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import framework.adapter.capture.CaptureConfig;
+import framework.adapter.capture.CaptureRing;
+import framework.adapter.capture.CaptureStats;
+import framework.adapter.capture.FrameSink;
+import framework.adapter.flow.FlowStats;
 import framework.core.data.Chunk;
+import framework.core.exception.LogDomain;
+import framework.core.logging.LogTemplate;
 import framework.util.NICUtils;
 
+/**
+ * pcap4j를 이용해 NIC에서 프레임을 캡처하는 어댑터입니다.
+ * <br>
+ * NIC마다 전용 캡처 스레드가 libpcap에서 프레임을 받아 NIC별 {@link CaptureRing}에 복사하는 일만 하고,
+ * 별도의 디코드 작업 스레드가 링을 비우며 중복 제거, 흐름 통계, 하위 계층 전달({@link FrameSink})을 수행합니다.
+ * 따라서 스택의 처리 지연은 커널 버퍼 넘침이 아닌 링 드롭으로 나타나며,
+ * 두 손실은 {@link #captureStats()}에서 구분되어 집계됩니다.
+ */
 public class Pcap4jAdapter {
+    private static final Logger log = LoggerFactory.getLogger(Pcap4jAdapter.class);
+    private static final long FLOW_EXPIRE_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long KERNEL_STATS_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long IDLE_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    private static final long BACKPRESSURE_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(10);
+
     private final List<PcapHandle> nicHandleList;
     private final ExecutorService threadPool;
+    private final DuplicateFrameFilter duplicateFilter;
+    private final FlowStats flowStats;
+    private final CaptureConfig captureConfig;
+    private final FrameSink frameSink;
+    private final CaptureRing[] rings;
+    private final int decodeWorkers;
 
     /**
      * 프록시 생성자를 통해 외부에서 NIC 핸들 목록을 주입받아 인스턴스를 생성합니다.
      * <br>
      * 각 NIC에 대한 {@link PcapHandle} null값 검증 후 목록을 초기화하고,
-     * NIC 수에 따라 고정된 크기의 스레드 풀을 생성합니다.
+     * NIC별 캡처 링을 미리 할당한 뒤 캡처 스레드와 디코드 작업 스레드 수에 맞는 스레드 풀을 생성합니다.
      * @param handles NIC 핸들 목록
-     * @throws PcapNativeException 
+     * @param duplicateFilter NIC 간 중복 프레임 필터, 사용하지 않으면 {@code null}
+     * @param flowStats 흐름 통계, 사용하지 않으면 {@code null}
+     * @param captureConfig 캡처 링과 디코드 작업 스레드 설정
+     * @param frameSink 디코드된 프레임을 전달받을 하위 계층
      */
-    private Pcap4jAdapter(List<PcapHandle> handles) {
+    private Pcap4jAdapter(List<PcapHandle> handles, DuplicateFrameFilter duplicateFilter, FlowStats flowStats,
+                          CaptureConfig captureConfig, FrameSink frameSink) {
         this.nicHandleList = Objects.requireNonNull(handles, "NIC handles cannot be null");
-        this.threadPool = Executors.newFixedThreadPool(nicHandleList.size());
+        this.captureConfig = Objects.requireNonNull(captureConfig, "capture config cannot be null");
+        this.frameSink = Objects.requireNonNull(frameSink, "frame sink cannot be null");
+        this.decodeWorkers = Math.max(1, Math.min(captureConfig.decodeWorkers(), handles.size()));
+        this.duplicateFilter = duplicateFilter;
+        this.flowStats = flowStats;
+        if (flowStats != null && flowStats.stripes() < decodeWorkers)
+            throw new IllegalArgumentException("flow stats needs at least one stripe per decode worker");
+        this.rings = new CaptureRing[handles.size()];
+        for (int i = 0; i < rings.length; i++) {
+            rings[i] = new CaptureRing(i, captureConfig.ringSlots(), captureConfig.ringBytes());
+        }
+        this.threadPool = Executors.newFixedThreadPool(handles.size() + decodeWorkers);
     }
 
     /**
@@ -38,7 +88,8 @@ public class Pcap4jAdapter {
         private static final Pcap4jAdapter INSTANCE;
         static {
             try {
-                INSTANCE = new Pcap4jAdapter(NICUtils.createHandles());
+                INSTANCE = new Pcap4jAdapter(NICUtils.createHandles(), new DuplicateFrameFilter(), null,
+                        new CaptureConfig.Builder().build(), FrameSink.DISCARD);
             } catch (PcapNativeException e) {
                 System.err.println("Failed to create Pcap4jAdapter instance: " + e.getMessage());
                 throw new ExceptionInInitializerError(e);
@@ -61,21 +112,74 @@ public class Pcap4jAdapter {
      * @return 초기화된 {@link Pcap4jAdapter} 인스턴스
      */
     public static Pcap4jAdapter of(List<PcapHandle> handles) {
-        return new Pcap4jAdapter(handles);
+        return new Pcap4jAdapter(handles, null, null, new CaptureConfig.Builder().build(), FrameSink.DISCARD);
+    }
+
+    /**
+     * 팩토리 메서드를 통해 외부에서 NIC 핸들 목록과 중복 프레임 필터를 주입받아 인스턴스를 생성합니다.
+     * <br>
+     * 모든 NIC의 수신 스레드가 하나의 필터를 공유하므로, 여러 NIC에서 캡처된 같은 프레임은 한 번만 처리됩니다.
+     * @param handles NIC 핸들 목록
+     * @param duplicateFilter NIC 간 중복 프레임 필터
+     * @return 초기화된 {@link Pcap4jAdapter} 인스턴스
+     */
+    public static Pcap4jAdapter of(List<PcapHandle> handles, DuplicateFrameFilter duplicateFilter) {
+        return new Pcap4jAdapter(handles, Objects.requireNonNull(duplicateFilter, "duplicate filter cannot be null"), null,
+                new CaptureConfig.Builder().build(), FrameSink.DISCARD);
+    }
+
+    /**
+     * 팩토리 메서드를 통해 외부에서 NIC 핸들 목록, 중복 프레임 필터, 흐름 통계를 주입받아 인스턴스를 생성합니다.
+     * <br>
+     * 각 디코드 작업 스레드는 {@link FlowStats}의 구역(stripe)을 하나씩 전담하여 경합 없이 통계를 갱신합니다.
+     * @param handles NIC 핸들 목록
+     * @param duplicateFilter NIC 간 중복 프레임 필터, 사용하지 않으면 {@code null}
+     * @param flowStats 디코드 작업 스레드 수 이상의 구역을 가진 흐름 통계
+     * @return 초기화된 {@link Pcap4jAdapter} 인스턴스
+     */
+    public static Pcap4jAdapter of(List<PcapHandle> handles, DuplicateFrameFilter duplicateFilter, FlowStats flowStats) {
+        return new Pcap4jAdapter(handles, duplicateFilter, Objects.requireNonNull(flowStats, "flow stats cannot be null"),
+                new CaptureConfig.Builder().build(), FrameSink.DISCARD);
+    }
+
+    /**
+     * 팩토리 메서드를 통해 캡처 링 설정과 프레임을 전달받을 하위 계층까지 주입받아 인스턴스를 생성합니다.
+     * @param handles NIC 핸들 목록
+     * @param duplicateFilter NIC 간 중복 프레임 필터, 사용하지 않으면 {@code null}
+     * @param flowStats 디코드 작업 스레드 수 이상의 구역을 가진 흐름 통계, 사용하지 않으면 {@code null}
+     * @param captureConfig 캡처 링과 디코드 작업 스레드 설정
+     * @param frameSink 디코드된 프레임을 전달받을 하위 계층
+     * @return 초기화된 {@link Pcap4jAdapter} 인스턴스
+     */
+    public static Pcap4jAdapter of(List<PcapHandle> handles, DuplicateFrameFilter duplicateFilter, FlowStats flowStats,
+                                   CaptureConfig captureConfig, FrameSink frameSink) {
+        return new Pcap4jAdapter(handles, duplicateFilter, flowStats, captureConfig, frameSink);
     }
 
     /**
-     * 지정된 {@link PcapHandle}에서 패킷을 블로킹 방식으로 수신합니다.
+     * 지정된 {@link PcapHandle}에서 프레임을 블로킹 방식으로 수신하여 캡처 링에 복사합니다.
+     * <br>
+     * 캡처 스레드는 복사 외의 처리를 하지 않으며, 링이 가득 차면 기다리지 않고 프레임을 버립니다.
+     * 읽기 타임아웃은 정상 흐름으로 취급하고, 주기적으로 커널 통계를 조회하여 링에 기록합니다.
      * 
      * @param handle 패킷을 수신할 {@link PcapHandle}
+     * @param ring 프레임을 기록할 캡처 링
      */
-    private void receive(PcapHandle handle) {
+    private void capture(PcapHandle handle, CaptureRing ring) {
         try{
+            long nextStats = System.nanoTime();
             while(!Thread.currentThread().isInterrupted()) {
-                Packet packet = handle.getNextPacketEx(); //blocking method
-                if(packet != null) {
-                    packet.getRawData();
-                    //TODO: rawData 처리 로직 추가
+                byte[] frame = null;
+                try {
+                    frame = handle.getNextRawPacketEx(); //blocking method
+                } catch (TimeoutException e) {
+                    // 읽기 타임아웃 동안 수신된 프레임이 없음
+                }
+                long now = System.nanoTime();
+                if (frame != null) ring.offer(frame, 0, frame.length, now);
+                if (now - nextStats >= 0) {
+                    updateKernelStats(handle, ring);
+                    nextStats = now + KERNEL_STATS_INTERVAL_NANOS;
                 }
             }
         } catch (Exception e) {
@@ -87,16 +191,131 @@ public class Pcap4jAdapter {
         }
     }
 
+    /**
+     * libpcap 통계를 조회하여 캡처 링에 기록합니다. 통계를 지원하지 않는 핸들은 무시합니다.
+     */
+    private static void updateKernelStats(PcapHandle handle, CaptureRing ring) throws NotOpenException {
+        try {
+            PcapStat stat = handle.getStats();
+            if (stat != null) {
+                ring.kernelStats(stat.getNumPacketsReceived(), stat.getNumPacketsDropped(), stat.getNumPacketsDroppedByIf());
+            }
+        } catch (PcapNativeException e) {
+            // 통계를 지원하지 않는 플랫폼 또는 장치
+        }
+    }
+
+    /**
+     * {@code worker}번 디코드 작업 스레드가 맡은 캡처 링을 비우며 프레임을 처리합니다.
+     * <br>
+     * 캡처 링 {@code i}는 {@code i % decodeWorkers}번 작업 스레드가 전담하여 링마다 소비자가 하나로 유지됩니다.
+     * 흐름 통계가 설정된 경우 {@code worker}번 구역에 반영합니다.
+     * <br>
+     * 프레임 처리 중 발생한 예외는 기록만 하고, 해당 프레임을 건너뛴 뒤 다음 프레임부터 계속 처리합니다.
+     * 
+     * @param worker 디코드 작업 스레드 번호
+     */
+    private void decode(int worker) {
+        FlowStats.Recorder recorder = flowStats != null ? flowStats.recorder(worker) : null;
+        List<Decoder> decoders = new ArrayList<>();
+        for (int i = worker; i < rings.length; i += decodeWorkers) {
+            decoders.add(new Decoder(rings[i], nicHandleList.get(i).getDlt(), recorder));
+        }
+        try {
+            long nextExpire = System.nanoTime() + FLOW_EXPIRE_INTERVAL_NANOS;
+            while (!Thread.currentThread().isInterrupted()) {
+                int drained = 0;
+                boolean blocked = false;
+                for (Decoder decoder : decoders) {
+                    try {
+                        drained += decoder.ring.drain(decoder, captureConfig.drainBatch());
+                    } catch (RuntimeException e) {
+                        // 예외를 던진 프레임은 링에서 소비된 상태이므로 재시도하지 않는다
+                        log.error(
+                                LogTemplate.DOMAIN_TYPE_MESSAGE.pattern(),
+                                LogDomain.RUNTIME,
+                                "NIC " + decoder.ring.nic(),
+                                e.getMessage()
+                        );
+                        decoder.retrying = false;
+                        drained++;
+                    }
+                    blocked |= decoder.retrying;
+                }
+                long now = System.nanoTime();
+                if (recorder != null && now - nextExpire >= 0) {
+                    recorder.expire(now);
+                    nextExpire = now + FLOW_EXPIRE_INTERVAL_NANOS;
+                }
+                if (drained == 0) LockSupport.parkNanos(blocked ? BACKPRESSURE_PARK_NANOS : IDLE_PARK_NANOS);
+            }
+        } catch (Exception e) {
+            throw new RuntimeException("Error decoding captured frames: ", e);
+        } finally {
+            if (recorder != null) recorder.flush(System.nanoTime());
+        }
+    }
+
+    /**
+     * 캡처 링 하나에서 꺼낸 프레임을 검사하고 하위 계층으로 전달하는 처리기
+     * <br>
+     * 하위 계층이 프레임을 받지 못하면 같은 프레임이 다시 전달되므로,
+     * 중복 검사와 흐름 통계는 프레임마다 한 번만 수행합니다.
+     */
+    private final class Decoder implements CaptureRing.FrameHandler {
+        private final CaptureRing ring;
+        private final DataLinkType dlt;
+        private final FlowStats.Recorder recorder;
+        private boolean retrying;
+
+        private Decoder(CaptureRing ring, DataLinkType dlt, FlowStats.Recorder recorder) {
+            this.ring = ring;
+            this.dlt = dlt;
+            this.recorder = recorder;
+        }
+
+        @Override
+        public boolean onFrame(byte[] bytes, int offset, int length, long timestampNanos) {
+            if (!retrying) {
+                int end = offset + length;
+                int payload = DuplicateFrameFilter.payloadOffset(dlt, bytes, offset, end);
+                if (duplicateFilter != null && duplicateFilter.isDuplicate(bytes, payload, end, timestampNanos)) {
+                    return true;
+                }
+                if (recorder != null) recorder.record(bytes, payload, end, timestampNanos);
+            }
+            retrying = !frameSink.onFrame(ring.nic(), bytes, offset, length, timestampNanos);
+            return !retrying;
+        }
+    }
 
     /**
-     * 각 NIC에 대한 패킷 수신을 시작합니다.
+     * 각 NIC에 대한 캡처 스레드와 디코드 작업 스레드를 시작합니다.
      */
     public void run() {
-        for(PcapHandle handle : nicHandleList) {
-            threadPool.submit(() -> receive(handle));
+        for(int i = 0; i < nicHandleList.size(); i++) {
+            PcapHandle handle = nicHandleList.get(i);
+            CaptureRing ring = rings[i];
+            threadPool.submit(() -> capture(handle, ring));
+        }
+        for (int w = 0; w < decodeWorkers; w++) {
+            int worker = w;
+            threadPool.submit(() -> decode(worker));
         }
     }
 
+    /**
+     * NIC별 캡처 통계를 반환합니다.
+     * <br>
+     * 커널 손실({@link CaptureStats#kernelDropped()})과 캡처 링 손실({@link CaptureStats#ringDropped()})을 구분하여 제공합니다.
+     * @return NIC 순서대로 정렬된 통계 스냅샷
+     */
+    public List<CaptureStats> captureStats() {
+        List<CaptureStats> stats = new ArrayList<>(rings.length);
+        for (CaptureRing ring : rings) stats.add(ring.stats());
+        return stats;
+    }
+
     /**
      * 패킷 수신을 중지하고 리소스를 정리합니다.
      * TODO: shutdown hook 등록 해야됨
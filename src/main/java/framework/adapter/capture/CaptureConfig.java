@@ -0,0 +1,98 @@
+package framework.adapter.capture;
+
+/**
+ * 캡처 링과 디코드 작업 스레드 구성에 필요한 설정을 표현하는 설정 객체 <br>
+ *
+ * {@link framework.adapter.Pcap4jAdapter} 생성 시 불변 설정 값으로 사용된다.
+ * <p>기본 설정 값은 다음과 같다.</p>
+ *
+ * <table border="1">
+ *   <tr>
+ *     <th>항목</th>
+ *     <th>기본값</th>
+ *     <th>설명</th>
+ *   </tr>
+ *   <tr>
+ *     <td>{@code ringSlots}</td>
+ *     <td>{@code 4096}</td>
+ *     <td>NIC별 캡처 링이 보관할 수 있는 최대 프레임 수 (2의 거듭제곱)</td>
+ *   </tr>
+ *   <tr>
+ *     <td>{@code ringBytes}</td>
+ *     <td>{@code 4MB}</td>
+ *     <td>NIC별 캡처 링의 프레임 버퍼 크기</td>
+ *   </tr>
+ *   <tr>
+ *     <td>{@code decodeWorkers}</td>
+ *     <td>{@code 1}</td>
+ *     <td>캡처 링을 소비하는 디코드 작업 스레드 수, NIC 수보다 많으면 NIC 수로 제한된다</td>
+ *   </tr>
+ *   <tr>
+ *     <td>{@code drainBatch}</td>
+ *     <td>{@code 64}</td>
+ *     <td>링 하나에서 한 번에 꺼내는 최대 프레임 수</td>
+ *   </tr>
+ * </table>
+ */
+public final class CaptureConfig {
+
+    private final int ringSlots;
+    private final int ringBytes;
+    private final int decodeWorkers;
+    private final int drainBatch;
+
+    private CaptureConfig(Builder builder) {
+        this.ringSlots = builder.ringSlots;
+        this.ringBytes = builder.ringBytes;
+        this.decodeWorkers = builder.decodeWorkers;
+        this.drainBatch = builder.drainBatch;
+    }
+
+    public static class Builder {
+        private int ringSlots = 4096;
+        private int ringBytes = 4 * 1024 * 1024;
+        private int decodeWorkers = 1;
+        private int drainBatch = 64;
+
+        public Builder ringSlots(int ringSlots) {
+            this.ringSlots = ringSlots;
+            return this;
+        }
+
+        public Builder ringBytes(int ringBytes) {
+            this.ringBytes = ringBytes;
+            return this;
+        }
+
+        public Builder decodeWorkers(int decodeWorkers) {
+            this.decodeWorkers = decodeWorkers;
+            return this;
+        }
+
+        public Builder drainBatch(int drainBatch) {
+            this.drainBatch = drainBatch;
+            return this;
+        }
+
+        public CaptureConfig build() {
+            validate();
+            return new CaptureConfig(this);
+        }
+
+        private void validate() {
+            if (ringSlots <= 0 || Integer.bitCount(ringSlots) != 1)
+                throw new IllegalArgumentException("ringSlots must be a positive power of two");
+            if (ringBytes <= 0)
+                throw new IllegalArgumentException("ringBytes must be positive");
+            if (decodeWorkers <= 0)
+                throw new IllegalArgumentException("decodeWorkers must be positive");
+            if (drainBatch <= 0)
+                throw new IllegalArgumentException("drainBatch must be positive");
+        }
+    }
+
+    public int ringSlots() { return ringSlots; }
+    public int ringBytes() { return ringBytes; }
+    public int decodeWorkers() { return decodeWorkers; }
+    public int drainBatch() { return drainBatch; }
+}
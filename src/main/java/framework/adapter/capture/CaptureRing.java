@@ -0,0 +1,187 @@
+package framework.adapter.capture;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * NIC 하나의 캡처 스레드와 디코드 작업 스레드 사이의 단일 생산자/단일 소비자(SPSC) 링
+ *
+ * - 프레임 버퍼와 레코드 테이블을 생성 시 한 번만 할당하고, 캡처 스레드는 프레임을 버퍼에 복사하기만 한다
+ * - 가변 길이 프레임을 버퍼에 이어서 기록하며, 버퍼 끝에 들어가지 않는 프레임은 다음 바퀴의 처음에 기록한다
+ * - 링이 가득 차면 캡처 스레드는 기다리지 않고 프레임을 버려 커널 버퍼가 넘치지 않도록 한다
+ * - 소비자는 프레임을 복사하지 않고 버퍼 위치를 그대로 전달받으며, 처리를 마친 만큼만 공간을 반환한다
+ *
+ * <p>
+ * 생산자는 {@code tail}을, 소비자는 {@code head}와 {@code freed}를 release 쓰기로 공개하고
+ * 상대방 값은 acquire 읽기로 확인한다. 생산자는 소비자 위치를 캐시하여 링에 여유가 있는 동안
+ * 공유 변수를 읽지 않는다.
+ * <br>
+ * {@link #offer}는 캡처 스레드 하나, {@link #drain}은 디코드 작업 스레드 하나에서만 호출해야 한다.
+ */
+public final class CaptureRing {
+
+    /**
+     * 링에서 꺼낸 프레임을 처리하는 계약
+     */
+    @FunctionalInterface
+    public interface FrameHandler {
+
+        /**
+         * @return 처리했다면 {@code true}, 나중에 같은 프레임을 다시 받아야 하면 {@code false}
+         */
+        boolean onFrame(byte[] bytes, int offset, int length, long timestampNanos);
+    }
+
+    private final int nic;
+    private final byte[] buffer;
+    private final long[] starts;
+    private final int[] lengths;
+    private final long[] timestamps;
+    private final int mask;
+
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong freed = new AtomicLong();
+
+    // 생산자 전용
+    private long writePosition;
+    private long cachedHead;
+    private long cachedFreed;
+
+    // 단일 스레드만 갱신하고 다른 스레드는 통계 조회 시 읽기만 한다
+    private volatile long captured;
+    private volatile long dropped;
+    private volatile long delivered;
+    private volatile long kernelReceived = -1;
+    private volatile long kernelDropped = -1;
+    private volatile long interfaceDropped = -1;
+
+    /**
+     * @param nic   NIC 인덱스
+     * @param slots 보관할 수 있는 최대 프레임 수 (2의 거듭제곱)
+     * @param bytes 프레임 버퍼 크기
+     */
+    public CaptureRing(int nic, int slots, int bytes) {
+        if (slots <= 0 || Integer.bitCount(slots) != 1)
+            throw new IllegalArgumentException("slots must be a positive power of two");
+        if (bytes <= 0)
+            throw new IllegalArgumentException("bytes must be positive");
+        this.nic = nic;
+        this.buffer = new byte[bytes];
+        this.starts = new long[slots];
+        this.lengths = new int[slots];
+        this.timestamps = new long[slots];
+        this.mask = slots - 1;
+    }
+
+    /**
+     * 프레임을 링에 복사한다. 캡처 스레드 전용이다.
+     *
+     * @return 기록되었다면 {@code true}, 링이 가득 차 버려졌다면 {@code false}
+     */
+    public boolean offer(byte[] frame, int offset, int length, long timestampNanos) {
+        Objects.checkFromIndexSize(offset, length, frame.length);
+        if (length > buffer.length) {
+            dropped++;
+            return false;
+        }
+        long t = tail.getPlain();
+        long start = writePosition;
+        int position = (int) (start % buffer.length);
+        if (position + length > buffer.length) {
+            // 버퍼 끝의 남은 공간은 건너뛰고 다음 바퀴의 처음에 기록한다
+            start += buffer.length - position;
+            position = 0;
+        }
+        if (!hasRoom(t, start, length, cachedHead, cachedFreed)) {
+            cachedHead = head.getAcquire();
+            cachedFreed = freed.getAcquire();
+            if (!hasRoom(t, start, length, cachedHead, cachedFreed)) {
+                dropped++;
+                return false;
+            }
+        }
+
+        System.arraycopy(frame, offset, buffer, position, length);
+        int index = (int) t & mask;
+        starts[index] = start;
+        lengths[index] = length;
+        timestamps[index] = timestampNanos;
+        writePosition = start + length;
+        tail.setRelease(t + 1);
+        captured++;
+        return true;
+    }
+
+    /**
+     * 링에 쌓인 프레임을 순서대로 꺼내 처리한다. 디코드 작업 스레드 전용이다.
+     *
+     * - 처리기가 {@code false}를 반환하면 해당 프레임부터 링에 남겨 두고 즉시 반환한다
+     * - 처리기가 예외를 던지면 해당 프레임은 처리된 것으로 간주하고 예외를 전파한다
+     *
+     * @param handler   프레임 처리기
+     * @param maxFrames 최대 처리 프레임 수
+     * @return 처리한 프레임 수
+     */
+    public int drain(FrameHandler handler, int maxFrames) {
+        long h = head.getPlain();
+        long end = Math.min(tail.getAcquire(), h + maxFrames);
+        long consumed = h;
+        long release = 0;
+        try {
+            while (consumed < end) {
+                int index = (int) consumed & mask;
+                long start = starts[index];
+                int length = lengths[index];
+                boolean handled;
+                try {
+                    handled = handler.onFrame(buffer, (int) (start % buffer.length), length, timestamps[index]);
+                } catch (RuntimeException e) {
+                    release = start + length;
+                    consumed++;
+                    throw e;
+                }
+                if (!handled) break;
+                release = start + length;
+                consumed++;
+            }
+        } finally {
+            if (consumed != h) {
+                freed.setRelease(release);
+                head.setRelease(consumed);
+                delivered += consumed - h;
+            }
+        }
+        return (int) (consumed - h);
+    }
+
+    /**
+     * 커널 단계 통계를 기록한다. 캡처 스레드 전용이다.
+     */
+    public void kernelStats(long received, long dropped, long droppedByInterface) {
+        this.kernelReceived = received;
+        this.kernelDropped = dropped;
+        this.interfaceDropped = droppedByInterface;
+    }
+
+    /**
+     * 현재 통계 스냅샷을 반환한다. 어느 스레드에서든 호출할 수 있다.
+     */
+    public CaptureStats stats() {
+        return new CaptureStats(nic, captured, delivered, dropped, kernelReceived, kernelDropped, interfaceDropped);
+    }
+
+    /**
+     * 링에 남아 있는 프레임 수를 반환한다.
+     */
+    public int size() {
+        return (int) (tail.getAcquire() - head.getAcquire());
+    }
+
+    public int nic() { return nic; }
+    public int capacity() { return mask + 1; }
+
+    private boolean hasRoom(long t, long start, int length, long consumerHead, long consumerFreed) {
+        return t - consumerHead <= mask && start + length - consumerFreed <= buffer.length;
+    }
+}
@@ -0,0 +1,31 @@
+package framework.adapter.capture;
+
+/**
+ * NIC 하나의 캡처 통계 스냅샷
+ *
+ * - 커널(libpcap) 단계의 손실과 JVM(캡처 링) 단계의 손실을 구분하여 제공한다
+ * - 커널 통계는 캡처 스레드가 주기적으로 {@code pcap_stats}를 조회한 마지막 값이며, 조회 전이면 {@code -1}이다
+ *
+ * @param nic              NIC 인덱스
+ * @param captured         캡처 링에 기록된 프레임 수
+ * @param delivered        디코드 작업 스레드가 처리를 마친 프레임 수
+ * @param ringDropped      캡처 링이 가득 차 버려진 프레임 수 (JVM 손실)
+ * @param kernelReceived   커널이 수신한 패킷 수
+ * @param kernelDropped    커널 버퍼 부족으로 버려진 패킷 수 (커널 손실)
+ * @param interfaceDropped 인터페이스(드라이버)에서 버려진 패킷 수
+ */
+public record CaptureStats(
+        int nic,
+        long captured,
+        long delivered,
+        long ringDropped,
+        long kernelReceived,
+        long kernelDropped,
+        long interfaceDropped
+) {
+
+    /**
+     * 아직 디코드되지 않고 링에 남아 있는 프레임 수를 반환한다.
+     */
+    public long backlog() { return captured - delivered; }
+}
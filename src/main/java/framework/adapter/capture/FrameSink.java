@@ -0,0 +1,27 @@
+package framework.adapter.capture;
+
+/**
+ * 디코드 작업 스레드가 검사를 마친 캡처 프레임을 전달받는 계약
+ *
+ * - 전달된 배열은 {@link CaptureRing}의 버퍼이므로 호출 동안에만 유효하며, 보관하려면 복사해야 한다
+ * - 하위 계층 큐가 가득 차 받을 수 없다면 {@code false}를 반환한다.
+ *   프레임은 링에 남아 잠시 후 다시 전달되며, 그동안 밀린 프레임은 링 드롭으로 집계된다
+ */
+@FunctionalInterface
+public interface FrameSink {
+
+    /**
+     * 모든 프레임을 받아들이고 버리는 싱크
+     */
+    FrameSink DISCARD = (nic, bytes, offset, length, timestampNanos) -> true;
+
+    /**
+     * @param nic            프레임을 캡처한 NIC 인덱스
+     * @param bytes          프레임이 담긴 배열
+     * @param offset         프레임 시작 위치
+     * @param length         프레임 길이
+     * @param timestampNanos 캡처 시각 ({@link System#nanoTime()})
+     * @return 받아들였다면 {@code true}, 하위 계층이 가득 차 나중에 다시 받아야 하면 {@code false}
+     */
+    boolean onFrame(int nic, byte[] bytes, int offset, int length, long timestampNanos);
+}
@@ -0,0 +1,82 @@
+package framework.adapter.flow;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * 고정 메모리로 키별 누적값의 상한 추정치를 제공하는 count-min sketch
+ *
+ * - {@code depth}개의 행마다 서로 다른 해시로 카운터 하나를 골라 누적하고, 조회 시 최솟값을 사용한다
+ * - 추정치는 실제값 이상이며, 오차는 전체 누적값의 약 {@code e / width} 배 이내이다 (확률 {@code 1 - e^-depth})
+ * - 갱신은 소유 스레드 하나가 수행하고, 다른 스레드는 opaque 읽기로 근사값을 조회할 수 있다
+ */
+public final class CountMinSketch {
+
+    private static final VarHandle COUNTERS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private final long[] counters;
+    private final int depth;
+    private final int widthBits;
+    private final int mask;
+
+    /**
+     * @param depth 행 수
+     * @param width 행당 카운터 수 (2의 거듭제곱으로 올림)
+     */
+    public CountMinSketch(int depth, int width) {
+        if (depth <= 0 || width <= 0 || width > 1 << 26)
+            throw new IllegalArgumentException("depth must be positive and width in (0, 2^26]");
+        int size = Integer.highestOneBit(Math.max(2, width) * 2 - 1);
+        this.depth = depth;
+        this.widthBits = Integer.numberOfTrailingZeros(size);
+        this.mask = size - 1;
+        this.counters = new long[depth * size];
+    }
+
+    /**
+     * 키의 누적값을 증가시킨다.
+     *
+     * @param hash  키의 64비트 해시
+     * @param delta 증가량
+     */
+    public void add(long hash, long delta) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        for (int row = 0; row < depth; row++) {
+            int index = (row << widthBits) + ((h1 + row * h2) & mask);
+            COUNTERS.setOpaque(counters, index, counters[index] + delta);
+        }
+    }
+
+    /**
+     * 키의 누적값 추정치를 반환한다.
+     */
+    public long estimate(long hash) {
+        return estimate(new CountMinSketch[] { this }, hash);
+    }
+
+    /**
+     * 같은 크기의 여러 sketch를 하나로 합친 것으로 보고 추정치를 반환한다.
+     *
+     * - 행마다 카운터를 합산한 뒤 최솟값을 취하므로 개별 추정치의 합보다 정확하다
+     *
+     * @param sketches 같은 {@code depth}, {@code width}를 가진 sketch 배열
+     * @param hash     키의 64비트 해시
+     */
+    public static long estimate(CountMinSketch[] sketches, long hash) {
+        CountMinSketch shape = sketches[0];
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        long min = Long.MAX_VALUE;
+        for (int row = 0; row < shape.depth; row++) {
+            int index = (row << shape.widthBits) + ((h1 + row * h2) & shape.mask);
+            long sum = 0;
+            for (CountMinSketch sketch : sketches) sum += (long) COUNTERS.getOpaque(sketch.counters, index);
+            min = Math.min(min, sum);
+        }
+        return min;
+    }
+
+    public int depth() { return depth; }
+    public int width() { return mask + 1; }
+}
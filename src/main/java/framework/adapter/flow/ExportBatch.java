@@ -0,0 +1,44 @@
+package framework.adapter.flow;
+
+/**
+ * 만료된 흐름을 모아 {@link FlowExporter}로 배치 단위 전달하는 버퍼
+ *
+ * - 레코드 객체를 미리 할당해 두고 재사용한다
+ */
+final class ExportBatch {
+
+    private final FlowExporter exporter;
+    private final FlowRecord[] records;
+    private int count;
+    private long exported;
+
+    ExportBatch(FlowExporter exporter, int size) {
+        this.exporter = exporter;
+        this.records = new FlowRecord[size];
+        for (int i = 0; i < size; i++) records[i] = new FlowRecord();
+    }
+
+    void add(long k1, long k2, long packets, long bytes, long firstNanos, long lastNanos, FlowRecord.Reason reason) {
+        FlowRecord record = records[count++];
+        record.k1 = k1;
+        record.k2 = k2;
+        record.packets = packets;
+        record.bytes = bytes;
+        record.firstNanos = firstNanos;
+        record.lastNanos = lastNanos;
+        record.reason = reason;
+        if (count == records.length) flush();
+    }
+
+    void flush() {
+        if (count == 0) return;
+        int n = count;
+        count = 0;
+        exported += n;
+        exporter.export(records, n);
+    }
+
+    long exported() {
+        return exported;
+    }
+}
@@ -0,0 +1,160 @@
+package framework.adapter.flow;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link FlowStats} 동작에 필요한 설정을 표현하는 설정 객체 <br>
+ *
+ * 흐름 통계 생성 시 불변 설정 값으로 사용된다.
+ * <p>기본 설정 값은 다음과 같다.</p>
+ *
+ * <table border="1">
+ *   <tr>
+ *     <th>항목</th>
+ *     <th>기본값</th>
+ *     <th>설명</th>
+ *   </tr>
+ *   <tr>
+ *     <td>{@code stripes}</td>
+ *     <td>{@code 1}</td>
+ *     <td>독립적으로 갱신되는 구역 수 (캡처 스레드 수)</td>
+ *   </tr>
+ *   <tr>
+ *     <td>{@code flowCapacity}</td>
+ *     <td>{@code 65536}</td>
+ *     <td>구역 하나가 동시에 추적할 수 있는 최대 흐름 수</td>
+ *   </tr>
+ *   <tr>
+ *     <td>{@code idleTimeoutNanos}</td>
+ *     <td>{@code 15s}</td>
+ *     <td>패킷이 없는 흐름을 만료시키기까지의 시간</td>
+ *   </tr>
+ *   <tr>
+ *     <td>{@code activeTimeoutNanos}</td>
+ *     <td>{@code 60s}</td>
+ *     <td>계속 활성 상태인 흐름을 중간 보고하는 주기</td>
+ *   </tr>
+ *   <tr>
+ *     <td>{@code exportBatchSize}</td>
+ *     <td>{@code 64}</td>
+ *     <td>한 번에 내보내는 흐름 레코드 수</td>
+ *   </tr>
+ *   <tr>
+ *     <td>{@code sketchDepth}</td>
+ *     <td>{@code 4}</td>
+ *     <td>count-min sketch 행 수</td>
+ *   </tr>
+ *   <tr>
+ *     <td>{@code sketchWidth}</td>
+ *     <td>{@code 4096}</td>
+ *     <td>count-min sketch 행당 카운터 수</td>
+ *   </tr>
+ *   <tr>
+ *     <td>{@code topK}</td>
+ *     <td>{@code 32}</td>
+ *     <td>구역마다 추적하는 heavy hitter 수</td>
+ *   </tr>
+ * </table>
+ */
+public final class FlowConfig {
+
+    private final int stripes;
+    private final int flowCapacity;
+    private final long idleTimeoutNanos;
+    private final long activeTimeoutNanos;
+    private final int exportBatchSize;
+    private final int sketchDepth;
+    private final int sketchWidth;
+    private final int topK;
+
+    private FlowConfig(Builder builder) {
+        this.stripes = builder.stripes;
+        this.flowCapacity = builder.flowCapacity;
+        this.idleTimeoutNanos = builder.idleTimeoutNanos;
+        this.activeTimeoutNanos = builder.activeTimeoutNanos;
+        this.exportBatchSize = builder.exportBatchSize;
+        this.sketchDepth = builder.sketchDepth;
+        this.sketchWidth = builder.sketchWidth;
+        this.topK = builder.topK;
+    }
+
+    public static class Builder {
+        private int stripes = 1;
+        private int flowCapacity = 65536;
+        private long idleTimeoutNanos = TimeUnit.SECONDS.toNanos(15);
+        private long activeTimeoutNanos = TimeUnit.SECONDS.toNanos(60);
+        private int exportBatchSize = 64;
+        private int sketchDepth = 4;
+        private int sketchWidth = 4096;
+        private int topK = 32;
+
+        public Builder stripes(int stripes) {
+            this.stripes = stripes;
+            return this;
+        }
+
+        public Builder flowCapacity(int flowCapacity) {
+            this.flowCapacity = flowCapacity;
+            return this;
+        }
+
+        public Builder idleTimeoutNanos(long idleTimeoutNanos) {
+            this.idleTimeoutNanos = idleTimeoutNanos;
+            return this;
+        }
+
+        public Builder activeTimeoutNanos(long activeTimeoutNanos) {
+            this.activeTimeoutNanos = activeTimeoutNanos;
+            return this;
+        }
+
+        public Builder exportBatchSize(int exportBatchSize) {
+            this.exportBatchSize = exportBatchSize;
+            return this;
+        }
+
+        public Builder sketchDepth(int sketchDepth) {
+            this.sketchDepth = sketchDepth;
+            return this;
+        }
+
+        public Builder sketchWidth(int sketchWidth) {
+            this.sketchWidth = sketchWidth;
+            return this;
+        }
+
+        public Builder topK(int topK) {
+            this.topK = topK;
+            return this;
+        }
+
+        public FlowConfig build() {
+            validate();
+            return new FlowConfig(this);
+        }
+
+        private void validate() {
+            if (stripes <= 0)
+                throw new IllegalArgumentException("stripes must be positive");
+            if (flowCapacity <= 0 || flowCapacity > 1 << 28)
+                throw new IllegalArgumentException("flowCapacity must be in (0, 2^28]");
+            if (idleTimeoutNanos <= 0 || activeTimeoutNanos <= 0)
+                throw new IllegalArgumentException("timeouts must be positive");
+            if (exportBatchSize <= 0)
+                throw new IllegalArgumentException("exportBatchSize must be positive");
+            if (sketchDepth <= 0 || sketchWidth <= 0)
+                throw new IllegalArgumentException("sketch dimensions must be positive");
+            if (topK <= 0)
+                throw new IllegalArgumentException("topK must be positive");
+        }
+    }
+
+    public int stripes() { return stripes; }
+    public int flowCapacity() { return flowCapacity; }
+    public long idleTimeoutNanos() { return idleTimeoutNanos; }
+    public long activeTimeoutNanos() { return activeTimeoutNanos; }
+    public int exportBatchSize() { return exportBatchSize; }
+    public int sketchDepth() { return sketchDepth; }
+    public int sketchWidth() { return sketchWidth; }
+    public int topK() { return topK; }
+}
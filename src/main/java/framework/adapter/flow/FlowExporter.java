@@ -0,0 +1,16 @@
+package framework.adapter.flow;
+
+/**
+ * 만료된 흐름 레코드를 배치 단위로 전달받는 계약
+ *
+ * - 레코드를 소유한 캡처 스레드에서 호출되므로 오래 걸리는 작업은 다른 스레드로 넘겨야 한다
+ */
+@FunctionalInterface
+public interface FlowExporter {
+
+    /**
+     * @param records 재사용되는 레코드 배열
+     * @param count   유효한 레코드 수
+     */
+    void export(FlowRecord[] records, int count);
+}
@@ -0,0 +1,90 @@
+package framework.adapter.flow;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+/**
+ * 캡처된 프레임에서 흐름 키(5-tuple)를 추출하는 유틸리티 클래스입니다.
+ * <br>
+ * 흐름 키는 객체를 만들지 않고 두 개의 {@code long}으로 표현합니다.
+ * <ul>
+ *   <li>{@code k1} : 출발지 IPv4 주소(상위 32비트) | 목적지 IPv4 주소(하위 32비트)</li>
+ *   <li>{@code k2} : 프로토콜(비트 32-39) | 출발지 포트(비트 16-31) | 목적지 포트(비트 0-15)</li>
+ * </ul>
+ * 포트가 없는 프로토콜이나 첫 단편이 아닌 IPv4 단편은 포트를 0으로 둡니다.
+ */
+public final class FlowKeys {
+    /** 추출 결과 배열에서 IPv4 전체 길이가 기록되는 위치 */
+    public static final int IP_LENGTH = 2;
+
+    private static final int PROTOCOL_TCP = 6;
+    private static final int PROTOCOL_UDP = 17;
+    private static final int PROTOCOL_SCTP = 132;
+
+    private static final VarHandle SHORT_BE =
+            MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle INT_BE =
+            MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+
+    // Utility class, prevent instantiation
+    private FlowKeys() { }
+
+    /**
+     * IPv4 패킷에서 흐름 키를 추출합니다.
+     * <br>
+     * 배열의 {@code [offset, end)} 구간만 읽으므로, 여러 프레임을 담은 버퍼에서도 복사 없이 사용할 수 있습니다.
+     * @param frame  캡처된 프레임
+     * @param offset IPv4 헤더 시작 위치
+     * @param end    프레임 끝 위치 (배타적)
+     * @param out    {@code k1}, {@code k2}, IPv4 전체 길이를 기록할 길이 3 이상의 배열
+     * @return IPv4 패킷이어서 키가 추출되었다면 {@code true}
+     */
+    public static boolean extract(byte[] frame, int offset, int end, long[] out) {
+        if (offset < 0 || end > frame.length || end - offset < 20) return false;
+        int versionAndLength = frame[offset] & 0xFF;
+        int headerLength = (versionAndLength & 0x0F) * 4;
+        if (versionAndLength >>> 4 != 4 || headerLength < 20 || offset + headerLength > end) return false;
+
+        int protocol = frame[offset + 9] & 0xFF;
+        int srcIp = (int) INT_BE.get(frame, offset + 12);
+        int dstIp = (int) INT_BE.get(frame, offset + 16);
+        int ports = 0;
+        boolean firstFragment = ((short) SHORT_BE.get(frame, offset + 6) & 0x1FFF) == 0;
+        if (firstFragment && offset + headerLength + 4 <= end
+                && (protocol == PROTOCOL_TCP || protocol == PROTOCOL_UDP || protocol == PROTOCOL_SCTP)) {
+            ports = (int) INT_BE.get(frame, offset + headerLength);
+        }
+
+        out[0] = k1(srcIp, dstIp);
+        out[1] = k2(protocol, ports >>> 16, ports & 0xFFFF);
+        out[IP_LENGTH] = (short) SHORT_BE.get(frame, offset + 2) & 0xFFFF;
+        return true;
+    }
+
+    public static long k1(int srcIp, int dstIp) {
+        return ((long) srcIp << 32) | (dstIp & 0xFFFF_FFFFL);
+    }
+
+    public static long k2(int protocol, int srcPort, int dstPort) {
+        return ((long) (protocol & 0xFF) << 32) | ((long) (srcPort & 0xFFFF) << 16) | (dstPort & 0xFFFF);
+    }
+
+    public static int srcIp(long k1) { return (int) (k1 >>> 32); }
+    public static int dstIp(long k1) { return (int) k1; }
+    public static int protocol(long k2) { return (int) (k2 >>> 32) & 0xFF; }
+    public static int srcPort(long k2) { return (int) (k2 >>> 16) & 0xFFFF; }
+    public static int dstPort(long k2) { return (int) k2 & 0xFFFF; }
+
+    /**
+     * 흐름 키를 섞은 64비트 해시
+     */
+    static long hash(long k1, long k2) {
+        long h = k1 * 0x9E37_79B9_7F4A_7C15L + k2;
+        h ^= h >>> 33;
+        h *= 0xFF51_AFD7_ED55_8CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CE_B9FE_1A85_EC53L;
+        return h ^ (h >>> 33);
+    }
+}
@@ -0,0 +1,42 @@
+package framework.adapter.flow;
+
+/**
+ * 만료되어 내보내지는 흐름 하나의 누적 통계
+ *
+ * - 내보내기 배치마다 재사용되므로 {@link FlowExporter} 호출 이후에도 보관하려면 값을 복사해야 한다
+ */
+public final class FlowRecord {
+
+    /**
+     * 흐름 레코드를 내보낸 이유
+     */
+    public enum Reason {
+        /** 유휴 시간 초과로 흐름이 종료됨 */
+        IDLE,
+        /** 활성 흐름의 중간 보고, 흐름은 계속 추적된다 */
+        ACTIVE,
+        /** 명시적 flush 요청 */
+        FLUSH
+    }
+
+    long k1;
+    long k2;
+    long packets;
+    long bytes;
+    long firstNanos;
+    long lastNanos;
+    Reason reason;
+
+    FlowRecord() { }
+
+    public int srcIp() { return FlowKeys.srcIp(k1); }
+    public int dstIp() { return FlowKeys.dstIp(k1); }
+    public int protocol() { return FlowKeys.protocol(k2); }
+    public int srcPort() { return FlowKeys.srcPort(k2); }
+    public int dstPort() { return FlowKeys.dstPort(k2); }
+    public long packets() { return packets; }
+    public long bytes() { return bytes; }
+    public long firstNanos() { return firstNanos; }
+    public long lastNanos() { return lastNanos; }
+    public Reason reason() { return reason; }
+}
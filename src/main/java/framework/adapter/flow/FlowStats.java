@@ -0,0 +1,186 @@
+package framework.adapter.flow;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 캡처 경로에서 수집하는 NetFlow 방식의 흐름 통계
+ *
+ * - 패킷별 데이터를 저장하지 않고 흐름(5-tuple)별 패킷 / 바이트 카운터만 유지한다
+ * - 유휴 / 활성 시간 초과로 만료된 흐름은 {@link FlowExporter}로 배치 단위로 내보낸다
+ * - count-min sketch와 Space-Saving top-K로 고정 메모리 안에서 heavy hitter를 찾는다
+ *
+ * <p>
+ * 모든 상태는 캡처 스레드마다 하나씩 배정되는 {@link Recorder}(구역, stripe)에 나뉘어 있어
+ * 패킷 처리 경로에서 스레드 간 경합이 없다.
+ * 조회 메서드는 각 구역이 {@link Recorder#expire(long)} 시점에 공개한 top-K 스냅샷과
+ * sketch 카운터를 합산하므로 근사값을 반환한다.
+ */
+public final class FlowStats {
+
+    private final FlowConfig config;
+    private final Recorder[] recorders;
+    private final CountMinSketch[] sketches;
+
+    public FlowStats(FlowConfig config, FlowExporter exporter) {
+        this.config = Objects.requireNonNull(config, "config cannot be null");
+        Objects.requireNonNull(exporter, "exporter cannot be null");
+        this.recorders = new Recorder[config.stripes()];
+        this.sketches = new CountMinSketch[config.stripes()];
+        for (int i = 0; i < recorders.length; i++) {
+            recorders[i] = new Recorder(exporter);
+            sketches[i] = recorders[i].sketch;
+        }
+    }
+
+    /**
+     * 캡처 스레드에 배정할 구역을 반환한다.
+     *
+     * @param stripe 구역 번호 ({@code 0 <= stripe < stripes})
+     */
+    public Recorder recorder(int stripe) {
+        return recorders[stripe];
+    }
+
+    public int stripes() {
+        return recorders.length;
+    }
+
+    /**
+     * 모든 구역의 top-K 스냅샷을 합쳐 누적 바이트 수 상위 흐름을 반환한다.
+     *
+     * @param k 반환할 최대 흐름 수
+     */
+    public List<HeavyHitter> heavyHitters(int k) {
+        Map<Long, Map<Long, long[]>> merged = new HashMap<>();
+        for (Recorder recorder : recorders) {
+            for (HeavyHitter hitter : recorder.published) {
+                long[] sum = merged.computeIfAbsent(hitter.k1(), key -> new HashMap<>())
+                        .computeIfAbsent(hitter.k2(), key -> new long[2]);
+                sum[0] += hitter.bytes();
+                sum[1] += hitter.error();
+            }
+        }
+        List<HeavyHitter> result = new ArrayList<>();
+        merged.forEach((k1, byK2) -> byK2.forEach((k2, sum) -> result.add(new HeavyHitter(k1, k2, sum[0], sum[1]))));
+        result.sort((a, b) -> Long.compare(b.bytes(), a.bytes()));
+        return result.size() > k ? new ArrayList<>(result.subList(0, k)) : result;
+    }
+
+    /**
+     * count-min sketch로 추정한 흐름의 누적 바이트 수를 반환한다.
+     *
+     * - 실제값 이상인 추정치이며 만료와 무관하게 누적된다
+     */
+    public long estimateBytes(int srcIp, int dstIp, int protocol, int srcPort, int dstPort) {
+        long k1 = FlowKeys.k1(srcIp, dstIp);
+        long k2 = FlowKeys.k2(protocol, srcPort, dstPort);
+        return CountMinSketch.estimate(sketches, FlowKeys.hash(k1, k2));
+    }
+
+    /**
+     * 캡처 스레드 하나가 소유하는 흐름 통계 구역
+     *
+     * - 모든 메서드는 소유 스레드에서만 호출해야 한다
+     */
+    public final class Recorder {
+        private final FlowTable table = new FlowTable(config.flowCapacity());
+        private final CountMinSketch sketch = new CountMinSketch(config.sketchDepth(), config.sketchWidth());
+        private final SpaceSaving topK = new SpaceSaving(config.topK());
+        private final ExportBatch batch;
+        private final long[] key = new long[3];
+
+        private volatile HeavyHitter[] published = new HeavyHitter[0];
+        private volatile long packets;
+        private volatile long nonIpv4;
+
+        private Recorder(FlowExporter exporter) {
+            this.batch = new ExportBatch(exporter, config.exportBatchSize());
+        }
+
+        /**
+         * 캡처된 프레임 하나를 통계에 반영한다.
+         *
+         * @param frame    캡처된 프레임
+         * @param offset   IPv4 헤더 시작 위치 (링크 헤더 길이)
+         * @param end      프레임 끝 위치 (배타적)
+         * @param nowNanos 수신 시각
+         * @return IPv4 패킷이어서 반영되었다면 {@code true}
+         */
+        public boolean record(byte[] frame, int offset, int end, long nowNanos) {
+            if (!FlowKeys.extract(frame, offset, end, key)) {
+                nonIpv4++;
+                return false;
+            }
+            long k1 = key[0];
+            long k2 = key[1];
+            long bytes = key[FlowKeys.IP_LENGTH];
+            long hash = FlowKeys.hash(k1, k2);
+            table.add(k1, k2, hash, bytes, nowNanos);
+            sketch.add(hash, bytes);
+            topK.offer(k1, k2, hash, bytes);
+            packets++;
+            return true;
+        }
+
+        /**
+         * 시간 초과된 흐름을 내보내고 top-K 스냅샷을 공개한다.
+         *
+         * - 캡처 루프나 {@link framework.core.runtime.TimingWheel}에서 주기적으로(예: 1초) 호출한다
+         *
+         * @return 내보낸 흐름 레코드 수
+         */
+        public int expire(long nowNanos) {
+            int expired = table.expire(nowNanos, config.idleTimeoutNanos(), config.activeTimeoutNanos(), batch, false);
+            batch.flush();
+            published = topK.snapshot();
+            return expired;
+        }
+
+        /**
+         * 추적 중인 모든 흐름을 내보내고 제거한다.
+         *
+         * - 캡처 종료 시 호출한다
+         */
+        public int flush(long nowNanos) {
+            int expired = table.expire(nowNanos, 0, 0, batch, true);
+            batch.flush();
+            published = topK.snapshot();
+            return expired;
+        }
+
+        /**
+         * 현재 추적 중인 흐름 수를 반환한다.
+         */
+        public int activeFlows() { return table.size(); }
+
+        /**
+         * 테이블이 가득 차 흐름 단위로 추적하지 못한 패킷 수를 반환한다.
+         */
+        public long untracked() { return table.untracked(); }
+
+        /**
+         * 반영된 IPv4 패킷 수를 반환한다.
+         */
+        public long packets() { return packets; }
+
+        /**
+         * IPv4가 아니어서 무시된 프레임 수를 반환한다.
+         */
+        public long nonIpv4() { return nonIpv4; }
+
+        /**
+         * 내보낸 흐름 레코드 수를 반환한다.
+         */
+        public long exported() { return batch.exported(); }
+
+        /**
+         * 마지막으로 공개된 이 구역의 top-K 스냅샷을 반환한다.
+         */
+        public List<HeavyHitter> heavyHitters() { return Arrays.asList(published.clone()); }
+    }
+}
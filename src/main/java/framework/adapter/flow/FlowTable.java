@@ -0,0 +1,143 @@
+package framework.adapter.flow;
+
+/**
+ * 캡처 스레드 하나가 소유하는 흐름 카운터 테이블
+ *
+ * - 흐름 키와 카운터를 원시 배열에 저장하는 선형 탐사 기반 open addressing 구조이다
+ * - 추적 가능한 흐름 수가 고정되어 있으며, 가득 찬 상태에서 나타난 새 흐름은 추적하지 않고 계수만 한다
+ * - 만료 검사 시 유휴 흐름은 제거하고, 오래 지속된 흐름은 중간 보고 후 카운터를 초기화한다
+ *
+ * <p>
+ * 제거는 backward-shift 방식으로 수행하여 tombstone을 남기지 않는다.
+ * 동기화하지 않으므로 소유 스레드에서만 사용해야 한다.
+ */
+final class FlowTable {
+
+    private final long[] keys;
+    private final long[] packets;
+    private final long[] bytes;
+    private final long[] first;
+    private final long[] last;
+    private final boolean[] used;
+    private final int mask;
+    private final int maxFlows;
+
+    private int size;
+    private long untracked;
+
+    /**
+     * @param maxFlows 동시에 추적할 최대 흐름 수
+     */
+    FlowTable(int maxFlows) {
+        // 적재율을 50% 이하로 유지하여 탐사 길이를 짧게 한다
+        int capacity = Integer.highestOneBit(Math.max(2, maxFlows) * 2 - 1) << 1;
+        this.keys = new long[capacity * 2];
+        this.packets = new long[capacity];
+        this.bytes = new long[capacity];
+        this.first = new long[capacity];
+        this.last = new long[capacity];
+        this.used = new boolean[capacity];
+        this.mask = capacity - 1;
+        this.maxFlows = maxFlows;
+    }
+
+    /**
+     * 패킷 하나를 흐름에 반영한다.
+     *
+     * @return 흐름이 추적되었다면 {@code true}, 테이블이 가득 차 추적하지 못했다면 {@code false}
+     */
+    boolean add(long k1, long k2, long hash, long length, long nowNanos) {
+        int i = (int) hash & mask;
+        while (used[i]) {
+            if (keys[i << 1] == k1 && keys[(i << 1) + 1] == k2) {
+                packets[i]++;
+                bytes[i] += length;
+                last[i] = nowNanos;
+                return true;
+            }
+            i = (i + 1) & mask;
+        }
+        if (size == maxFlows) {
+            untracked++;
+            return false;
+        }
+        used[i] = true;
+        keys[i << 1] = k1;
+        keys[(i << 1) + 1] = k2;
+        packets[i] = 1;
+        bytes[i] = length;
+        first[i] = nowNanos;
+        last[i] = nowNanos;
+        size++;
+        return true;
+    }
+
+    /**
+     * 만료 조건을 만족하는 흐름을 내보낸다.
+     *
+     * @param nowNanos      현재 시각
+     * @param idleNanos     유휴 만료 시간
+     * @param activeNanos   활성 흐름 중간 보고 주기
+     * @param batch         레코드를 전달할 배치
+     * @param flushAll      {@code true}이면 모든 흐름을 내보내고 제거한다
+     * @return 내보낸 흐름 수
+     */
+    int expire(long nowNanos, long idleNanos, long activeNanos, ExportBatch batch, boolean flushAll) {
+        int expired = 0;
+        int i = 0;
+        while (i <= mask) {
+            if (!used[i]) {
+                i++;
+                continue;
+            }
+            long k1 = keys[i << 1];
+            long k2 = keys[(i << 1) + 1];
+            if (flushAll || nowNanos - last[i] >= idleNanos) {
+                batch.add(k1, k2, packets[i], bytes[i], first[i], last[i],
+                        flushAll ? FlowRecord.Reason.FLUSH : FlowRecord.Reason.IDLE);
+                delete(i);
+                expired++;
+                // 뒤의 항목이 현재 칸으로 당겨졌을 수 있으므로 같은 칸을 다시 검사한다
+                continue;
+            }
+            if (nowNanos - first[i] >= activeNanos) {
+                if (packets[i] > 0) {
+                    batch.add(k1, k2, packets[i], bytes[i], first[i], last[i], FlowRecord.Reason.ACTIVE);
+                    expired++;
+                }
+                packets[i] = 0;
+                bytes[i] = 0;
+                first[i] = nowNanos;
+            }
+            i++;
+        }
+        return expired;
+    }
+
+    int size() { return size; }
+    long untracked() { return untracked; }
+
+    private void delete(int hole) {
+        used[hole] = false;
+        size--;
+        // backward-shift : 뒤따르는 항목 중 원래 위치가 빈 칸 이전인 항목을 당겨 탐사 체인을 유지한다
+        int i = (hole + 1) & mask;
+        while (used[i]) {
+            long k1 = keys[i << 1];
+            long k2 = keys[(i << 1) + 1];
+            int home = (int) FlowKeys.hash(k1, k2) & mask;
+            if (((i - home) & mask) >= ((i - hole) & mask)) {
+                used[hole] = true;
+                keys[hole << 1] = k1;
+                keys[(hole << 1) + 1] = k2;
+                packets[hole] = packets[i];
+                bytes[hole] = bytes[i];
+                first[hole] = first[i];
+                last[hole] = last[i];
+                used[i] = false;
+                hole = i;
+            }
+            i = (i + 1) & mask;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package framework.adapter.flow;
+
+/**
+ * 누적 바이트 수가 큰 흐름(heavy hitter) 하나의 불변 스냅샷
+ *
+ * - {@code bytes}는 실제값 이상인 추정치이며, 실제값은 {@code bytes - error} 이상이다
+ */
+public final class HeavyHitter {
+
+    private final long k1;
+    private final long k2;
+    private final long bytes;
+    private final long error;
+
+    HeavyHitter(long k1, long k2, long bytes, long error) {
+        this.k1 = k1;
+        this.k2 = k2;
+        this.bytes = bytes;
+        this.error = error;
+    }
+
+    public int srcIp() { return FlowKeys.srcIp(k1); }
+    public int dstIp() { return FlowKeys.dstIp(k1); }
+    public int protocol() { return FlowKeys.protocol(k2); }
+    public int srcPort() { return FlowKeys.srcPort(k2); }
+    public int dstPort() { return FlowKeys.dstPort(k2); }
+    public long bytes() { return bytes; }
+    public long error() { return error; }
+
+    /**
+     * 실제 누적 바이트 수의 하한을 반환한다.
+     */
+    public long guaranteedBytes() { return bytes - error; }
+
+    long k1() { return k1; }
+    long k2() { return k2; }
+
+    @Override
+    public String toString() {
+        return String.format("%d.%d.%d.%d:%d -> %d.%d.%d.%d:%d/%d %d bytes (±%d)",
+                srcIp() >>> 24, srcIp() >>> 16 & 0xFF, srcIp() >>> 8 & 0xFF, srcIp() & 0xFF, srcPort(),
+                dstIp() >>> 24, dstIp() >>> 16 & 0xFF, dstIp() >>> 8 & 0xFF, dstIp() & 0xFF, dstPort(),
+                protocol(), bytes, error);
+    }
+}
@@ -0,0 +1,161 @@
+package framework.adapter.flow;
+
+import java.util.Arrays;
+
+/**
+ * 고정 메모리로 누적값 상위 K개 키를 추적하는 Space-Saving 알고리즘 구현
+ *
+ * - 최대 K개의 (키, 누적값, 오차) 카운터를 누적값 기준 최소 힙으로 유지한다
+ * - 추적 중이 아닌 키가 들어오면 누적값이 가장 작은 카운터를 넘겨받아 그 값을 오차로 기록한다
+ * - 키에서 힙 위치를 찾는 원시 해시 인덱스를 함께 유지하여 갱신은 O(log K)로 수행된다
+ * - 누적값이 전체 합의 1/K를 넘는 키는 반드시 추적된다
+ *
+ * <p>
+ * 동기화하지 않으므로 소유 스레드에서만 갱신해야 하며,
+ * 다른 스레드에는 {@link #snapshot()} 결과를 공개한다.
+ */
+public final class SpaceSaving {
+
+    private static final int EMPTY = -1;
+
+    // 최소 힙 : 위치 i의 키, 누적값, 오차와 해당 키의 인덱스 칸
+    private final long[] keys1;
+    private final long[] keys2;
+    private final long[] counts;
+    private final long[] errors;
+    private final int[] slotOf;
+    private int size;
+
+    // 해시 인덱스 : 칸마다 힙 위치를 저장한다
+    private final int[] index;
+    private final int indexMask;
+
+    /**
+     * @param k 추적할 최대 키 수
+     */
+    public SpaceSaving(int k) {
+        if (k <= 0)
+            throw new IllegalArgumentException("k must be positive");
+        this.keys1 = new long[k];
+        this.keys2 = new long[k];
+        this.counts = new long[k];
+        this.errors = new long[k];
+        this.slotOf = new int[k];
+        int indexSize = Integer.highestOneBit(k * 4 - 1) << 1;
+        this.index = new int[indexSize];
+        this.indexMask = indexSize - 1;
+        Arrays.fill(index, EMPTY);
+    }
+
+    /**
+     * 키의 누적값을 증가시킨다.
+     *
+     * @param k1     흐름 키 상위 값 ({@link FlowKeys})
+     * @param k2     흐름 키 하위 값 ({@link FlowKeys})
+     * @param weight 증가량
+     */
+    public void offer(long k1, long k2, long weight) {
+        offer(k1, k2, FlowKeys.hash(k1, k2), weight);
+    }
+
+    /**
+     * 이미 계산된 {@link FlowKeys#hash(long, long)} 값으로 키의 누적값을 증가시킨다.
+     */
+    void offer(long k1, long k2, long hash, long weight) {
+        int slot = (int) hash & indexMask;
+        while (index[slot] != EMPTY) {
+            int position = index[slot];
+            if (keys1[position] == k1 && keys2[position] == k2) {
+                counts[position] += weight;
+                siftDown(position);
+                return;
+            }
+            slot = (slot + 1) & indexMask;
+        }
+
+        if (size < counts.length) {
+            int position = size++;
+            keys1[position] = k1;
+            keys2[position] = k2;
+            counts[position] = weight;
+            errors[position] = 0;
+            slotOf[position] = slot;
+            index[slot] = position;
+            siftUp(position);
+            return;
+        }
+
+        // 누적값이 가장 작은 키를 대체한다 : 새 키의 누적값은 기존 최솟값 + weight, 오차는 기존 최솟값
+        removeFromIndex(slotOf[0]);
+        slot = (int) hash & indexMask;
+        while (index[slot] != EMPTY) slot = (slot + 1) & indexMask;
+        keys1[0] = k1;
+        keys2[0] = k2;
+        errors[0] = counts[0];
+        counts[0] += weight;
+        slotOf[0] = slot;
+        index[slot] = 0;
+        siftDown(0);
+    }
+
+    /**
+     * 추적 중인 키를 누적값 내림차순으로 복사한다.
+     */
+    public HeavyHitter[] snapshot() {
+        HeavyHitter[] result = new HeavyHitter[size];
+        for (int i = 0; i < size; i++) result[i] = new HeavyHitter(keys1[i], keys2[i], counts[i], errors[i]);
+        Arrays.sort(result, (a, b) -> Long.compare(b.bytes(), a.bytes()));
+        return result;
+    }
+
+    public int size() { return size; }
+
+    private void siftUp(int position) {
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (counts[parent] <= counts[position]) break;
+            swap(position, parent);
+            position = parent;
+        }
+    }
+
+    private void siftDown(int position) {
+        while (true) {
+            int child = position * 2 + 1;
+            if (child >= size) return;
+            if (child + 1 < size && counts[child + 1] < counts[child]) child++;
+            if (counts[position] <= counts[child]) return;
+            swap(position, child);
+            position = child;
+        }
+    }
+
+    private void swap(int a, int b) {
+        long k1 = keys1[a]; keys1[a] = keys1[b]; keys1[b] = k1;
+        long k2 = keys2[a]; keys2[a] = keys2[b]; keys2[b] = k2;
+        long count = counts[a]; counts[a] = counts[b]; counts[b] = count;
+        long error = errors[a]; errors[a] = errors[b]; errors[b] = error;
+        int slot = slotOf[a]; slotOf[a] = slotOf[b]; slotOf[b] = slot;
+        index[slotOf[a]] = a;
+        index[slotOf[b]] = b;
+    }
+
+    /**
+     * 인덱스 칸을 비우고 backward-shift로 탐사 체인을 유지한다.
+     */
+    private void removeFromIndex(int hole) {
+        index[hole] = EMPTY;
+        int i = (hole + 1) & indexMask;
+        while (index[i] != EMPTY) {
+            int position = index[i];
+            int home = (int) FlowKeys.hash(keys1[position], keys2[position]) & indexMask;
+            if (((i - home) & indexMask) >= ((i - hole) & indexMask)) {
+                index[hole] = position;
+                slotOf[position] = hole;
+                index[i] = EMPTY;
+                hole = i;
+            }
+            i = (i + 1) & indexMask;
+        }
+    }
+}
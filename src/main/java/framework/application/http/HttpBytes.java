@@ -0,0 +1,39 @@
+package framework.application.http;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * {@link HttpHandler}에 전달된 바이트 토큰을 다루는 유틸리티 클래스입니다.
+ * <br>
+ * 헤더 이름 비교처럼 자주 쓰이는 연산을 {@code String} 변환 없이 수행합니다.
+ */
+public final class HttpBytes {
+
+    // Utility class, prevent instantiation
+    private HttpBytes() { }
+
+    /**
+     * 바이트 토큰이 ASCII 문자열과 대소문자 구분 없이 같은지 비교합니다.
+     * @param ascii 비교할 문자열, ASCII 문자만 포함해야 합니다
+     */
+    public static boolean equalsIgnoreCase(byte[] buf, int offset, int length, String ascii) {
+        if (length != ascii.length()) return false;
+        for (int i = 0; i < length; i++) {
+            if (lower(buf[offset + i]) != lower((byte) ascii.charAt(i))) return false;
+        }
+        return true;
+    }
+
+    /**
+     * 바이트 토큰을 문자열로 변환합니다.
+     * <br>
+     * 할당이 발생하므로 로그나 디버깅 용도로만 사용합니다.
+     */
+    public static String toString(byte[] buf, int offset, int length) {
+        return new String(buf, offset, length, StandardCharsets.ISO_8859_1);
+    }
+
+    static int lower(byte b) {
+        return b >= 'A' && b <= 'Z' ? b + ('a' - 'A') : b;
+    }
+}
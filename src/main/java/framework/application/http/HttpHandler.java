@@ -0,0 +1,60 @@
+package framework.application.http;
+
+/**
+ * {@link HttpParser}가 해석한 메시지 구성 요소를 전달받는 콜백
+ *
+ * - 모든 토큰은 {@code String}이 아닌 (배열, 오프셋, 길이)로 전달된다
+ * - 전달된 배열은 호출자가 넘긴 원본 슬라이스이거나, 슬라이스 경계에 걸친 줄을 이어 붙인 파서 내부 버퍼이다
+ * - 어느 경우든 배열 내용은 콜백이 반환될 때까지만 유효하므로 보관이 필요하면 복사해야 한다
+ * - 필요한 콜백만 재정의할 수 있도록 모두 기본 구현을 제공한다
+ */
+public interface HttpHandler {
+
+    /**
+     * 요청 줄을 전달한다. ({@link HttpParser.Type#REQUEST})
+     *
+     * @param minorVersion HTTP/1.x 의 x
+     */
+    default void onRequestLine(byte[] buf, int methodOffset, int methodLength,
+                               int targetOffset, int targetLength, int minorVersion) { }
+
+    /**
+     * 상태 줄을 전달한다. ({@link HttpParser.Type#RESPONSE})
+     *
+     * @param minorVersion HTTP/1.x 의 x
+     */
+    default void onStatusLine(byte[] buf, int status, int reasonOffset, int reasonLength, int minorVersion) { }
+
+    /**
+     * 헤더 필드 하나를 전달한다.
+     *
+     * - 값의 앞뒤 공백(OWS)은 제외된다
+     */
+    default void onHeader(byte[] buf, int nameOffset, int nameLength, int valueOffset, int valueLength) { }
+
+    /**
+     * 헤더 섹션이 끝났음을 알린다.
+     *
+     * - HEAD 요청에 대한 응답처럼 헤더와 무관하게 본문이 없는 메시지라면 {@code true}를 반환한다
+     *
+     * @return 본문 없이 메시지를 완료해야 하면 {@code true}
+     */
+    default boolean onHeadersComplete() { return false; }
+
+    /**
+     * 본문 조각을 전달한다.
+     *
+     * - 청크 인코딩은 제거된 상태로 전달되며, 항상 원본 슬라이스를 가리킨다
+     */
+    default void onBody(byte[] buf, int offset, int length) { }
+
+    /**
+     * 청크 인코딩 메시지의 트레일러 필드 하나를 전달한다.
+     */
+    default void onTrailer(byte[] buf, int nameOffset, int nameLength, int valueOffset, int valueLength) { }
+
+    /**
+     * 메시지 하나가 완료되었음을 알린다.
+     */
+    default void onMessageComplete() { }
+}
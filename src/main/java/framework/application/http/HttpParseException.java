@@ -0,0 +1,23 @@
+package framework.application.http;
+
+import framework.core.exception.ExceptionAction;
+import framework.core.exception.LayerException;
+import framework.core.exception.LogLevel;
+
+/**
+ * HTTP/1.1 메시지 문법 위반 또는 파서 상한 초과 시 발생하는 예외
+ *
+ * - 해당 스트림의 이후 바이트는 더 이상 해석할 수 없으므로 스트림 단위로 폐기한다
+ */
+public class HttpParseException extends LayerException {
+
+    public HttpParseException(String message) {
+        super(message);
+    }
+
+    @Override
+    public LogLevel logLevel() { return LogLevel.WARN; }
+
+    @Override
+    public ExceptionAction action() { return ExceptionAction.DROP; }
+}
@@ -0,0 +1,439 @@
+package framework.application.http;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * TCP 스트림 하나에 대응하는 증분(incremental) HTTP/1.1 메시지 파서 (RFC 9112)
+ *
+ * - 전송 계층이 전달하는 바이트 슬라이스를 도착하는 대로 소비하고, 부분 수신 상태를 다음 호출까지 유지한다
+ * - 해석 결과는 {@link HttpHandler} 콜백으로 (배열, 오프셋, 길이) 형태로 전달되어 {@code String}을 만들지 않는다
+ * - 본문은 항상 원본 슬라이스를 그대로 가리키며 복사하지 않는다
+ * - 슬라이스 경계에 걸친 줄(시작 줄, 헤더, 청크 크기)만 내부 버퍼로 이어 붙인다
+ * - 한 슬라이스에 여러 메시지가 이어진 파이프라이닝을 지원한다
+ * - 본문 길이는 Transfer-Encoding: chunked, Content-Length, 연결 종료 순으로 결정한다 (RFC 9112 6.3)
+ *
+ * <p>
+ * 내부 버퍼는 경계에 걸친 줄이 처음 나타날 때 할당되고 최대 줄 길이까지만 커지므로
+ * 다수의 스트림을 동시에 해석해도 스트림당 상주 메모리가 작다.
+ * <br>
+ * 줄 접기(obs-fold)는 지원하지 않으며 문법 위반으로 처리한다.
+ * 스트림 하나는 하나의 스레드에서만 사용한다는 전제로 동기화하지 않는다.
+ */
+public final class HttpParser {
+
+    /**
+     * 해석할 메시지 종류
+     */
+    public enum Type { REQUEST, RESPONSE }
+
+    public static final int DEFAULT_MAX_LINE_LENGTH = 8 * 1024;
+    public static final int DEFAULT_MAX_HEADERS = 100;
+
+    private enum State {
+        START_LINE,
+        HEADER,
+        BODY_LENGTH,
+        BODY_UNTIL_CLOSE,
+        CHUNK_SIZE,
+        CHUNK_DATA,
+        CHUNK_DATA_END,
+        TRAILER,
+        ERROR
+    }
+
+    private static final byte CR = '\r';
+    private static final byte LF = '\n';
+    private static final byte SP = ' ';
+    private static final byte HT = '\t';
+    private static final int INITIAL_SCRATCH = 256;
+
+    private final Type type;
+    private final HttpHandler handler;
+    private final int maxLineLength;
+    private final int maxHeaders;
+
+    private State state = State.START_LINE;
+    private byte[] scratch;
+    private int scratchLength;
+
+    // 현재 메시지의 헤더 해석 결과
+    private int status;
+    private int headerCount;
+    private long contentLength;
+    private boolean transferEncoding;
+    private boolean chunked;
+    private long remaining;
+
+    private long messages;
+
+    public HttpParser(Type type, HttpHandler handler) {
+        this(type, handler, DEFAULT_MAX_LINE_LENGTH, DEFAULT_MAX_HEADERS);
+    }
+
+    /**
+     * @param type          해석할 메시지 종류
+     * @param handler       해석 결과를 전달받을 콜백
+     * @param maxLineLength 시작 줄, 헤더 줄, 청크 크기 줄의 최대 길이(바이트)
+     * @param maxHeaders    메시지 하나에 허용하는 최대 헤더(트레일러 포함) 수
+     */
+    public HttpParser(Type type, HttpHandler handler, int maxLineLength, int maxHeaders) {
+        this.type = Objects.requireNonNull(type, "type cannot be null");
+        this.handler = Objects.requireNonNull(handler, "handler cannot be null");
+        if (maxLineLength <= 0)
+            throw new IllegalArgumentException("maxLineLength must be positive");
+        if (maxHeaders <= 0)
+            throw new IllegalArgumentException("maxHeaders must be positive");
+        this.maxLineLength = maxLineLength;
+        this.maxHeaders = maxHeaders;
+    }
+
+    /**
+     * 스트림에서 이어지는 바이트 슬라이스를 해석한다.
+     *
+     * - 슬라이스의 모든 바이트를 소비하며, 완료되지 않은 줄은 다음 호출로 이어진다
+     * - 콜백에 전달된 본문 조각은 이 슬라이스를 가리키므로 콜백 안에서만 유효하다
+     *
+     * @throws HttpParseException 문법 위반이나 상한 초과 시, 이후 호출도 모두 실패한다
+     */
+    public void parse(byte[] bytes, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        if (state == State.ERROR)
+            throw new HttpParseException("parser is in error state");
+        int pos = offset;
+        int end = offset + length;
+        try {
+            while (pos < end) {
+                pos = switch (state) {
+                    case BODY_LENGTH -> body(bytes, pos, end);
+                    case BODY_UNTIL_CLOSE -> {
+                        handler.onBody(bytes, pos, end - pos);
+                        yield end;
+                    }
+                    case CHUNK_DATA -> chunkData(bytes, pos, end);
+                    default -> line(bytes, pos, end);
+                };
+            }
+        } catch (HttpParseException e) {
+            state = State.ERROR;
+            throw e;
+        }
+    }
+
+    /**
+     * 스트림이 종료되었음을 알린다.
+     *
+     * - 길이 정보 없이 연결 종료로 끝나는 응답 본문은 이 시점에 완료된다
+     *
+     * @throws HttpParseException 메시지가 도중에 끊긴 경우
+     */
+    public void finish() {
+        if (state == State.BODY_UNTIL_CLOSE) {
+            complete();
+            return;
+        }
+        if (state != State.START_LINE || scratchLength != 0) {
+            state = State.ERROR;
+            throw new HttpParseException("stream ended in the middle of a message");
+        }
+    }
+
+    /**
+     * 파서를 초기 상태로 되돌린다. 오류 상태에서도 다시 사용할 수 있게 된다.
+     */
+    public void reset() {
+        state = State.START_LINE;
+        scratchLength = 0;
+    }
+
+    /**
+     * 지금까지 완료된 메시지 수를 반환한다.
+     */
+    public long messages() { return messages; }
+
+    /**
+     * 메시지 경계에 있어 다음 메시지를 기다리는 중인지 반환한다.
+     */
+    public boolean isIdle() { return state == State.START_LINE && scratchLength == 0; }
+
+    public Type type() { return type; }
+
+    private int body(byte[] bytes, int pos, int end) {
+        int n = (int) Math.min(remaining, end - pos);
+        handler.onBody(bytes, pos, n);
+        remaining -= n;
+        if (remaining == 0) complete();
+        return pos + n;
+    }
+
+    private int chunkData(byte[] bytes, int pos, int end) {
+        int n = (int) Math.min(remaining, end - pos);
+        handler.onBody(bytes, pos, n);
+        remaining -= n;
+        if (remaining == 0) state = State.CHUNK_DATA_END;
+        return pos + n;
+    }
+
+    /**
+     * 줄 단위 상태에서 LF까지 소비한다.
+     *
+     * - 줄 전체가 슬라이스 안에 있으면 복사 없이 원본에서 해석한다
+     * - 슬라이스 끝까지 LF가 없으면 남은 바이트를 내부 버퍼에 이어 붙인다
+     */
+    private int line(byte[] bytes, int pos, int end) {
+        int lf = indexOf(bytes, pos, end, LF);
+        if (lf < 0) {
+            append(bytes, pos, end - pos);
+            return end;
+        }
+        if (scratchLength == 0) {
+            if (lf - pos > maxLineLength)
+                throw new HttpParseException("line exceeds " + maxLineLength + " bytes");
+            onLine(bytes, pos, stripCr(bytes, pos, lf));
+        } else {
+            append(bytes, pos, lf - pos);
+            int length = scratchLength;
+            scratchLength = 0;
+            onLine(scratch, 0, stripCr(scratch, 0, length));
+        }
+        return lf + 1;
+    }
+
+    private void onLine(byte[] buf, int start, int end) {
+        switch (state) {
+            case START_LINE -> {
+                // 메시지 앞의 빈 줄은 무시한다 (RFC 9112 2.2)
+                if (start == end) return;
+                beginMessage();
+                if (type == Type.REQUEST) requestLine(buf, start, end);
+                else statusLine(buf, start, end);
+                state = State.HEADER;
+            }
+            case HEADER -> {
+                if (start == end) headersComplete();
+                else field(buf, start, end, false);
+            }
+            case CHUNK_SIZE -> chunkSize(buf, start, end);
+            case CHUNK_DATA_END -> {
+                if (start != end)
+                    throw new HttpParseException("missing CRLF after chunk data");
+                state = State.CHUNK_SIZE;
+            }
+            case TRAILER -> {
+                if (start == end) complete();
+                else field(buf, start, end, true);
+            }
+            default -> throw new IllegalStateException("unexpected state: " + state);
+        }
+    }
+
+    private void beginMessage() {
+        status = 0;
+        headerCount = 0;
+        contentLength = -1;
+        transferEncoding = false;
+        chunked = false;
+        remaining = 0;
+    }
+
+    private void requestLine(byte[] buf, int start, int end) {
+        int sp1 = indexOf(buf, start, end, SP);
+        if (sp1 <= start)
+            throw new HttpParseException("malformed request line");
+        for (int i = start; i < sp1; i++) {
+            if (!isTokenChar(buf[i]))
+                throw new HttpParseException("invalid method");
+        }
+        int sp2 = indexOf(buf, sp1 + 1, end, SP);
+        if (sp2 <= sp1 + 1)
+            throw new HttpParseException("malformed request line");
+        int minor = version(buf, sp2 + 1, end);
+        handler.onRequestLine(buf, start, sp1 - start, sp1 + 1, sp2 - sp1 - 1, minor);
+    }
+
+    private void statusLine(byte[] buf, int start, int end) {
+        // HTTP/1.x SP 3DIGIT [SP reason]
+        if (end - start < 12 || buf[start + 8] != SP)
+            throw new HttpParseException("malformed status line");
+        int minor = version(buf, start, start + 8);
+        int code = 0;
+        for (int i = start + 9; i < start + 12; i++) {
+            if (!isDigit(buf[i]))
+                throw new HttpParseException("malformed status code");
+            code = code * 10 + (buf[i] - '0');
+        }
+        if (end > start + 12 && buf[start + 12] != SP)
+            throw new HttpParseException("malformed status line");
+        int reason = Math.min(start + 13, end);
+        status = code;
+        handler.onStatusLine(buf, code, reason, end - reason, minor);
+    }
+
+    private static int version(byte[] buf, int start, int end) {
+        if (end - start != 8
+                || buf[start] != 'H' || buf[start + 1] != 'T' || buf[start + 2] != 'T' || buf[start + 3] != 'P'
+                || buf[start + 4] != '/' || buf[start + 5] != '1' || buf[start + 6] != '.'
+                || !isDigit(buf[start + 7]))
+            throw new HttpParseException("unsupported HTTP version");
+        return buf[start + 7] - '0';
+    }
+
+    private void field(byte[] buf, int start, int end, boolean trailer) {
+        if (buf[start] == SP || buf[start] == HT)
+            throw new HttpParseException("obsolete line folding is not supported");
+        if (++headerCount > maxHeaders)
+            throw new HttpParseException("more than " + maxHeaders + " header fields");
+        int colon = indexOf(buf, start, end, (byte) ':');
+        if (colon <= start)
+            throw new HttpParseException("malformed header field");
+        for (int i = start; i < colon; i++) {
+            if (!isTokenChar(buf[i]))
+                throw new HttpParseException("invalid header field name");
+        }
+        int valueStart = colon + 1;
+        int valueEnd = end;
+        while (valueStart < valueEnd && isWhitespace(buf[valueStart])) valueStart++;
+        while (valueEnd > valueStart && isWhitespace(buf[valueEnd - 1])) valueEnd--;
+
+        if (trailer) {
+            handler.onTrailer(buf, start, colon - start, valueStart, valueEnd - valueStart);
+            return;
+        }
+        framing(buf, start, colon - start, valueStart, valueEnd);
+        handler.onHeader(buf, start, colon - start, valueStart, valueEnd - valueStart);
+    }
+
+    /**
+     * 본문 길이 결정에 필요한 헤더를 해석한다.
+     */
+    private void framing(byte[] buf, int name, int nameLength, int valueStart, int valueEnd) {
+        if (HttpBytes.equalsIgnoreCase(buf, name, nameLength, "content-length")) {
+            long value = decimal(buf, valueStart, valueEnd);
+            if (contentLength >= 0 && contentLength != value)
+                throw new HttpParseException("conflicting Content-Length");
+            contentLength = value;
+        } else if (HttpBytes.equalsIgnoreCase(buf, name, nameLength, "transfer-encoding")) {
+            // 마지막 전송 코딩이 chunked인지만 본다
+            int coding = valueEnd;
+            while (coding > valueStart && buf[coding - 1] != ',') coding--;
+            while (coding < valueEnd && isWhitespace(buf[coding])) coding++;
+            transferEncoding = true;
+            chunked = HttpBytes.equalsIgnoreCase(buf, coding, valueEnd - coding, "chunked");
+        }
+    }
+
+    private void headersComplete() {
+        boolean bodyless = handler.onHeadersComplete();
+        if (type == Type.RESPONSE && (status / 100 == 1 || status == 204 || status == 304)) bodyless = true;
+        if (bodyless) {
+            complete();
+            return;
+        }
+        if (transferEncoding) {
+            if (chunked) {
+                state = State.CHUNK_SIZE;
+                return;
+            }
+            // 요청은 연결 종료로 본문 끝을 알릴 수 없다 (RFC 9112 6.3)
+            if (type == Type.REQUEST)
+                throw new HttpParseException("request transfer coding is not chunked");
+            state = State.BODY_UNTIL_CLOSE;
+            return;
+        }
+        if (contentLength > 0) {
+            remaining = contentLength;
+            state = State.BODY_LENGTH;
+        } else if (contentLength == 0 || type == Type.REQUEST) {
+            complete();
+        } else {
+            state = State.BODY_UNTIL_CLOSE;
+        }
+    }
+
+    private void chunkSize(byte[] buf, int start, int end) {
+        long size = 0;
+        int i = start;
+        while (i < end) {
+            int digit = Character.digit(buf[i], 16);
+            if (digit < 0) break;
+            if (i - start == 15)
+                throw new HttpParseException("chunk size too large");
+            size = (size << 4) | digit;
+            i++;
+        }
+        if (i == start)
+            throw new HttpParseException("malformed chunk size");
+        // 청크 확장(chunk-ext)은 무시한다
+        while (i < end && isWhitespace(buf[i])) i++;
+        if (i < end && buf[i] != ';')
+            throw new HttpParseException("malformed chunk size");
+
+        if (size == 0) {
+            state = State.TRAILER;
+        } else {
+            remaining = size;
+            state = State.CHUNK_DATA;
+        }
+    }
+
+    private void complete() {
+        state = State.START_LINE;
+        messages++;
+        handler.onMessageComplete();
+    }
+
+    private void append(byte[] bytes, int offset, int length) {
+        int required = scratchLength + length;
+        if (required > maxLineLength)
+            throw new HttpParseException("line exceeds " + maxLineLength + " bytes");
+        if (scratch == null) {
+            scratch = new byte[Math.min(maxLineLength, Math.max(INITIAL_SCRATCH, required))];
+        } else if (required > scratch.length) {
+            scratch = Arrays.copyOf(scratch, Math.min(maxLineLength, Math.max(scratch.length * 2, required)));
+        }
+        System.arraycopy(bytes, offset, scratch, scratchLength, length);
+        scratchLength = required;
+    }
+
+    private static long decimal(byte[] buf, int start, int end) {
+        if (start == end || end - start > 18)
+            throw new HttpParseException("invalid Content-Length");
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            if (!isDigit(buf[i]))
+                throw new HttpParseException("invalid Content-Length");
+            value = value * 10 + (buf[i] - '0');
+        }
+        return value;
+    }
+
+    private static int stripCr(byte[] buf, int start, int lf) {
+        return lf > start && buf[lf - 1] == CR ? lf - 1 : lf;
+    }
+
+    private static int indexOf(byte[] buf, int from, int to, byte b) {
+        for (int i = from; i < to; i++) {
+            if (buf[i] == b) return i;
+        }
+        return -1;
+    }
+
+    private static boolean isDigit(byte b) {
+        return b >= '0' && b <= '9';
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == SP || b == HT;
+    }
+
+    /**
+     * RFC 9110 5.6.2 tchar
+     */
+    private static boolean isTokenChar(byte b) {
+        if (b >= 'a' && b <= 'z' || b >= 'A' && b <= 'Z' || isDigit(b)) return true;
+        return switch (b) {
+            case '!', '#', '$', '%', '&', '\'', '*', '+', '-', '.', '^', '_', '`', '|', '~' -> true;
+            default -> false;
+        };
+    }
+}
@@ -0,0 +1,111 @@
+package framework.application.socket;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 바이트 배열의 일부 구간을 가리키는 참조 카운트 기반 슬라이스
+ *
+ * - 수신 시 전송 계층이 보유한 버퍼를 복사하지 않고 빌려주는 단위로 사용된다
+ * - 송신 시 애플리케이션이 여러 슬라이스를 연결(chain)하여 전달하는 단위로 사용된다
+ * - 참조 카운트가 0이 되면 {@link Recycler}가 호출되어 버퍼가 소유자에게 반환된다
+ *
+ * <p>
+ * 슬라이스를 받은 쪽은 사용을 마치면 반드시 {@link #release()}를 호출해야 하며,
+ * 더 오래 보관해야 하는 쪽은 {@link #retain()}으로 참조를 추가한다.
+ * 참조가 남아 있는 동안 배열 내용을 변경해서는 안 된다.
+ */
+public final class BufferSlice {
+
+    /**
+     * 참조가 모두 해제된 슬라이스의 버퍼를 회수하는 계약
+     */
+    @FunctionalInterface
+    public interface Recycler {
+        void recycle(BufferSlice slice);
+    }
+
+    private static final Recycler NONE = slice -> { };
+
+    private final byte[] bytes;
+    private final int offset;
+    private final int length;
+    private final Recycler recycler;
+    private final AtomicInteger refs = new AtomicInteger(1);
+
+    private BufferSlice(byte[] bytes, int offset, int length, Recycler recycler) {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        this.bytes = bytes;
+        this.offset = offset;
+        this.length = length;
+        this.recycler = Objects.requireNonNull(recycler, "recycler cannot be null");
+    }
+
+    /**
+     * 회수 동작이 없는 슬라이스를 만든다. 애플리케이션이 송신할 데이터를 감쌀 때 사용한다.
+     */
+    public static BufferSlice wrap(byte[] bytes) {
+        return new BufferSlice(bytes, 0, bytes.length, NONE);
+    }
+
+    public static BufferSlice wrap(byte[] bytes, int offset, int length) {
+        return new BufferSlice(bytes, offset, length, NONE);
+    }
+
+    /**
+     * 참조가 모두 해제되면 {@code recycler}가 호출되는 슬라이스를 만든다. 전송 계층이 수신 버퍼를 빌려줄 때 사용한다.
+     */
+    public static BufferSlice borrow(byte[] bytes, int offset, int length, Recycler recycler) {
+        return new BufferSlice(bytes, offset, length, recycler);
+    }
+
+    public byte[] array() { return bytes; }
+    public int offset() { return offset; }
+    public int length() { return length; }
+
+    /**
+     * 슬라이스 기준 {@code index} 위치의 바이트를 반환한다.
+     */
+    public byte get(int index) {
+        Objects.checkIndex(index, length);
+        return bytes[offset + index];
+    }
+
+    /**
+     * 슬라이스 내용을 지정된 배열에 복사한다.
+     */
+    public void copyTo(byte[] destination, int destinationOffset) {
+        System.arraycopy(bytes, offset, destination, destinationOffset, length);
+    }
+
+    /**
+     * 참조를 하나 추가한다.
+     *
+     * @throws IllegalStateException 이미 해제된 슬라이스인 경우
+     */
+    public BufferSlice retain() {
+        while (true) {
+            int current = refs.get();
+            if (current <= 0)
+                throw new IllegalStateException("slice already released");
+            if (refs.compareAndSet(current, current + 1)) return this;
+        }
+    }
+
+    /**
+     * 참조를 하나 해제하고, 마지막 참조였다면 버퍼를 회수한다.
+     *
+     * @throws IllegalStateException 이미 해제된 슬라이스인 경우
+     */
+    public void release() {
+        int remaining = refs.decrementAndGet();
+        if (remaining == 0) {
+            recycler.recycle(this);
+        } else if (remaining < 0) {
+            refs.incrementAndGet();
+            throw new IllegalStateException("slice already released");
+        }
+    }
+
+    public int refCount() { return refs.get(); }
+}
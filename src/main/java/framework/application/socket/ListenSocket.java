@@ -0,0 +1,67 @@
+package framework.application.socket;
+
+import java.util.ArrayDeque;
+
+/**
+ * 로컬 포트에서 연결을 수락하는 소켓
+ *
+ * - 전송 계층이 수립한 연결은 {@link #accept()}로 꺼낼 때까지 대기열에 보관된다
+ */
+public final class ListenSocket extends SelectableSocket {
+
+    private final int localPort;
+
+    // selector.lock 으로 보호된다
+    final ArrayDeque<StreamSocket> pending = new ArrayDeque<>();
+
+    ListenSocket(SocketSelector selector, int localPort) {
+        super(selector, OP_ACCEPT);
+        this.localPort = localPort;
+    }
+
+    @Override
+    public int validOps() { return OP_ACCEPT; }
+
+    @Override
+    int currentOps() {
+        return pending.isEmpty() ? 0 : OP_ACCEPT;
+    }
+
+    /**
+     * 수립된 연결 하나를 꺼낸다.
+     *
+     * @return 수락된 소켓, 대기 중인 연결이 없으면 {@code null}
+     */
+    public StreamSocket accept() {
+        selector.lock.lock();
+        try {
+            StreamSocket socket = pending.pollFirst();
+            selector.signal(this);
+            return socket;
+        } finally {
+            selector.lock.unlock();
+        }
+    }
+
+    public int localPort() { return localPort; }
+
+    /**
+     * 수락을 중단하고 아직 꺼내지 않은 연결을 모두 닫는다.
+     */
+    @Override
+    public void close() {
+        StreamSocket[] abandoned;
+        selector.lock.lock();
+        try {
+            if (closed) return;
+            closed = true;
+            selector.listeners.remove(localPort);
+            abandoned = pending.toArray(new StreamSocket[0]);
+            pending.clear();
+        } finally {
+            selector.lock.unlock();
+        }
+        selector.transport.unlisten(localPort);
+        for (StreamSocket socket : abandoned) socket.close();
+    }
+}
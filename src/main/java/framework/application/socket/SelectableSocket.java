@@ -0,0 +1,103 @@
+package framework.application.socket;
+
+/**
+ * {@link SocketSelector}에 등록되어 준비 상태를 통지받는 소켓의 공통 타입
+ *
+ * - 관심 동작(interest ops)과 준비 동작(ready ops)은 {@code java.nio.channels.SelectionKey}와 같은 비트 값을 사용한다
+ * - 준비 상태는 셀렉터 잠금 아래에서 계산되며, {@link SocketSelector#select}가 보고한 시점의 값을 {@link #readyOps()}로 제공한다
+ */
+public abstract class SelectableSocket {
+
+    public static final int OP_READ = 1;
+    public static final int OP_WRITE = 1 << 2;
+    public static final int OP_ACCEPT = 1 << 4;
+
+    final SocketSelector selector;
+
+    // 아래 필드는 selector.lock 으로 보호된다
+    int interestOps;
+    boolean queued;
+    boolean closed;
+
+    // select를 호출한 애플리케이션 스레드만 접근한다
+    int readyOps;
+
+    private volatile Object attachment;
+
+    SelectableSocket(SocketSelector selector, int interestOps) {
+        this.selector = selector;
+        this.interestOps = interestOps;
+    }
+
+    /**
+     * 소켓이 지원하는 동작 집합을 반환한다.
+     */
+    public abstract int validOps();
+
+    /**
+     * 현재 상태에서 수행 가능한 동작 집합을 계산한다. 셀렉터 잠금을 보유한 상태에서 호출된다.
+     */
+    abstract int currentOps();
+
+    /**
+     * 소켓을 닫는다. 이미 닫힌 경우 아무 것도 하지 않는다.
+     */
+    public abstract void close();
+
+    public int interestOps() {
+        selector.lock.lock();
+        try {
+            return interestOps;
+        } finally {
+            selector.lock.unlock();
+        }
+    }
+
+    /**
+     * 관심 동작을 변경한다. 변경된 관심 동작이 이미 준비되어 있으면 다음 select에서 보고된다.
+     *
+     * @throws IllegalArgumentException 지원하지 않는 동작이 포함된 경우
+     */
+    public void interestOps(int ops) {
+        if ((ops & ~validOps()) != 0)
+            throw new IllegalArgumentException("unsupported interest ops: " + ops);
+        selector.lock.lock();
+        try {
+            interestOps = ops;
+            selector.signal(this);
+        } finally {
+            selector.lock.unlock();
+        }
+    }
+
+    /**
+     * 마지막 select에서 보고된 준비 동작 집합을 반환한다.
+     */
+    public int readyOps() { return readyOps; }
+
+    public boolean isReadable() { return (readyOps & OP_READ) != 0; }
+    public boolean isWritable() { return (readyOps & OP_WRITE) != 0; }
+    public boolean isAcceptable() { return (readyOps & OP_ACCEPT) != 0; }
+
+    public boolean isClosed() {
+        selector.lock.lock();
+        try {
+            return closed;
+        } finally {
+            selector.lock.unlock();
+        }
+    }
+
+    /**
+     * 애플리케이션 객체(연결별 상태 등)를 연결한다.
+     *
+     * @return 이전에 연결된 객체
+     */
+    public Object attach(Object attachment) {
+        Object previous = this.attachment;
+        this.attachment = attachment;
+        return previous;
+    }
+
+    public Object attachment() { return attachment; }
+}
@@ -0,0 +1,273 @@
+package framework.application.socket;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 전송 계층 위에서 동작하는 논블로킹 소켓 API의 진입점
+ *
+ * - {@link #listen(int)} / {@link #connect(int, int)}로 소켓을 만들고, {@link #select}로 준비된 소켓을 받는다
+ * - 애플리케이션 스레드 하나가 select 루프로 다수의 연결을 처리하는 모델을 전제로 한다
+ * - {@link TransportEvents}를 구현하여 전송 계층 스레드로부터 연결 이벤트와 수신 데이터를 받는다
+ *
+ * <p>
+ * 준비 상태가 새로 생기거나, 애플리케이션이 소켓을 호출한 뒤에도 관심 동작이 준비되어 있으면
+ * 해당 소켓을 준비 대기열에 한 번만 넣는다. 대기열 구성과 소켓 상태는 셀렉터 잠금 하나로 보호된다.
+ * <br>
+ * {@link TransportPort#listen}, {@link TransportPort#connect}는 셀렉터 잠금을 보유한 상태로 호출되어
+ * 식별자 등록 전에 도착한 이벤트를 놓치지 않는다. 전송 계층은 이 호출 안에서 이벤트를 동기적으로
+ * 통지할 수 있으나, 이벤트 통지 도중 다른 스레드의 {@link TransportPort} 호출 완료를 기다려서는 안 된다.
+ */
+public final class SocketSelector implements TransportEvents {
+
+    final TransportPort transport;
+    final ReentrantLock lock = new ReentrantLock();
+    private final Condition readyCondition = lock.newCondition();
+
+    // 아래 필드는 lock 으로 보호된다
+    private final ArrayDeque<SelectableSocket> ready = new ArrayDeque<>();
+    final Map<Long, StreamSocket> connections = new HashMap<>();
+    final Map<Integer, ListenSocket> listeners = new HashMap<>();
+    private boolean wakeup;
+    private boolean closed;
+
+    public SocketSelector(TransportPort transport) {
+        this.transport = Objects.requireNonNull(transport, "transport cannot be null");
+    }
+
+    /**
+     * 로컬 포트에서 연결 수락을 시작한다.
+     *
+     * @throws IllegalStateException 이미 수락 중인 포트이거나 셀렉터가 닫힌 경우
+     */
+    public ListenSocket listen(int localPort) {
+        if (localPort < 0 || localPort > 0xFFFF)
+            throw new IllegalArgumentException("port out of range: " + localPort);
+        lock.lock();
+        try {
+            ensureOpen();
+            if (listeners.containsKey(localPort))
+                throw new IllegalStateException("port " + localPort + " is already listening");
+            ListenSocket socket = new ListenSocket(this, localPort);
+            listeners.put(localPort, socket);
+            try {
+                transport.listen(localPort, this);
+            } catch (RuntimeException e) {
+                listeners.remove(localPort);
+                throw e;
+            }
+            return socket;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 원격 주소로 연결을 시작한다.
+     *
+     * - 연결이 수립되면 반환된 소켓의 {@link SelectableSocket#OP_WRITE}가 준비된다
+     */
+    public StreamSocket connect(int remoteAddress, int remotePort) {
+        if (remotePort < 0 || remotePort > 0xFFFF)
+            throw new IllegalArgumentException("port out of range: " + remotePort);
+        lock.lock();
+        try {
+            ensureOpen();
+            long connectionId = transport.connect(remoteAddress, remotePort, this);
+            StreamSocket socket = connections.get(connectionId);
+            if (socket == null) {
+                socket = new StreamSocket(this, connectionId, false);
+                connections.put(connectionId, socket);
+            }
+            socket.interestOps = SelectableSocket.OP_WRITE;
+            signal(socket);
+            return socket;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 관심 동작이 준비된 소켓을 기다려 {@code out}에 채운다.
+     *
+     * - 객체를 할당하지 않는다
+     * - {@code out}에 다 담지 못한 소켓은 다음 호출에서 보고된다
+     *
+     * @param out          준비된 소켓을 채울 배열
+     * @param timeoutNanos 최대 대기 시간, 0이면 대기하지 않고 음수면 무기한 대기한다
+     * @return 채워진 소켓 수, 시간 초과나 {@link #wakeup()} 시 0일 수 있다
+     */
+    public int select(SelectableSocket[] out, long timeoutNanos) throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            long remaining = timeoutNanos;
+            while (ready.isEmpty() && !wakeup && !closed && timeoutNanos != 0) {
+                if (timeoutNanos < 0) {
+                    readyCondition.await();
+                } else {
+                    if (remaining <= 0) break;
+                    remaining = readyCondition.awaitNanos(remaining);
+                }
+            }
+            wakeup = false;
+
+            int n = 0;
+            while (n < out.length && !ready.isEmpty()) {
+                SelectableSocket socket = ready.pollFirst();
+                socket.queued = false;
+                int ops = socket.interestOps & socket.currentOps();
+                if (ops == 0 || socket.closed) continue;
+                socket.readyOps = ops;
+                out[n++] = socket;
+            }
+            return n;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 대기하지 않고 준비된 소켓을 채운다.
+     */
+    public int selectNow(SelectableSocket[] out) {
+        try {
+            return select(out, 0);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return 0;
+        }
+    }
+
+    /**
+     * 대기 중인 {@link #select} 호출을 즉시 반환시킨다.
+     */
+    public void wakeup() {
+        lock.lock();
+        try {
+            wakeup = true;
+            readyCondition.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 셀렉터와 등록된 모든 소켓을 닫는다.
+     */
+    public void close() {
+        List<SelectableSocket> sockets;
+        lock.lock();
+        try {
+            if (closed) return;
+            closed = true;
+            sockets = new ArrayList<>(listeners.values());
+            sockets.addAll(connections.values());
+            ready.clear();
+            readyCondition.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        for (SelectableSocket socket : sockets) socket.close();
+    }
+
+    @Override
+    public void onAccepted(int localPort, long connectionId) {
+        boolean rejected;
+        lock.lock();
+        try {
+            ListenSocket listener = listeners.get(localPort);
+            rejected = closed || listener == null;
+            if (!rejected) {
+                StreamSocket socket = new StreamSocket(this, connectionId, true);
+                connections.put(connectionId, socket);
+                listener.pending.addLast(socket);
+                signal(listener);
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (rejected) transport.close(connectionId);
+    }
+
+    @Override
+    public void onConnected(long connectionId) {
+        lock.lock();
+        try {
+            StreamSocket socket = connections.get(connectionId);
+            if (socket == null) {
+                // connect 호출 안에서 동기적으로 수립된 경우
+                socket = new StreamSocket(this, connectionId, true);
+                connections.put(connectionId, socket);
+            }
+            socket.connected = true;
+            signal(socket);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void onData(long connectionId, BufferSlice slice) {
+        lock.lock();
+        try {
+            StreamSocket socket = connections.get(connectionId);
+            if (socket != null) {
+                socket.enqueue(slice);
+                signal(socket);
+                return;
+            }
+        } finally {
+            lock.unlock();
+        }
+        // 이미 닫힌 연결의 데이터는 즉시 반환한다
+        slice.release();
+    }
+
+    @Override
+    public void onWritable(long connectionId) {
+        lock.lock();
+        try {
+            StreamSocket socket = connections.get(connectionId);
+            if (socket == null) return;
+            socket.writable();
+            signal(socket);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void onClosed(long connectionId) {
+        lock.lock();
+        try {
+            StreamSocket socket = connections.get(connectionId);
+            if (socket == null) return;
+            socket.peerClosed = true;
+            signal(socket);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 관심 동작이 준비된 소켓을 준비 대기열에 넣는다. 잠금을 보유한 상태에서 호출된다.
+     */
+    void signal(SelectableSocket socket) {
+        if (socket.queued || socket.closed || closed) return;
+        if ((socket.interestOps & socket.currentOps()) == 0) return;
+        socket.queued = true;
+        ready.addLast(socket);
+        readyCondition.signal();
+    }
+
+    private void ensureOpen() {
+        if (closed)
+            throw new IllegalStateException("selector is closed");
+    }
+}
@@ -0,0 +1,194 @@
+package framework.application.socket;
+
+import java.util.ArrayDeque;
+import java.util.Objects;
+
+/**
+ * 전송 계층 연결 하나에 대응하는 스트림 소켓
+ *
+ * - {@link #read()}는 전송 계층의 수신 버퍼를 복사하지 않고 {@link BufferSlice}로 빌려준다
+ * - {@link #write(BufferSlice[], int, int)}는 슬라이스 체인을 한 번에 전달하여 gather 쓰기를 한다
+ * - 모든 호출은 블로킹하지 않으며, 준비 상태는 {@link SocketSelector}로 통지된다
+ *
+ * <p>
+ * 연결이 수립되면 {@link #OP_WRITE}가 준비되므로, 연결 완료는 쓰기 가능 통지로 확인한다.
+ * 상대방이 송신 방향을 닫으면 남은 데이터를 모두 읽은 뒤에도 {@link #OP_READ}가 준비 상태로 남고
+ * {@link #isEndOfStream()}이 {@code true}가 된다.
+ */
+public final class StreamSocket extends SelectableSocket {
+
+    private final long connectionId;
+
+    // 아래 필드는 selector.lock 으로 보호된다
+    private final ArrayDeque<BufferSlice> inbound = new ArrayDeque<>();
+    private long available;
+    boolean connected;
+    boolean peerClosed;
+    private boolean outputShutdown;
+    private boolean writeBlocked;
+    private long writableEvents;
+
+    StreamSocket(SocketSelector selector, long connectionId, boolean connected) {
+        super(selector, OP_READ);
+        this.connectionId = connectionId;
+        this.connected = connected;
+    }
+
+    @Override
+    public int validOps() { return OP_READ | OP_WRITE; }
+
+    @Override
+    int currentOps() {
+        int ops = 0;
+        if (!inbound.isEmpty() || peerClosed) ops |= OP_READ;
+        if (connected && !writeBlocked && !outputShutdown) ops |= OP_WRITE;
+        return ops;
+    }
+
+    /**
+     * 수신된 다음 슬라이스를 빌린다.
+     *
+     * - 반환된 슬라이스는 사용 후 반드시 {@link BufferSlice#release()}로 반환해야 한다
+     *
+     * @return 수신 슬라이스, 읽을 데이터가 없으면 {@code null}
+     * @throws IllegalStateException 닫힌 소켓인 경우
+     */
+    public BufferSlice read() {
+        selector.lock.lock();
+        try {
+            if (closed)
+                throw new IllegalStateException("socket is closed");
+            BufferSlice slice = inbound.pollFirst();
+            if (slice != null) available -= slice.length();
+            selector.signal(this);
+            return slice;
+        } finally {
+            selector.lock.unlock();
+        }
+    }
+
+    /**
+     * 슬라이스 체인을 송신 버퍼가 허용하는 만큼 전달한다.
+     *
+     * - 일부만 전달되었다면 송신 버퍼에 여유가 생길 때까지 {@link #OP_WRITE}가 준비되지 않는다
+     * - 슬라이스의 소유권은 호출자에게 남으며, 전송 계층은 필요한 만큼 참조를 추가하여 보관한다
+     *
+     * @return 전달된 바이트 수
+     * @throws IllegalStateException 연결되지 않았거나 닫힌 소켓인 경우
+     */
+    public long write(BufferSlice[] chain, int offset, int count) {
+        Objects.checkFromIndexSize(offset, count, chain.length);
+        long generation;
+        selector.lock.lock();
+        try {
+            if (closed || outputShutdown)
+                throw new IllegalStateException("socket is closed for writing");
+            if (!connected)
+                throw new IllegalStateException("socket is not connected");
+            generation = writableEvents;
+        } finally {
+            selector.lock.unlock();
+        }
+
+        long requested = 0;
+        for (int i = offset; i < offset + count; i++) requested += chain[i].length();
+        long accepted = selector.transport.write(connectionId, chain, offset, count);
+
+        selector.lock.lock();
+        try {
+            // 전달 도중 도착한 쓰기 가능 통지를 잃지 않도록 세대를 비교한다
+            if (accepted < requested && writableEvents == generation) writeBlocked = true;
+            selector.signal(this);
+        } finally {
+            selector.lock.unlock();
+        }
+        return accepted;
+    }
+
+    /**
+     * 송신 방향을 닫는다. 수신은 계속할 수 있다.
+     */
+    public void shutdownOutput() {
+        selector.lock.lock();
+        try {
+            if (closed || outputShutdown) return;
+            outputShutdown = true;
+        } finally {
+            selector.lock.unlock();
+        }
+        selector.transport.shutdownOutput(connectionId);
+    }
+
+    /**
+     * 연결을 닫고 읽지 않은 수신 슬라이스를 모두 반환한다.
+     */
+    @Override
+    public void close() {
+        BufferSlice[] unread;
+        selector.lock.lock();
+        try {
+            if (closed) return;
+            closed = true;
+            selector.connections.remove(connectionId);
+            unread = inbound.toArray(new BufferSlice[0]);
+            inbound.clear();
+            available = 0;
+        } finally {
+            selector.lock.unlock();
+        }
+        // 회수 동작이 전송 계층을 호출할 수 있으므로 잠금 밖에서 반환한다
+        for (BufferSlice slice : unread) slice.release();
+        selector.transport.close(connectionId);
+    }
+
+    /**
+     * 상대방이 송신을 마쳤고 남은 수신 데이터도 없는지 반환한다.
+     */
+    public boolean isEndOfStream() {
+        selector.lock.lock();
+        try {
+            return peerClosed && inbound.isEmpty();
+        } finally {
+            selector.lock.unlock();
+        }
+    }
+
+    /**
+     * 읽지 않은 수신 바이트 수를 반환한다.
+     */
+    public long available() {
+        selector.lock.lock();
+        try {
+            return available;
+        } finally {
+            selector.lock.unlock();
+        }
+    }
+
+    public boolean isConnected() {
+        selector.lock.lock();
+        try {
+            return connected;
+        } finally {
+            selector.lock.unlock();
+        }
+    }
+
+    public long connectionId() { return connectionId; }
+
+    /**
+     * 전송 계층이 전달한 수신 슬라이스를 보관한다. 셀렉터 잠금을 보유한 상태에서 호출된다.
+     */
+    void enqueue(BufferSlice slice) {
+        inbound.addLast(slice);
+        available += slice.length();
+    }
+
+    /**
+     * 송신 버퍼 여유 통지를 반영한다. 셀렉터 잠금을 보유한 상태에서 호출된다.
+     */
+    void writable() {
+        writableEvents++;
+        writeBlocked = false;
+    }
+}
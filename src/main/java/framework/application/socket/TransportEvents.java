@@ -0,0 +1,36 @@
+package framework.application.socket;
+
+/**
+ * 전송 계층이 소켓 API로 통지하는 연결 이벤트의 계약
+ *
+ * - {@link SocketSelector}가 구현하며 전송 계층 스레드에서 호출된다
+ */
+public interface TransportEvents {
+
+    /**
+     * 수락 대기 중인 포트로 새 연결이 수립되었다.
+     */
+    void onAccepted(int localPort, long connectionId);
+
+    /**
+     * {@link TransportPort#connect}로 시작한 연결이 수립되었다.
+     */
+    void onConnected(long connectionId);
+
+    /**
+     * 순서대로 이어진 수신 데이터를 전달한다.
+     *
+     * - 슬라이스의 참조 하나가 소켓 API로 넘어오며, 애플리케이션이 해제한다
+     */
+    void onData(long connectionId, BufferSlice slice);
+
+    /**
+     * 송신 버퍼에 여유가 생겼다.
+     */
+    void onWritable(long connectionId);
+
+    /**
+     * 상대방이 송신 방향을 닫았거나 연결이 종료되었다.
+     */
+    void onClosed(long connectionId);
+}
@@ -0,0 +1,50 @@
+package framework.application.socket;
+
+/**
+ * 소켓 API가 전송 계층에 요청하는 동작의 계약
+ *
+ * - 전송 계층(TCP 구현)이 구현하며, {@link SocketSelector}가 호출한다
+ * - 연결은 전송 계층이 부여한 {@code long} 식별자로 구분한다
+ * - 연결 상태 변화와 수신 데이터는 {@link TransportEvents}로 통지해야 한다
+ */
+public interface TransportPort {
+
+    /**
+     * 로컬 포트에서 연결 수락을 시작한다.
+     *
+     * @throws IllegalStateException 이미 사용 중인 포트인 경우
+     */
+    void listen(int localPort, TransportEvents events);
+
+    /**
+     * 로컬 포트의 연결 수락을 중단한다.
+     */
+    void unlisten(int localPort);
+
+    /**
+     * 원격 주소로 연결을 시작한다. 연결이 수립되면 {@link TransportEvents#onConnected(long)}를 호출한다.
+     *
+     * @return 새 연결의 식별자
+     */
+    long connect(int remoteAddress, int remotePort, TransportEvents events);
+
+    /**
+     * 슬라이스 체인의 앞부분부터 송신 버퍼가 허용하는 만큼 받아들인다.
+     *
+     * - 받아들인 구간을 재전송 등을 위해 보관하려면 {@link BufferSlice#retain()}으로 참조를 추가해야 한다
+     * - 요청보다 적게 받아들였다면 여유가 생겼을 때 {@link TransportEvents#onWritable(long)}를 호출해야 한다
+     *
+     * @return 받아들인 바이트 수
+     */
+    long write(long connectionId, BufferSlice[] chain, int offset, int count);
+
+    /**
+     * 송신 방향을 닫는다. (FIN)
+     */
+    void shutdownOutput(long connectionId);
+
+    /**
+     * 연결을 닫고 관련 자원을 해제한다.
+     */
+    void close(long connectionId);
+}
@@ -0,0 +1,22 @@
+package framework.core.data.header.layout;
+
+/**
+ * Ethernet II 헤더(14바이트) 레이아웃
+ *
+ * - MAC 주소는 하위 48비트를 사용하는 {@code long}으로 다룬다
+ */
+public final class EthernetLayout {
+
+    public static final HeaderLayout LAYOUT = new HeaderLayout.Builder("Ethernet", 14)
+            .field("destination", 0, 48)
+            .field("source", 48, 48)
+            .field("etherType", 96, 16)
+            .build();
+
+    public static final HeaderField DESTINATION = LAYOUT.field("destination");
+    public static final HeaderField SOURCE = LAYOUT.field("source");
+    public static final HeaderField ETHER_TYPE = LAYOUT.field("etherType");
+
+    // Utility class, prevent instantiation
+    private EthernetLayout() { }
+}
@@ -0,0 +1,160 @@
+package framework.core.data.header.layout;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+/**
+ * {@link HeaderField} 구현체 모음
+ *
+ * - 필드 모양(폭, 정렬, 바이트 순서)마다 전용 구현을 두어 접근 경로에 분기가 남지 않도록 한다
+ * - VarHandle은 {@code static final} 상수로 두고, 위치 / shift / mask는 record 필드로 보관한다
+ *   (record 필드는 JIT이 상수로 신뢰하므로 {@code static final} 접근자를 통한 호출은 상수 연산으로 접힌다)
+ */
+final class FieldAccessors {
+
+    private static final VarHandle SHORT_BE =
+            MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle SHORT_LE =
+            MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle INT_BE =
+            MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle INT_LE =
+            MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle LONG_BE =
+            MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle LONG_LE =
+            MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    // Utility class, prevent instantiation
+    private FieldAccessors() { }
+
+    /**
+     * 필드 모양에 맞는 접근자를 만든다.
+     *
+     * @param container 비트 필드를 감쌀 단위의 헤더 기준 바이트 위치 (바이트 정렬 필드는 무시)
+     */
+    static HeaderField create(String name, int bitOffset, int bitWidth, ByteOrder order, int container) {
+        boolean bigEndian = order == ByteOrder.BIG_ENDIAN;
+        int offset = bitOffset >>> 3;
+        if ((bitOffset & 7) == 0) {
+            switch (bitWidth) {
+                case 8: return new U8(name, bitOffset, offset);
+                case 16: return bigEndian ? new U16BE(name, bitOffset, offset) : new U16LE(name, bitOffset, offset);
+                case 32: return bigEndian ? new U32BE(name, bitOffset, offset) : new U32LE(name, bitOffset, offset);
+                case 64: return bigEndian ? new U64BE(name, bitOffset, offset) : new U64LE(name, bitOffset, offset);
+                default: break;
+            }
+        }
+        int containerBits = containerBits(bitOffset, bitWidth);
+        int shift = (container << 3) + containerBits - (bitOffset + bitWidth);
+        long mask = bitWidth == 64 ? -1L : (1L << bitWidth) - 1;
+        switch (containerBits) {
+            case 8: return new Bits8(name, bitOffset, bitWidth, container, shift, (int) mask);
+            case 16: return new Bits16(name, bitOffset, bitWidth, container, shift, (int) mask);
+            case 32: return new Bits32(name, bitOffset, bitWidth, container, shift, mask);
+            default: return new Bits64(name, bitOffset, bitWidth, container, shift, mask);
+        }
+    }
+
+    /**
+     * 비트 필드가 걸친 바이트 수를 덮는 가장 작은 읽기 단위(8/16/32/64비트)를 반환한다.
+     */
+    static int containerBits(int bitOffset, int bitWidth) {
+        int bytes = ((bitOffset + bitWidth + 7) >>> 3) - (bitOffset >>> 3);
+        if (bytes <= 1) return 8;
+        if (bytes <= 2) return 16;
+        if (bytes <= 4) return 32;
+        return 64;
+    }
+
+    record U8(String name, int bitOffset, int offset) implements HeaderField {
+        public int bitWidth() { return 8; }
+        public long get(byte[] bytes, int base) { return bytes[base + offset] & 0xFF; }
+        public void set(byte[] bytes, int base, long value) { bytes[base + offset] = (byte) value; }
+    }
+
+    record U16BE(String name, int bitOffset, int offset) implements HeaderField {
+        public int bitWidth() { return 16; }
+        public long get(byte[] bytes, int base) { return (short) SHORT_BE.get(bytes, base + offset) & 0xFFFF; }
+        public void set(byte[] bytes, int base, long value) { SHORT_BE.set(bytes, base + offset, (short) value); }
+    }
+
+    record U16LE(String name, int bitOffset, int offset) implements HeaderField {
+        public int bitWidth() { return 16; }
+        public long get(byte[] bytes, int base) { return (short) SHORT_LE.get(bytes, base + offset) & 0xFFFF; }
+        public void set(byte[] bytes, int base, long value) { SHORT_LE.set(bytes, base + offset, (short) value); }
+    }
+
+    record U32BE(String name, int bitOffset, int offset) implements HeaderField {
+        public int bitWidth() { return 32; }
+        public long get(byte[] bytes, int base) { return (int) INT_BE.get(bytes, base + offset) & 0xFFFF_FFFFL; }
+        public void set(byte[] bytes, int base, long value) { INT_BE.set(bytes, base + offset, (int) value); }
+        public int getInt(byte[] bytes, int base) { return (int) INT_BE.get(bytes, base + offset); }
+        public void setInt(byte[] bytes, int base, int value) { INT_BE.set(bytes, base + offset, value); }
+    }
+
+    record U32LE(String name, int bitOffset, int offset) implements HeaderField {
+        public int bitWidth() { return 32; }
+        public long get(byte[] bytes, int base) { return (int) INT_LE.get(bytes, base + offset) & 0xFFFF_FFFFL; }
+        public void set(byte[] bytes, int base, long value) { INT_LE.set(bytes, base + offset, (int) value); }
+        public int getInt(byte[] bytes, int base) { return (int) INT_LE.get(bytes, base + offset); }
+        public void setInt(byte[] bytes, int base, int value) { INT_LE.set(bytes, base + offset, value); }
+    }
+
+    record U64BE(String name, int bitOffset, int offset) implements HeaderField {
+        public int bitWidth() { return 64; }
+        public long get(byte[] bytes, int base) { return (long) LONG_BE.get(bytes, base + offset); }
+        public void set(byte[] bytes, int base, long value) { LONG_BE.set(bytes, base + offset, value); }
+    }
+
+    record U64LE(String name, int bitOffset, int offset) implements HeaderField {
+        public int bitWidth() { return 64; }
+        public long get(byte[] bytes, int base) { return (long) LONG_LE.get(bytes, base + offset); }
+        public void set(byte[] bytes, int base, long value) { LONG_LE.set(bytes, base + offset, value); }
+    }
+
+    record Bits8(String name, int bitOffset, int bitWidth, int offset, int shift, int mask) implements HeaderField {
+        public long get(byte[] bytes, int base) {
+            return ((bytes[base + offset] & 0xFF) >>> shift) & mask;
+        }
+
+        public void set(byte[] bytes, int base, long value) {
+            int word = bytes[base + offset];
+            bytes[base + offset] = (byte) ((word & ~(mask << shift)) | (((int) value & mask) << shift));
+        }
+    }
+
+    record Bits16(String name, int bitOffset, int bitWidth, int offset, int shift, int mask) implements HeaderField {
+        public long get(byte[] bytes, int base) {
+            return (((short) SHORT_BE.get(bytes, base + offset) & 0xFFFF) >>> shift) & mask;
+        }
+
+        public void set(byte[] bytes, int base, long value) {
+            int word = (short) SHORT_BE.get(bytes, base + offset);
+            SHORT_BE.set(bytes, base + offset, (short) ((word & ~(mask << shift)) | (((int) value & mask) << shift)));
+        }
+    }
+
+    record Bits32(String name, int bitOffset, int bitWidth, int offset, int shift, long mask) implements HeaderField {
+        public long get(byte[] bytes, int base) {
+            return (((int) INT_BE.get(bytes, base + offset) & 0xFFFF_FFFFL) >>> shift) & mask;
+        }
+
+        public void set(byte[] bytes, int base, long value) {
+            long word = (int) INT_BE.get(bytes, base + offset);
+            INT_BE.set(bytes, base + offset, (int) ((word & ~(mask << shift)) | ((value & mask) << shift)));
+        }
+    }
+
+    record Bits64(String name, int bitOffset, int bitWidth, int offset, int shift, long mask) implements HeaderField {
+        public long get(byte[] bytes, int base) {
+            return ((long) LONG_BE.get(bytes, base + offset) >>> shift) & mask;
+        }
+
+        public void set(byte[] bytes, int base, long value) {
+            long word = (long) LONG_BE.get(bytes, base + offset);
+            LONG_BE.set(bytes, base + offset, (word & ~(mask << shift)) | ((value & mask) << shift));
+        }
+    }
+}
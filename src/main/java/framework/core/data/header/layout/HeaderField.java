@@ -0,0 +1,55 @@
+package framework.core.data.header.layout;
+
+/**
+ * {@link HeaderLayout}에 선언된 헤더 필드 하나의 접근자
+ *
+ * - 필드 값은 부호 없는 정수로 다루며, 폭이 64비트인 필드만 {@code long} 전체 범위를 사용한다
+ * - 접근자는 상태를 갖지 않는 flyweight이므로 {@code static final} 상수로 보관하여 모든 패킷에 공유한다
+ * - 바이트 경계에 맞는 8/16/32/64비트 필드는 한 번의 읽기/쓰기로, 그 외 비트 필드는
+ *   필드를 감싸는 8/16/32/64비트 단위를 한 번 읽어 shift / mask로 처리한다
+ */
+public interface HeaderField {
+
+    /**
+     * 필드 이름을 반환한다.
+     */
+    String name();
+
+    /**
+     * 헤더 시작 기준 비트 위치를 반환한다. (0번 비트는 첫 바이트의 최상위 비트)
+     */
+    int bitOffset();
+
+    /**
+     * 필드 폭(비트 수)을 반환한다.
+     */
+    int bitWidth();
+
+    /**
+     * 필드 값을 읽는다.
+     *
+     * @param bytes 헤더가 담긴 배열
+     * @param base  헤더 시작 위치
+     * @return 부호 없는 필드 값
+     */
+    long get(byte[] bytes, int base);
+
+    /**
+     * 필드 값을 기록한다.
+     *
+     * - 필드 폭을 넘는 상위 비트는 버려지며, 같은 바이트를 공유하는 다른 필드는 유지된다
+     *
+     * @param bytes 헤더가 담긴 배열
+     * @param base  헤더 시작 위치
+     * @param value 기록할 값
+     */
+    void set(byte[] bytes, int base, long value);
+
+    default int getInt(byte[] bytes, int base) {
+        return (int) get(bytes, base);
+    }
+
+    default void setInt(byte[] bytes, int base, int value) {
+        set(bytes, base, value & 0xFFFF_FFFFL);
+    }
+}
@@ -0,0 +1,129 @@
+package framework.core.data.header.layout;
+
+import java.nio.ByteOrder;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 프로토콜 헤더의 필드 배치를 선언적으로 표현하는 레이아웃
+ *
+ * - 필드 이름, 비트 위치, 폭, 바이트 순서를 선언하면 필드마다 {@link HeaderField} 접근자가 만들어진다
+ * - 비트 위치는 RFC 헤더 도식과 같이 첫 바이트의 최상위 비트를 0으로 센다
+ * - 프로토콜 레이아웃 클래스는 레이아웃과 접근자를 {@code static final} 상수로 보관하여
+ *   손으로 작성한 오프셋 계산 없이 필드를 읽고 쓴다 ({@link Ipv4Layout} 등)
+ *
+ * <p>
+ * 플래그 묶음과 개별 플래그처럼 필드가 서로 겹치는 선언을 허용한다.
+ * 비트 필드를 감싸는 읽기 단위가 헤더 끝을 넘으면 헤더 안쪽으로 당겨 배치하므로
+ * 접근자는 헤더 길이 밖의 바이트를 읽지 않는다.
+ */
+public final class HeaderLayout {
+
+    private final String name;
+    private final int length;
+    private final Map<String, HeaderField> fields;
+
+    private HeaderLayout(Builder builder) {
+        this.name = builder.name;
+        this.length = builder.length;
+        this.fields = Collections.unmodifiableMap(new LinkedHashMap<>(builder.fields));
+    }
+
+    public static class Builder {
+        private final String name;
+        private final int length;
+        private final Map<String, HeaderField> fields = new LinkedHashMap<>();
+
+        /**
+         * @param name   레이아웃 이름
+         * @param length 옵션을 제외한 고정 헤더 길이(바이트)
+         */
+        public Builder(String name, int length) {
+            this.name = Objects.requireNonNull(name, "name cannot be null");
+            if (length <= 0)
+                throw new IllegalArgumentException("length must be positive");
+            this.length = length;
+        }
+
+        /**
+         * 네트워크 바이트 순서(big-endian) 필드를 선언한다.
+         */
+        public Builder field(String name, int bitOffset, int bitWidth) {
+            return field(name, bitOffset, bitWidth, ByteOrder.BIG_ENDIAN);
+        }
+
+        /**
+         * 필드를 선언한다.
+         *
+         * @param name      필드 이름
+         * @param bitOffset 헤더 시작 기준 비트 위치
+         * @param bitWidth  필드 폭 (1 ~ 64), 필드는 연속된 8바이트 안에 있어야 한다
+         * @param order     바이트 순서, little-endian은 바이트 정렬된 16/32/64비트 필드에만 사용할 수 있다
+         */
+        public Builder field(String name, int bitOffset, int bitWidth, ByteOrder order) {
+            Objects.requireNonNull(name, "field name cannot be null");
+            Objects.requireNonNull(order, "byte order cannot be null");
+            if (fields.containsKey(name))
+                throw new IllegalArgumentException("duplicate field: " + name);
+            if (bitWidth < 1 || bitWidth > 64)
+                throw new IllegalArgumentException(name + ": bitWidth must be in [1, 64]");
+            if (bitOffset < 0 || bitOffset + bitWidth > length * 8)
+                throw new IllegalArgumentException(name + ": field exceeds the header length");
+            if ((bitOffset & 7) + bitWidth > 64)
+                throw new IllegalArgumentException(name + ": field spans more than 8 bytes");
+            boolean aligned = (bitOffset & 7) == 0 && (bitWidth == 16 || bitWidth == 32 || bitWidth == 64);
+            if (order == ByteOrder.LITTLE_ENDIAN && !aligned)
+                throw new IllegalArgumentException(name + ": little-endian fields must be byte aligned 16/32/64 bits");
+
+            int containerBytes = FieldAccessors.containerBits(bitOffset, bitWidth) >>> 3;
+            int container = Math.min(bitOffset >>> 3, length - containerBytes);
+            if (container < 0)
+                throw new IllegalArgumentException(name + ": header is too short for the field's read width");
+            fields.put(name, FieldAccessors.create(name, bitOffset, bitWidth, order, container));
+            return this;
+        }
+
+        public HeaderLayout build() {
+            if (fields.isEmpty())
+                throw new IllegalStateException(name + ": layout has no fields");
+            return new HeaderLayout(this);
+        }
+    }
+
+    /**
+     * 이름으로 필드 접근자를 찾는다.
+     *
+     * - 레이아웃 초기화 시 한 번 호출하여 {@code static final} 상수로 보관한다
+     *
+     * @throws IllegalArgumentException 선언되지 않은 필드인 경우
+     */
+    public HeaderField field(String fieldName) {
+        HeaderField field = fields.get(fieldName);
+        if (field == null)
+            throw new IllegalArgumentException(name + " has no field named " + fieldName);
+        return field;
+    }
+
+    /**
+     * 선언 순서대로 모든 필드 접근자를 반환한다.
+     */
+    public List<HeaderField> fields() {
+        return List.copyOf(fields.values());
+    }
+
+    public String name() { return name; }
+    public int length() { return length; }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(name).append('(').append(length).append(" bytes)");
+        for (HeaderField field : fields.values()) {
+            sb.append("\n  ").append(field.name())
+              .append(" @").append(field.bitOffset()).append(" [").append(field.bitWidth()).append(']');
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,44 @@
+package framework.core.data.header.layout;
+
+/**
+ * IPv4 헤더(RFC 791, 옵션 제외 20바이트) 레이아웃
+ */
+public final class Ipv4Layout {
+
+    public static final HeaderLayout LAYOUT = new HeaderLayout.Builder("IPv4", 20)
+            .field("version", 0, 4)
+            .field("ihl", 4, 4)
+            .field("dscp", 8, 6)
+            .field("ecn", 14, 2)
+            .field("totalLength", 16, 16)
+            .field("identification", 32, 16)
+            .field("flags", 48, 3)
+            .field("dontFragment", 49, 1)
+            .field("moreFragments", 50, 1)
+            .field("fragmentOffset", 51, 13)
+            .field("ttl", 64, 8)
+            .field("protocol", 72, 8)
+            .field("checksum", 80, 16)
+            .field("source", 96, 32)
+            .field("destination", 128, 32)
+            .build();
+
+    public static final HeaderField VERSION = LAYOUT.field("version");
+    public static final HeaderField IHL = LAYOUT.field("ihl");
+    public static final HeaderField DSCP = LAYOUT.field("dscp");
+    public static final HeaderField ECN = LAYOUT.field("ecn");
+    public static final HeaderField TOTAL_LENGTH = LAYOUT.field("totalLength");
+    public static final HeaderField IDENTIFICATION = LAYOUT.field("identification");
+    public static final HeaderField FLAGS = LAYOUT.field("flags");
+    public static final HeaderField DONT_FRAGMENT = LAYOUT.field("dontFragment");
+    public static final HeaderField MORE_FRAGMENTS = LAYOUT.field("moreFragments");
+    public static final HeaderField FRAGMENT_OFFSET = LAYOUT.field("fragmentOffset");
+    public static final HeaderField TTL = LAYOUT.field("ttl");
+    public static final HeaderField PROTOCOL = LAYOUT.field("protocol");
+    public static final HeaderField CHECKSUM = LAYOUT.field("checksum");
+    public static final HeaderField SOURCE = LAYOUT.field("source");
+    public static final HeaderField DESTINATION = LAYOUT.field("destination");
+
+    // Utility class, prevent instantiation
+    private Ipv4Layout() { }
+}
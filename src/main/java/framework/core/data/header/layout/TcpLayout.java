@@ -0,0 +1,50 @@
+package framework.core.data.header.layout;
+
+/**
+ * TCP 헤더(RFC 9293, 옵션 제외 20바이트) 레이아웃
+ *
+ * - {@code flags}는 CWR부터 FIN까지 8비트 묶음이며, 개별 플래그 필드와 겹쳐 선언된다
+ */
+public final class TcpLayout {
+
+    public static final HeaderLayout LAYOUT = new HeaderLayout.Builder("TCP", 20)
+            .field("sourcePort", 0, 16)
+            .field("destinationPort", 16, 16)
+            .field("sequence", 32, 32)
+            .field("acknowledgment", 64, 32)
+            .field("dataOffset", 96, 4)
+            .field("flags", 104, 8)
+            .field("cwr", 104, 1)
+            .field("ece", 105, 1)
+            .field("urg", 106, 1)
+            .field("ack", 107, 1)
+            .field("psh", 108, 1)
+            .field("rst", 109, 1)
+            .field("syn", 110, 1)
+            .field("fin", 111, 1)
+            .field("window", 112, 16)
+            .field("checksum", 128, 16)
+            .field("urgentPointer", 144, 16)
+            .build();
+
+    public static final HeaderField SOURCE_PORT = LAYOUT.field("sourcePort");
+    public static final HeaderField DESTINATION_PORT = LAYOUT.field("destinationPort");
+    public static final HeaderField SEQUENCE = LAYOUT.field("sequence");
+    public static final HeaderField ACKNOWLEDGMENT = LAYOUT.field("acknowledgment");
+    public static final HeaderField DATA_OFFSET = LAYOUT.field("dataOffset");
+    public static final HeaderField FLAGS = LAYOUT.field("flags");
+    public static final HeaderField CWR = LAYOUT.field("cwr");
+    public static final HeaderField ECE = LAYOUT.field("ece");
+    public static final HeaderField URG = LAYOUT.field("urg");
+    public static final HeaderField ACK = LAYOUT.field("ack");
+    public static final HeaderField PSH = LAYOUT.field("psh");
+    public static final HeaderField RST = LAYOUT.field("rst");
+    public static final HeaderField SYN = LAYOUT.field("syn");
+    public static final HeaderField FIN = LAYOUT.field("fin");
+    public static final HeaderField WINDOW = LAYOUT.field("window");
+    public static final HeaderField CHECKSUM = LAYOUT.field("checksum");
+    public static final HeaderField URGENT_POINTER = LAYOUT.field("urgentPointer");
+
+    // Utility class, prevent instantiation
+    private TcpLayout() { }
+}
@@ -0,0 +1,22 @@
+package framework.core.data.header.layout;
+
+/**
+ * UDP 헤더(RFC 768, 8바이트) 레이아웃
+ */
+public final class UdpLayout {
+
+    public static final HeaderLayout LAYOUT = new HeaderLayout.Builder("UDP", 8)
+            .field("sourcePort", 0, 16)
+            .field("destinationPort", 16, 16)
+            .field("length", 32, 16)
+            .field("checksum", 48, 16)
+            .build();
+
+    public static final HeaderField SOURCE_PORT = LAYOUT.field("sourcePort");
+    public static final HeaderField DESTINATION_PORT = LAYOUT.field("destinationPort");
+    public static final HeaderField LENGTH = LAYOUT.field("length");
+    public static final HeaderField CHECKSUM = LAYOUT.field("checksum");
+
+    // Utility class, prevent instantiation
+    private UdpLayout() { }
+}
@@ -93,6 +93,40 @@ public abstract class Layer {
         outboundThreadPool.shutdownNow();
     }
 
+    /**
+     * 계층 유형을 반환합니다.
+     * @return 계층 유형
+     */
+    public final LayerType getType() { return LAYER_TYPE; }
+
+    /**
+     * 수신 큐를 반환합니다.
+     * <br>
+     * {@link framework.core.runtime.LayerExecutor} 구현체가 큐를 직접 소비할 때 사용합니다.
+     * @return 수신 큐
+     */
+    public final BlockingQueue<Chunk> getInboundQueue() { return inboundQueue; }
+
+    /**
+     * 발신 큐를 반환합니다.
+     * <br>
+     * {@link framework.core.runtime.LayerExecutor} 구현체가 큐를 직접 소비할 때 사용합니다.
+     * @return 발신 큐
+     */
+    public final BlockingQueue<Chunk> getOutboundQueue() { return outboundQueue; }
+
+    /**
+     * 실행자가 꺼낸 수신 {@link Chunk}를 {@link #processInbound(Chunk)}에 위임합니다.
+     * @param chunk 수신된 {@link Chunk}
+     */
+    public final void executeInbound(Chunk chunk) { processInbound(chunk); }
+
+    /**
+     * 실행자가 꺼낸 발신 {@link Chunk}를 {@link #processOutbound(Chunk)}에 위임합니다.
+     * @param chunk 발신할 {@link Chunk}
+     */
+    public final void executeOutbound(Chunk chunk) { processOutbound(chunk); }
+
     /** 
      * 하위 계층으로 {@link Chunk}를 전송합니다.
      * @param chunk 전송할 {@link Chunk}
@@ -0,0 +1,162 @@
+package framework.core.runtime;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ElasticLayerExecutor} 동작에 필요한 설정을 표현하는 설정 객체 <br>
+ *
+ * 실행자 생성 시 불변 설정 값으로 사용되며, inbound / outbound 방향에 각각 동일하게 적용된다.
+ * <p>기본 설정 값은 다음과 같다.</p>
+ *
+ * <table border="1">
+ *   <tr>
+ *     <th>항목</th>
+ *     <th>기본값</th>
+ *     <th>설명</th>
+ *   </tr>
+ *   <tr>
+ *     <td>{@code minWorkers}</td>
+ *     <td>{@code 1}</td>
+ *     <td>방향별 최소 작업 스레드 수</td>
+ *   </tr>
+ *   <tr>
+ *     <td>{@code maxWorkers}</td>
+ *     <td>가용 프로세서 수</td>
+ *     <td>방향별 최대 작업 스레드 수</td>
+ *   </tr>
+ *   <tr>
+ *     <td>{@code workerQueueCapacity}</td>
+ *     <td>{@code 1024}</td>
+ *     <td>작업 스레드별 큐의 최대 용량</td>
+ *   </tr>
+ *   <tr>
+ *     <td>{@code highWatermark}</td>
+ *     <td>{@code 0.75}</td>
+ *     <td>부하가 이 값 이상으로 유지되면 작업 스레드를 늘린다</td>
+ *   </tr>
+ *   <tr>
+ *     <td>{@code lowWatermark}</td>
+ *     <td>{@code 0.25}</td>
+ *     <td>부하가 이 값 이하로 유지되면 작업 스레드를 줄인다</td>
+ *   </tr>
+ *   <tr>
+ *     <td>{@code sampleIntervalNanos}</td>
+ *     <td>{@code 100ms}</td>
+ *     <td>큐 점유율과 처리 시간을 측정하는 주기</td>
+ *   </tr>
+ *   <tr>
+ *     <td>{@code stableSamples}</td>
+ *     <td>{@code 3}</td>
+ *     <td>규모 조정 전에 같은 판단이 연속으로 나와야 하는 측정 횟수</td>
+ *   </tr>
+ *   <tr>
+ *     <td>{@code cooldownNanos}</td>
+ *     <td>{@code 5s}</td>
+ *     <td>규모 조정 후 다음 조정까지의 최소 간격</td>
+ *   </tr>
+ * </table>
+ */
+public final class ElasticExecutorConfig {
+
+    private final int minWorkers;
+    private final int maxWorkers;
+    private final int workerQueueCapacity;
+    private final double highWatermark;
+    private final double lowWatermark;
+    private final long sampleIntervalNanos;
+    private final int stableSamples;
+    private final long cooldownNanos;
+
+    private ElasticExecutorConfig(Builder builder) {
+        this.minWorkers = builder.minWorkers;
+        this.maxWorkers = builder.maxWorkers;
+        this.workerQueueCapacity = builder.workerQueueCapacity;
+        this.highWatermark = builder.highWatermark;
+        this.lowWatermark = builder.lowWatermark;
+        this.sampleIntervalNanos = builder.sampleIntervalNanos;
+        this.stableSamples = builder.stableSamples;
+        this.cooldownNanos = builder.cooldownNanos;
+    }
+
+    public static class Builder {
+        private int minWorkers = 1;
+        private int maxWorkers = Runtime.getRuntime().availableProcessors();
+        private int workerQueueCapacity = 1024;
+        private double highWatermark = 0.75;
+        private double lowWatermark = 0.25;
+        private long sampleIntervalNanos = TimeUnit.MILLISECONDS.toNanos(100);
+        private int stableSamples = 3;
+        private long cooldownNanos = TimeUnit.SECONDS.toNanos(5);
+
+        public Builder minWorkers(int minWorkers) {
+            this.minWorkers = minWorkers;
+            return this;
+        }
+
+        public Builder maxWorkers(int maxWorkers) {
+            this.maxWorkers = maxWorkers;
+            return this;
+        }
+
+        public Builder workerQueueCapacity(int workerQueueCapacity) {
+            this.workerQueueCapacity = workerQueueCapacity;
+            return this;
+        }
+
+        public Builder highWatermark(double highWatermark) {
+            this.highWatermark = highWatermark;
+            return this;
+        }
+
+        public Builder lowWatermark(double lowWatermark) {
+            this.lowWatermark = lowWatermark;
+            return this;
+        }
+
+        public Builder sampleIntervalNanos(long sampleIntervalNanos) {
+            this.sampleIntervalNanos = sampleIntervalNanos;
+            return this;
+        }
+
+        public Builder stableSamples(int stableSamples) {
+            this.stableSamples = stableSamples;
+            return this;
+        }
+
+        public Builder cooldownNanos(long cooldownNanos) {
+            this.cooldownNanos = cooldownNanos;
+            return this;
+        }
+
+        public ElasticExecutorConfig build() {
+            validate();
+            return new ElasticExecutorConfig(this);
+        }
+
+        private void validate() {
+            if (minWorkers <= 0)
+                throw new IllegalArgumentException("minWorkers must be positive");
+            if (maxWorkers < minWorkers)
+                throw new IllegalArgumentException("maxWorkers must not be less than minWorkers");
+            if (workerQueueCapacity <= 0)
+                throw new IllegalArgumentException("workerQueueCapacity must be positive");
+            if (!(lowWatermark >= 0 && lowWatermark < highWatermark && highWatermark <= 1))
+                throw new IllegalArgumentException("watermarks must satisfy 0 <= low < high <= 1");
+            if (sampleIntervalNanos <= 0)
+                throw new IllegalArgumentException("sampleIntervalNanos must be positive");
+            if (stableSamples <= 0)
+                throw new IllegalArgumentException("stableSamples must be positive");
+            if (cooldownNanos < 0)
+                throw new IllegalArgumentException("cooldownNanos must not be negative");
+        }
+    }
+
+    public int minWorkers() { return minWorkers; }
+    public int maxWorkers() { return maxWorkers; }
+    public int workerQueueCapacity() { return workerQueueCapacity; }
+    public double highWatermark() { return highWatermark; }
+    public double lowWatermark() { return lowWatermark; }
+    public long sampleIntervalNanos() { return sampleIntervalNanos; }
+    public int stableSamples() { return stableSamples; }
+    public long cooldownNanos() { return cooldownNanos; }
+}
@@ -0,0 +1,414 @@
+package framework.core.runtime;
+
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
+
+import framework.core.data.Chunk;
+import framework.core.exception.ExceptionAction;
+import framework.core.exception.LayerException;
+import framework.core.exception.LogDomain;
+import framework.core.layer.Layer;
+import framework.core.logging.LayerExceptionLogger;
+import framework.core.logging.LogTemplate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 부하에 따라 작업 스레드 수를 조정하는 {@link LayerExecutor} 구현체
+ *
+ * - inbound / outbound 방향마다 분배 스레드 하나와 작업 스레드 여러 개를 둔다
+ * - 분배 스레드는 Layer 큐에서 꺼낸 Chunk를 흐름 키 해시에 따라 작업 스레드별 큐로 보낸다
+ * - 같은 흐름 키의 Chunk는 항상 같은 작업 스레드에서 도착 순서대로 처리된다
+ * - 분배 스레드는 주기적으로 큐 점유율과 작업 스레드 사용률(처리 시간 비율)을 측정하여 규모를 판단한다
+ *
+ * <p>
+ * 규모 조정은 두 임계값(high / low watermark) 사이의 이력 현상(hysteresis)을 두고,
+ * 같은 판단이 {@code stableSamples}번 연속으로 나오고 직전 조정 후 {@code cooldown}이 지났을 때만 수행한다.
+ * 한 번에 작업 스레드 하나씩 늘리거나 줄인다.
+ * <br>
+ * 조정 시 흐름과 작업 스레드의 대응이 바뀌므로, 분배를 멈추고 이미 분배된 Chunk가 모두 처리될 때까지
+ * 기다린 뒤(quiesce) 대응을 바꾼다. 따라서 조정 전후에도 흐름별 처리 순서가 유지된다.
+ *
+ * <p>
+ * 각 작업 스레드는 {@link SingleThreadLayerExecutor}와 같이 자신만의 {@link TimingWheel}을 구동한다.
+ * 줄어든 작업 스레드는 새 Chunk를 받지 않고 남은 타이머가 모두 만료된 뒤 종료되며,
+ * 그 타이머는 해당 스레드에서 실행된다. 조정 후 흐름이 다른 작업 스레드로 옮겨질 수 있으므로
+ * 흐름 상태를 타이머와 공유하는 Layer는 이를 고려해야 한다.
+ * <br>
+ * 조정 결과는 {@link ScalingListener}로 통지되고, 측정값과 누적 횟수는 조회 메서드로 제공된다.
+ */
+public class ElasticLayerExecutor implements LayerExecutor {
+
+    private static final Logger log = LoggerFactory.getLogger(ElasticLayerExecutor.class);
+
+    private static final long QUIESCE_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    /**
+     * 처리 방향
+     */
+    public enum Direction { INBOUND, OUTBOUND }
+
+    private final ElasticExecutorConfig config;
+    private final ToIntFunction<Chunk> flowKey;
+    private final ScalingListener listener;
+
+    /**
+     * Layer 실행 상태를 제어하는 플래그
+     */
+    private volatile boolean running = false;
+
+    private Stage inbound;
+    private Stage outbound;
+
+    public ElasticLayerExecutor(ElasticExecutorConfig config, ToIntFunction<Chunk> flowKey) {
+        this(config, flowKey, ScalingListener.NONE);
+    }
+
+    /**
+     * @param config   실행자 설정
+     * @param flowKey  Chunk의 흐름 키를 계산하는 함수, 같은 흐름은 같은 값을 반환해야 한다
+     * @param listener 규모 조정 통지 대상
+     */
+    public ElasticLayerExecutor(ElasticExecutorConfig config, ToIntFunction<Chunk> flowKey, ScalingListener listener) {
+        this.config = Objects.requireNonNull(config, "config cannot be null");
+        this.flowKey = Objects.requireNonNull(flowKey, "flowKey cannot be null");
+        this.listener = Objects.requireNonNull(listener, "listener cannot be null");
+    }
+
+    /**
+     * 주어진 Layer에 대한 실행을 시작한다.
+     *
+     * - 방향별로 분배 스레드와 최소 개수의 작업 스레드를 시작한다
+     * - 이미 실행 중인 경우 중복 시작하지 않는다
+     */
+    @Override
+    public synchronized void start(Layer layer) {
+        if (running) return;
+        running = true;
+
+        inbound = new Stage(layer, Direction.INBOUND, layer.getInboundQueue(), layer::executeInbound);
+        outbound = new Stage(layer, Direction.OUTBOUND, layer.getOutboundQueue(), layer::executeOutbound);
+        inbound.start();
+        outbound.start();
+    }
+
+    /**
+     * 현재 실행 중인 Layer 처리를 중단한다.
+     *
+     * - 실행 플래그를 해제하고 분배 스레드와 작업 스레드에 인터럽트를 전달한다
+     * - 작업 스레드 큐에 남은 Chunk는 처리되지 않는다
+     */
+    @Override
+    public void stop() {
+        running = false;
+        if (inbound != null) inbound.interrupt();
+        if (outbound != null) outbound.interrupt();
+    }
+
+    /**
+     * 현재 Executor가 실행 중인지 여부를 반환한다.
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 현재 Chunk를 분배받는 작업 스레드 수를 반환한다.
+     */
+    public int workers(Direction direction) { return stage(direction).active; }
+
+    /**
+     * 작업 스레드를 늘린 누적 횟수를 반환한다.
+     */
+    public long scaleUps(Direction direction) { return stage(direction).scaleUps; }
+
+    /**
+     * 작업 스레드를 줄인 누적 횟수를 반환한다.
+     */
+    public long scaleDowns(Direction direction) { return stage(direction).scaleDowns; }
+
+    /**
+     * 작업 스레드로 분배한 누적 Chunk 수를 반환한다.
+     */
+    public long dispatched(Direction direction) { return stage(direction).dispatched; }
+
+    /**
+     * 마지막 측정 시점의 큐 점유율(0 ~ 1)을 반환한다.
+     */
+    public double occupancy(Direction direction) { return stage(direction).occupancy; }
+
+    /**
+     * 마지막 측정 시점의 작업 스레드 사용률(0 ~ 1)을 반환한다.
+     */
+    public double utilization(Direction direction) { return stage(direction).utilization; }
+
+    private Stage stage(Direction direction) {
+        Stage stage = direction == Direction.INBOUND ? inbound : outbound;
+        if (stage == null)
+            throw new IllegalStateException("executor has not been started");
+        return stage;
+    }
+
+    /**
+     * 흐름 키를 작업 스레드 인덱스로 변환한다.
+     */
+    static int index(int key, int workers) {
+        int h = key * 0x9E3779B9;
+        return Math.floorMod(h ^ (h >>> 16), workers);
+    }
+
+    /**
+     * 한 방향의 분배 스레드와 작업 스레드 집합
+     *
+     * - 작업 스레드 배열, 규모 판단 상태는 분배 스레드만 변경한다
+     */
+    private final class Stage {
+        private final Layer layer;
+        private final Direction direction;
+        private final BlockingQueue<Chunk> source;
+        private final Consumer<Chunk> task;
+        private final Thread dispatcher;
+
+        private final Worker[] workers;
+        private final long[] busyBaseline;
+        private volatile int active;
+
+        private long lastSampleNanos;
+        private long lastScaleNanos;
+        private int upStreak;
+        private int downStreak;
+
+        private volatile double occupancy;
+        private volatile double utilization;
+        private volatile long dispatched;
+        private volatile long scaleUps;
+        private volatile long scaleDowns;
+
+        Stage(Layer layer, Direction direction, BlockingQueue<Chunk> source, Consumer<Chunk> task) {
+            this.layer = layer;
+            this.direction = direction;
+            this.source = source;
+            this.task = task;
+            this.workers = new Worker[config.maxWorkers()];
+            this.busyBaseline = new long[config.maxWorkers()];
+            this.dispatcher = new Thread(this::dispatch, name() + "-dispatcher");
+        }
+
+        void start() {
+            for (int i = 0; i < config.minWorkers(); i++) workers[i] = new Worker(this, i);
+            active = config.minWorkers();
+            lastSampleNanos = lastScaleNanos = System.nanoTime();
+            dispatcher.start();
+        }
+
+        void interrupt() {
+            dispatcher.interrupt();
+            for (int i = 0; i < active; i++) {
+                Worker worker = workers[i];
+                if (worker != null) worker.thread.interrupt();
+            }
+        }
+
+        String name() {
+            return layer.getType() + "-" + direction.name().toLowerCase();
+        }
+
+        /**
+         * Layer 큐를 소비하여 작업 스레드로 분배하고, 측정 주기마다 규모를 판단한다.
+         */
+        private void dispatch() {
+            long nextSample = System.nanoTime() + config.sampleIntervalNanos();
+            while (running && !Thread.currentThread().isInterrupted()) {
+                try {
+                    long now = System.nanoTime();
+                    if (now - nextSample >= 0) {
+                        sample(now);
+                        nextSample = now + config.sampleIntervalNanos();
+                    }
+                    Chunk chunk = source.poll(nextSample - now, TimeUnit.NANOSECONDS);
+                    if (chunk == null) continue;
+                    Worker worker = workers[index(flowKey.applyAsInt(chunk), active)];
+                    worker.dispatched++;
+                    worker.queue.put(chunk);
+                    dispatched++;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                } catch (Exception e) {
+                    log.error(
+                            LogTemplate.DOMAIN_TYPE_MESSAGE.pattern(),
+                            LogDomain.RUNTIME,
+                            layer.getType(),
+                            e.getMessage()
+                    );
+                    stop();
+                }
+            }
+        }
+
+        /**
+         * 큐 점유율과 사용률을 측정하고 필요하면 규모를 조정한다.
+         *
+         * - 부하는 두 값 중 큰 값으로 판단한다
+         */
+        private void sample(long now) {
+            int n = active;
+            long busy = 0;
+            long depth = source.size();
+            for (int i = 0; i < n; i++) {
+                Worker worker = workers[i];
+                long total = worker.busyNanos.get();
+                busy += total - busyBaseline[i];
+                busyBaseline[i] = total;
+                depth += worker.queue.size();
+            }
+            long elapsed = Math.max(1, now - lastSampleNanos);
+            lastSampleNanos = now;
+            double util = Math.min(1.0, (double) busy / ((double) elapsed * n));
+            double occ = Math.min(1.0, (double) depth / ((double) config.workerQueueCapacity() * n));
+            utilization = util;
+            occupancy = occ;
+
+            double load = Math.max(util, occ);
+            if (load >= config.highWatermark()) {
+                upStreak++;
+                downStreak = 0;
+            } else if (load <= config.lowWatermark()) {
+                downStreak++;
+                upStreak = 0;
+            } else {
+                upStreak = 0;
+                downStreak = 0;
+            }
+
+            if (now - lastScaleNanos < config.cooldownNanos()) return;
+            if (upStreak >= config.stableSamples() && n < config.maxWorkers()) resize(n + 1, occ, util);
+            else if (downStreak >= config.stableSamples() && n > config.minWorkers()) resize(n - 1, occ, util);
+        }
+
+        /**
+         * 분배된 Chunk가 모두 처리되기를 기다린 뒤 작업 스레드 수를 변경한다.
+         */
+        private void resize(int target, double occ, double util) {
+            int from = active;
+            long begin = System.nanoTime();
+            if (!quiesce(from)) return;
+            long quiesceNanos = System.nanoTime() - begin;
+
+            for (int i = from; i < target; i++) {
+                workers[i] = new Worker(this, i);
+                busyBaseline[i] = 0;
+            }
+            for (int i = target; i < from; i++) {
+                workers[i].retired = true;
+                workers[i] = null;
+            }
+            active = target;
+            upStreak = 0;
+            downStreak = 0;
+            lastScaleNanos = System.nanoTime();
+            if (target > from) scaleUps++;
+            else scaleDowns++;
+
+            log.info("{} workers {} -> {} (occupancy={}, utilization={})", name(), from, target, occ, util);
+            listener.onScale(new ScalingEvent(layer.getType(), direction, from, target, occ, util, quiesceNanos));
+        }
+
+        /**
+         * @return 모든 작업 스레드가 분배받은 Chunk를 처리했다면 {@code true}, 중단된 경우 {@code false}
+         */
+        private boolean quiesce(int n) {
+            for (int i = 0; i < n; i++) {
+                Worker worker = workers[i];
+                while (worker.completed.get() < worker.dispatched) {
+                    if (!running || Thread.currentThread().isInterrupted()) return false;
+                    LockSupport.parkNanos(QUIESCE_PARK_NANOS);
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * 전용 큐와 {@link TimingWheel}을 소유한 작업 스레드
+     *
+     * - {@code dispatched}는 분배 스레드만, {@code completed}와 {@code busyNanos}는 작업 스레드만 갱신한다
+     */
+    private final class Worker {
+        private final Stage stage;
+        private final ArrayBlockingQueue<Chunk> queue;
+        private final Thread thread;
+        private final AtomicLong completed = new AtomicLong();
+        private final AtomicLong busyNanos = new AtomicLong();
+        private long dispatched;
+        private volatile boolean retired;
+
+        Worker(Stage stage, int index) {
+            this.stage = stage;
+            this.queue = new ArrayBlockingQueue<>(config.workerQueueCapacity());
+            this.thread = new Thread(this::run, stage.name() + "-" + index);
+            this.thread.start();
+        }
+
+        private void run() {
+            TimingWheel wheel = new TimingWheel();
+            wheel.bind();
+            try {
+                while (running && !Thread.currentThread().isInterrupted()) {
+                    if (retired && queue.isEmpty() && wheel.size() == 0) break;
+                    try {
+                        Chunk chunk = next(wheel);
+                        if (chunk != null) execute(chunk);
+                        wheel.advance(System.nanoTime());
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        break;
+                    } catch (LayerException e) {
+                        LayerExceptionLogger.log(e, stage.layer, log);
+                        if (e.action() == ExceptionAction.STOP) stop();
+                    } catch (Exception e) {
+                        log.error(
+                                LogTemplate.DOMAIN_TYPE_MESSAGE.pattern(),
+                                LogDomain.RUNTIME,
+                                stage.layer.getType(),
+                                e.getMessage()
+                        );
+                        stop();
+                    }
+                }
+            } finally {
+                TimingWheel.unbind();
+            }
+        }
+
+        /**
+         * 예외와 무관하게 처리 완료와 처리 시간을 기록하여 quiesce가 멈추지 않도록 한다.
+         */
+        private void execute(Chunk chunk) {
+            long begin = System.nanoTime();
+            try {
+                stage.task.accept(chunk);
+            } finally {
+                busyNanos.setRelease(busyNanos.getPlain() + (System.nanoTime() - begin));
+                completed.setRelease(completed.getPlain() + 1);
+            }
+        }
+
+        /**
+         * 큐에서 다음 Chunk를 꺼낸다.
+         *
+         * - 다음 타이머 만료 시점과 측정 주기 중 이른 시점까지만 대기하여 축소 여부를 확인한다
+         */
+        private Chunk next(TimingWheel wheel) throws InterruptedException {
+            long wait = wheel.nanosUntilNext(System.nanoTime());
+            if (wait < 0 || wait > config.sampleIntervalNanos()) wait = config.sampleIntervalNanos();
+            return queue.poll(wait, TimeUnit.NANOSECONDS);
+        }
+    }
+}
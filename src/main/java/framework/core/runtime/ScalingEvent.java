@@ -0,0 +1,27 @@
+package framework.core.runtime;
+
+import framework.core.layer.LayerType;
+
+/**
+ * 작업 스레드 수 조정 한 건을 나타내는 불변 이벤트
+ *
+ * @param layerType     조정된 Layer 유형
+ * @param direction     조정된 처리 방향
+ * @param fromWorkers   조정 전 작업 스레드 수
+ * @param toWorkers     조정 후 작업 스레드 수
+ * @param occupancy     판단 시점의 큐 점유율 (0 ~ 1)
+ * @param utilization   판단 시점의 작업 스레드 사용률 (0 ~ 1)
+ * @param quiesceNanos  조정 전 진행 중인 작업을 비우는 데 걸린 시간
+ */
+public record ScalingEvent(
+        LayerType layerType,
+        ElasticLayerExecutor.Direction direction,
+        int fromWorkers,
+        int toWorkers,
+        double occupancy,
+        double utilization,
+        long quiesceNanos
+) {
+
+    public boolean isScaleUp() { return toWorkers > fromWorkers; }
+}
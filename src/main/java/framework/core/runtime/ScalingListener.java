@@ -0,0 +1,14 @@
+package framework.core.runtime;
+
+/**
+ * {@link ElasticLayerExecutor}의 작업 스레드 수 조정을 통지받는 계약
+ *
+ * - 규모를 판단하는 분배 스레드에서 호출되므로 오래 걸리는 작업을 수행해서는 안 된다
+ */
+@FunctionalInterface
+public interface ScalingListener {
+
+    ScalingListener NONE = event -> { };
+
+    void onScale(ScalingEvent event);
+}
@@ -1,5 +1,8 @@
 package framework.core.runtime;
 
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
 import framework.core.data.Chunk;
 import framework.core.exception.ExceptionAction;
 import framework.core.exception.LayerException;
@@ -16,6 +19,11 @@ import org.slf4j.LoggerFactory;
  * {@link Layer} 하나에 대해 inbound / outbound 처리를 각각
  * 전용 {@link Thread} 하나로 수행하며,
  * {@code BlockingQueue} 기반의 블로킹 처리 모델을 전제로 한다.
+ *
+ * <p>
+ * 각 처리 스레드는 자신만의 {@link TimingWheel}을 소유하며,
+ * 큐 대기 시간을 다음 타이머 만료 시점까지로 제한하여 같은 루프에서 타이머를 구동한다.
+ * 따라서 Layer 코드는 {@link TimingWheel#current()}로 얻은 휠을 동기화 없이 사용할 수 있다.
  */
 public class SingleThreadLayerExecutor implements LayerExecutor {
 
@@ -77,25 +85,32 @@ public class SingleThreadLayerExecutor implements LayerExecutor {
      * - LayerException 발생 시 정의된 ExceptionAction에 따라 흐름을 제어한다
      */
     private void consumeInbound(Layer layer) {
-        while (running && !Thread.currentThread().isInterrupted()) {
-            try {
-                Chunk chunk = layer.getInboundQueue().take();
-                layer.executeInbound(chunk);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                break;
-            } catch (LayerException e) {
-                LayerExceptionLogger.log(e, layer, log);
-                if (e.action() == ExceptionAction.STOP) stop();
-            } catch (Exception e) {
-                log.error(
-                        LogTemplate.DOMAIN_TYPE_MESSAGE.pattern(),
-                        LogDomain.RUNTIME,
-                        layer.getType(),
-                        e.getMessage()
-                );
-                stop();
+        TimingWheel wheel = new TimingWheel();
+        wheel.bind();
+        try {
+            while (running && !Thread.currentThread().isInterrupted()) {
+                try {
+                    Chunk chunk = next(layer.getInboundQueue(), wheel);
+                    if (chunk != null) layer.executeInbound(chunk);
+                    wheel.advance(System.nanoTime());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                } catch (LayerException e) {
+                    LayerExceptionLogger.log(e, layer, log);
+                    if (e.action() == ExceptionAction.STOP) stop();
+                } catch (Exception e) {
+                    log.error(
+                            LogTemplate.DOMAIN_TYPE_MESSAGE.pattern(),
+                            LogDomain.RUNTIME,
+                            layer.getType(),
+                            e.getMessage()
+                    );
+                    stop();
+                }
             }
+        } finally {
+            TimingWheel.unbind();
         }
     }
 
@@ -105,28 +120,48 @@ public class SingleThreadLayerExecutor implements LayerExecutor {
      * - outbound 흐름은 inbound와 동일한 실행 모델을 따른다
      */
     private void consumeOutbound(Layer layer) {
-        while (running && !Thread.currentThread().isInterrupted()) {
-            try {
-                Chunk chunk = layer.getOutboundQueue().take();
-                layer.executeOutbound(chunk);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                break;
-            } catch (LayerException e) {
-                LayerExceptionLogger.log(e, layer, log);
-                if (e.action() == ExceptionAction.STOP) stop();
-            } catch (Exception e) {
-                log.error(
-                        LogTemplate.DOMAIN_TYPE_MESSAGE.pattern(),
-                        LogDomain.RUNTIME,
-                        layer.getType(),
-                        e.getMessage()
-                );
-                stop();
+        TimingWheel wheel = new TimingWheel();
+        wheel.bind();
+        try {
+            while (running && !Thread.currentThread().isInterrupted()) {
+                try {
+                    Chunk chunk = next(layer.getOutboundQueue(), wheel);
+                    if (chunk != null) layer.executeOutbound(chunk);
+                    wheel.advance(System.nanoTime());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                } catch (LayerException e) {
+                    LayerExceptionLogger.log(e, layer, log);
+                    if (e.action() == ExceptionAction.STOP) stop();
+                } catch (Exception e) {
+                    log.error(
+                            LogTemplate.DOMAIN_TYPE_MESSAGE.pattern(),
+                            LogDomain.RUNTIME,
+                            layer.getType(),
+                            e.getMessage()
+                    );
+                    stop();
+                }
             }
+        } finally {
+            TimingWheel.unbind();
         }
     }
 
+    /**
+     * 큐에서 다음 Chunk를 꺼낸다.
+     *
+     * - 대기 중인 타이머가 있으면 다음 만료 확인 시점까지만 대기한다
+     *
+     * @return 꺼낸 Chunk, 대기 시간이 지나 타이머를 처리해야 하는 경우 {@code null}
+     */
+    private Chunk next(BlockingQueue<Chunk> queue, TimingWheel wheel) throws InterruptedException {
+        long wait = wheel.nanosUntilNext(System.nanoTime());
+        if (wait < 0) return queue.take();
+        return queue.poll(wait, TimeUnit.NANOSECONDS);
+    }
+
     /**
      * 현재 Executor가 실행 중인지 여부를 반환한다.
      */
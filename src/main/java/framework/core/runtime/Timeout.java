@@ -0,0 +1,50 @@
+package framework.core.runtime;
+
+/**
+ * {@link TimingWheel}에 등록되는 재사용 가능한 타이머 핸들
+ *
+ * - 연결별 재전송 타이머처럼 반복해서 설정/해제되는 타이머는 핸들 하나를 만들어 계속 재사용한다
+ * - 핸들 자체가 슬롯의 이중 연결 리스트 노드이므로 등록/해제 시 객체를 할당하지 않는다
+ * - 한 시점에 하나의 휠에만 등록될 수 있으며, 휠을 소유한 스레드에서만 다룬다
+ */
+public final class Timeout {
+
+    /**
+     * 타이머 만료 시 휠을 소유한 스레드에서 호출되는 콜백
+     *
+     * - 콜백 안에서 같은 핸들을 다시 등록할 수 있다
+     */
+    @FunctionalInterface
+    public interface Handler {
+        void onTimeout(long nowNanos);
+    }
+
+    final Handler handler;
+
+    TimingWheel wheel;
+    Timeout prev;
+    Timeout next;
+    int bucket = -1;
+    long expires;
+
+    public Timeout(Handler handler) {
+        if (handler == null) throw new NullPointerException("handler cannot be null");
+        this.handler = handler;
+    }
+
+    /**
+     * 타이머가 등록되어 만료를 기다리는 중인지 여부를 반환한다.
+     */
+    public boolean isPending() {
+        return bucket >= 0;
+    }
+
+    /**
+     * 등록된 타이머를 해제한다.
+     *
+     * @return 대기 중이던 타이머가 해제되었다면 {@code true}
+     */
+    public boolean cancel() {
+        return wheel != null && wheel.cancel(this);
+    }
+}
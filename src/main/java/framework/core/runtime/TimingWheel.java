@@ -0,0 +1,265 @@
+package framework.core.runtime;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 실행자 스레드 하나가 소유하는 계층형 해시 타이밍 휠
+ *
+ * - 재전송, 단편 재조립 만료, ARP aging, TIME_WAIT 등 수명이 짧고 수가 많은 프로토콜 타이머를 다룬다
+ * - 64칸 휠 {@value #LEVELS}단으로 구성되며, 등록/해제는 타이머 수와 무관하게 O(1)이다
+ * - 하위 휠이 한 바퀴 돌 때마다 상위 휠의 슬롯 하나를 하위 휠로 내려 재배치한다 (cascade)
+ * - 타이머는 {@link Timeout} 핸들을 재사용하므로 등록 시 객체를 할당하지 않는다
+ *
+ * <p>
+ * 만료 정밀도는 tick 단위이며, 타이머는 마감 시각 이후 첫 tick에서 실행된다.
+ * 휠의 표현 범위를 넘는 타이머는 최상위 휠에 두었다가 cascade 시 다시 배치한다.
+ * <br>
+ * 동기화하지 않으므로 휠을 소유한 스레드에서만 사용해야 한다.
+ * {@link SingleThreadLayerExecutor}는 처리 스레드마다 휠을 하나씩 두고 큐 대기와 같은 루프에서 구동하며,
+ * 그 스레드에서 실행되는 Layer 코드는 {@link #current()}로 휠을 얻는다.
+ */
+public final class TimingWheel {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    static final int LEVELS = 4;
+    private static final long RANGE = 1L << (SLOT_BITS * LEVELS);
+
+    /** 만료 처리 중인 타이머를 담는 별도 리스트의 인덱스 */
+    private static final int EXPIRING = SLOTS * LEVELS;
+
+    private static final ThreadLocal<TimingWheel> CURRENT = new ThreadLocal<>();
+
+    private final long tickNanos;
+    private final long origin;
+    private final Timeout[] heads = new Timeout[SLOTS * LEVELS + 1];
+    private final long[] occupied = new long[LEVELS];
+
+    /** 다음으로 처리할 tick */
+    private long tick;
+    private int size;
+
+    /**
+     * 1ms tick 휠을 생성한다.
+     */
+    public TimingWheel() {
+        this(TimeUnit.MILLISECONDS.toNanos(1), System.nanoTime());
+    }
+
+    /**
+     * @param tickNanos 휠 한 칸의 시간 간격
+     * @param nowNanos  휠의 기준 시각
+     */
+    public TimingWheel(long tickNanos, long nowNanos) {
+        if (tickNanos <= 0)
+            throw new IllegalArgumentException("tickNanos must be positive");
+        this.tickNanos = tickNanos;
+        this.origin = nowNanos;
+    }
+
+    /**
+     * 현재 스레드가 소유한 휠을 반환한다.
+     *
+     * @throws IllegalStateException 휠을 구동하는 실행자 스레드가 아닌 경우
+     */
+    public static TimingWheel current() {
+        TimingWheel wheel = CURRENT.get();
+        if (wheel == null)
+            throw new IllegalStateException("no timing wheel is bound to " + Thread.currentThread().getName());
+        return wheel;
+    }
+
+    /**
+     * 휠을 현재 스레드에 연결한다.
+     */
+    void bind() {
+        CURRENT.set(this);
+    }
+
+    /**
+     * 현재 스레드의 휠 연결을 해제한다.
+     */
+    static void unbind() {
+        CURRENT.remove();
+    }
+
+    /**
+     * 현재 시각 기준으로 타이머를 등록한다.
+     *
+     * @see #schedule(Timeout, long, long)
+     */
+    public void schedule(Timeout timeout, long delayNanos) {
+        schedule(timeout, delayNanos, System.nanoTime());
+    }
+
+    /**
+     * 타이머를 등록한다.
+     *
+     * - 이미 대기 중인 핸들이면 기존 마감 시각을 취소하고 새로 등록한다
+     *
+     * @param timeout    등록할 핸들
+     * @param delayNanos {@code nowNanos} 기준 만료까지의 시간
+     * @param nowNanos   현재 시각
+     * @throws IllegalStateException 핸들이 다른 휠에 등록되어 있는 경우
+     */
+    public void schedule(Timeout timeout, long delayNanos, long nowNanos) {
+        if (timeout.wheel != null && timeout.wheel != this && timeout.isPending())
+            throw new IllegalStateException("timeout is pending on another wheel");
+        if (timeout.isPending()) unlink(timeout);
+        else size++;
+
+        long deadline = nowNanos + Math.max(0, delayNanos) - origin;
+        timeout.wheel = this;
+        timeout.expires = Math.max(tick, -Math.floorDiv(-deadline, tickNanos));
+        link(timeout);
+    }
+
+    /**
+     * 대기 중인 타이머를 해제한다.
+     *
+     * @return 대기 중이던 타이머가 해제되었다면 {@code true}
+     */
+    public boolean cancel(Timeout timeout) {
+        if (timeout.wheel != this || !timeout.isPending()) return false;
+        unlink(timeout);
+        size--;
+        return true;
+    }
+
+    /**
+     * 주어진 시각까지 지난 tick을 처리하고 마감된 타이머를 실행한다.
+     *
+     * - 콜백에서 발생한 예외는 호출자에게 전파되며, 함께 만료된 나머지 타이머는 다음 호출에서 실행된다
+     *
+     * @param nowNanos 현재 시각
+     * @return 실행된 타이머 수
+     */
+    public int advance(long nowNanos) {
+        long target = Math.floorDiv(nowNanos - origin, tickNanos);
+        int fired = fireExpiring(nowNanos);
+        while (tick <= target) {
+            if (size == 0) {
+                tick = target + 1;
+                break;
+            }
+            int index = (int) tick & SLOT_MASK;
+            if (index == 0) cascade(1);
+
+            if (heads[index] == null) {
+                // 빈 슬롯은 다음 사용 중인 슬롯 또는 다음 cascade 시점까지 건너뛴다
+                long bits = occupied[0] >>> index;
+                long skip = bits == 0 ? SLOTS - index : Long.numberOfTrailingZeros(bits);
+                tick = Math.min(tick + skip, target + 1);
+                continue;
+            }
+
+            // 콜백이 같은 슬롯에 다시 등록하더라도 이번 tick에 실행되지 않도록 슬롯을 분리한 뒤 실행한다
+            Timeout timeout = heads[index];
+            heads[index] = null;
+            occupied[0] &= ~(1L << index);
+            heads[EXPIRING] = timeout;
+            for (; timeout != null; timeout = timeout.next) timeout.bucket = EXPIRING;
+            tick++;
+            fired += fireExpiring(nowNanos);
+        }
+        return fired;
+    }
+
+    private int fireExpiring(long nowNanos) {
+        int fired = 0;
+        Timeout timeout;
+        while ((timeout = heads[EXPIRING]) != null) {
+            unlink(timeout);
+            size--;
+            fired++;
+            timeout.handler.onTimeout(nowNanos);
+        }
+        return fired;
+    }
+
+    /**
+     * 다음 만료 확인이 필요한 시각까지 남은 시간을 반환한다.
+     *
+     * - 실행자는 이 시간만큼만 큐에서 대기한 뒤 {@link #advance(long)}를 호출한다
+     * - 상위 휠의 타이머는 cascade 시점에만 위치가 확정되므로, 하위 휠이 한 바퀴 도는 시점을 넘지 않는다
+     *
+     * @param nowNanos 현재 시각
+     * @return 남은 시간, 등록된 타이머가 없으면 {@code -1}
+     */
+    public long nanosUntilNext(long nowNanos) {
+        if (size == 0) return -1;
+        int index = (int) tick & SLOT_MASK;
+        long ticks = SLOTS - index;
+        long bits = Long.rotateRight(occupied[0], index);
+        if (bits != 0) ticks = Math.min(ticks, Long.numberOfTrailingZeros(bits));
+        long due = origin + (tick + ticks) * tickNanos;
+        return Math.max(0, due - nowNanos);
+    }
+
+    /**
+     * 등록되어 대기 중인 타이머 수를 반환한다.
+     */
+    public int size() {
+        return size;
+    }
+
+    public long tickNanos() {
+        return tickNanos;
+    }
+
+    /**
+     * 상위 휠의 현재 슬롯을 비우고, 각 타이머를 남은 시간에 맞는 휠에 다시 배치한다.
+     *
+     * - 상위 휠의 슬롯도 한 바퀴를 돌았다면 그 위의 휠을 먼저 내린다
+     */
+    private void cascade(int level) {
+        if (level >= LEVELS) return;
+        int index = (int) (tick >>> (SLOT_BITS * level)) & SLOT_MASK;
+        if (index == 0) cascade(level + 1);
+
+        int bucket = level * SLOTS + index;
+        Timeout timeout = heads[bucket];
+        heads[bucket] = null;
+        occupied[level] &= ~(1L << index);
+        while (timeout != null) {
+            Timeout next = timeout.next;
+            link(timeout);
+            timeout = next;
+        }
+    }
+
+    private void link(Timeout timeout) {
+        long expires = timeout.expires;
+        long delta = expires - tick;
+        int level;
+        if (delta >= RANGE) {
+            level = LEVELS - 1;
+            expires = tick + RANGE - 1;
+        } else {
+            level = delta < SLOTS ? 0 : (63 - Long.numberOfLeadingZeros(delta)) / SLOT_BITS;
+        }
+        int index = (int) (expires >>> (SLOT_BITS * level)) & SLOT_MASK;
+        int bucket = level * SLOTS + index;
+
+        Timeout head = heads[bucket];
+        timeout.prev = null;
+        timeout.next = head;
+        if (head != null) head.prev = timeout;
+        heads[bucket] = timeout;
+        timeout.bucket = bucket;
+        occupied[level] |= 1L << index;
+    }
+
+    private void unlink(Timeout timeout) {
+        int bucket = timeout.bucket;
+        if (timeout.prev != null) timeout.prev.next = timeout.next;
+        else heads[bucket] = timeout.next;
+        if (timeout.next != null) timeout.next.prev = timeout.prev;
+        if (heads[bucket] == null && bucket != EXPIRING)
+            occupied[bucket >>> SLOT_BITS] &= ~(1L << (bucket & SLOT_MASK));
+        timeout.prev = null;
+        timeout.next = null;
+        timeout.bucket = -1;
+    }
+}
@@ -0,0 +1,398 @@
+package framework.internet.arp;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import framework.core.data.Chunk;
+
+/**
+ * IPv4 주소를 MAC 주소로 해석하는 ARP 이웃 캐시
+ *
+ * - 이웃 항목은 원시 {@code int} IPv4 주소를 키로 하는 open addressing 테이블에 저장된다
+ * - 조회({@link #lookup(int)}, {@link #resolve(int, Chunk, long)})는 락 없이 수행되며,
+ *   항목 추가/제거만 writer 락으로 직렬화된다
+ * - 미해결 이웃으로 향하는 {@link Chunk}는 이웃별 소규모 큐에 대기했다가 응답 수신 시 전송된다
+ * - 어떤 메서드도 블로킹하지 않으므로 캐시 미스나 ARP storm이 Ethernet 계층 outbound 큐를 멈추지 않는다
+ *
+ * <p>
+ * 항목 상태는 INCOMPLETE → REACHABLE → STALE → (제거) 순으로 전이되며,
+ * 시간 경과에 따른 전이는 {@link #expire(long)} 호출 시점에 반영된다.
+ */
+public final class ArpCache {
+
+    /**
+     * MAC 주소가 해석되지 않았음을 나타내는 반환값
+     */
+    public static final long UNRESOLVED = -1L;
+
+    /**
+     * ARP 요청 전송을 담당하는 계약
+     *
+     * - 구현체는 요청을 outbound 큐에 넣는 등 즉시 반환해야 한다
+     */
+    @FunctionalInterface
+    public interface Requester {
+        void request(int targetIp);
+    }
+
+    /**
+     * 해석이 완료된 대기 {@link Chunk}를 전달받는 계약
+     */
+    @FunctionalInterface
+    public interface PendingSink {
+        void transmit(Chunk chunk, long mac);
+    }
+
+    static final int INCOMPLETE = 0;
+    static final int REACHABLE = 1;
+    static final int STALE = 2;
+
+    private static final VarHandle SLOTS = MethodHandles.arrayElementVarHandle(Neighbor[].class);
+    private static final Neighbor TOMBSTONE = new Neighbor(0);
+
+    private final ArpConfig config;
+    private final Requester requester;
+    private final PendingSink sink;
+
+    /**
+     * 이웃 테이블
+     *
+     * - 재구성 시 새 배열로 교체되므로 조회 스레드가 최신 배열을 보도록 volatile로 선언된다
+     * - 슬롯은 빈 칸(null), {@link #TOMBSTONE}, 또는 IP가 고정된 {@link Neighbor}만을 가진다
+     */
+    private volatile Neighbor[] table;
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private int size;
+    private int tombstones;
+
+    /**
+     * 전체 ARP 요청 전송률 제한 (GCRA 방식의 다음 허용 시각)
+     */
+    private final AtomicLong nextRequestNanos = new AtomicLong(Long.MIN_VALUE);
+    private final long requestIntervalNanos;
+    private final long requestBurstNanos;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder pendingDrops = new LongAdder();
+    private final LongAdder requestsSent = new LongAdder();
+    private final LongAdder requestsSuppressed = new LongAdder();
+
+    public ArpCache(ArpConfig config, Requester requester, PendingSink sink) {
+        this.config = Objects.requireNonNull(config, "config cannot be null");
+        this.requester = Objects.requireNonNull(requester, "requester cannot be null");
+        this.sink = Objects.requireNonNull(sink, "sink cannot be null");
+        this.table = new Neighbor[tableSizeFor(config.capacity())];
+        this.requestIntervalNanos = 1_000_000_000L / config.requestsPerSecond();
+        this.requestBurstNanos = 1_000_000_000L;
+    }
+
+    /**
+     * 해석된 MAC 주소를 반환한다.
+     *
+     * - 락과 객체 할당 없이 수행된다
+     * - STALE 항목의 주소도 사용 가능한 값으로 반환한다
+     *
+     * @param ip 대상 IPv4 주소
+     * @return 48비트 MAC 주소, 해석되지 않았다면 {@link #UNRESOLVED}
+     */
+    public long lookup(int ip) {
+        Neighbor n = find(table, ip);
+        if (n == null || n.state == INCOMPLETE) return UNRESOLVED;
+        return n.mac;
+    }
+
+    /**
+     * 대상 IP의 MAC 주소를 해석하고, 해석되지 않았다면 {@link Chunk}를 대기 큐에 넣는다.
+     *
+     * - 해석된 경우 {@code chunk}는 호출자가 직접 전송해야 한다
+     * - 미해결인 경우 {@code chunk}는 대기 큐에 보관되며, 큐가 가득 차면 가장 오래된 항목이 폐기된다
+     * - 필요한 경우 전송률 제한 안에서 ARP 요청을 보낸다
+     *
+     * @param ip    대상 IPv4 주소
+     * @param chunk 전송할 {@link Chunk}
+     * @param now   현재 시각 ({@link System#nanoTime()})
+     * @return 48비트 MAC 주소, 대기 큐에 들어간 경우 {@link #UNRESOLVED}
+     */
+    public long resolve(int ip, Chunk chunk, long now) {
+        Objects.requireNonNull(chunk, "chunk cannot be null");
+        Neighbor n = find(table, ip);
+        if (n != null) {
+            int state = n.state;
+            if (state == REACHABLE) {
+                hits.increment();
+                return n.mac;
+            }
+            if (state == STALE) {
+                hits.increment();
+                synchronized (n) { probe(n, now); }
+                return n.mac;
+            }
+        }
+        misses.increment();
+
+        if (n == null) n = insert(ip, now);
+        if (n == null) {
+            // 테이블이 가득 찬 경우 대기시키지 않고 폐기한다
+            pendingDrops.increment();
+            return UNRESOLVED;
+        }
+
+        synchronized (n) {
+            // 응답 처리와 경합한 경우 이미 해석되었거나, 만료 처리와 경합한 경우 제거되었을 수 있다
+            if (n.state != INCOMPLETE) return n.mac;
+            if (n.removed) {
+                pendingDrops.increment();
+                return UNRESOLVED;
+            }
+            if (config.pendingLimit() == 0) {
+                pendingDrops.increment();
+            } else {
+                if (n.pending.size() >= config.pendingLimit()) {
+                    n.pending.poll();
+                    pendingDrops.increment();
+                }
+                n.pending.add(chunk);
+            }
+            probe(n, now);
+        }
+        return UNRESOLVED;
+    }
+
+    /**
+     * ARP 응답 또는 요청에서 얻은 (IP, MAC) 매핑을 반영한다.
+     *
+     * - 이미 항목이 있다면 갱신하고 REACHABLE 상태로 전이한다 (RFC 826 merge)
+     * - {@code create}가 참일 때만 새 항목을 만든다 (자신을 대상으로 한 패킷 등)
+     * - 대기 중이던 {@link Chunk}는 락을 해제한 뒤 {@link PendingSink}로 전달된다
+     *
+     * @param ip     발신자 IPv4 주소
+     * @param mac    발신자 48비트 MAC 주소
+     * @param now    현재 시각 ({@link System#nanoTime()})
+     * @param create 항목이 없을 때 새로 만들지 여부
+     */
+    public void update(int ip, long mac, long now, boolean create) {
+        Neighbor n = find(table, ip);
+        if (n == null) {
+            if (!create) return;
+            n = insert(ip, now);
+            if (n == null) return;
+        }
+
+        Chunk[] flushed;
+        synchronized (n) {
+            n.mac = mac;
+            n.updatedNanos = now;
+            n.probes = 0;
+            n.state = REACHABLE;
+            if (n.pending.isEmpty()) return;
+            flushed = n.pending.toArray(new Chunk[0]);
+            n.pending.clear();
+        }
+        for (Chunk chunk : flushed) sink.transmit(chunk, mac);
+    }
+
+    /**
+     * 시간 경과에 따른 상태 전이와 재전송, 항목 제거를 수행한다.
+     *
+     * - REACHABLE 항목은 {@code reachableNanos} 후 STALE로 전이한다
+     * - STALE 항목은 STALE로 전이한 시점부터 {@code staleNanos} 후 제거된다
+     * - INCOMPLETE 항목은 재전송하며, {@code maxProbes}회 후에도 응답이 없으면 대기 큐와 함께 제거된다
+     *
+     * @param now 현재 시각 ({@link System#nanoTime()})
+     */
+    public void expire(long now) {
+        Neighbor[] snapshot = table;
+        for (int i = 0; i < snapshot.length; i++) {
+            Neighbor n = (Neighbor) SLOTS.getAcquire(snapshot, i);
+            if (n == null || n == TOMBSTONE) continue;
+
+            boolean remove = false;
+            synchronized (n) {
+                long age = now - n.updatedNanos;
+                switch (n.state) {
+                    case REACHABLE -> {
+                        if (age >= config.reachableNanos()) {
+                            n.state = STALE;
+                            n.staleSinceNanos = now;
+                        }
+                    }
+                    case STALE -> {
+                        remove = now - n.staleSinceNanos >= config.staleNanos();
+                        n.removed = remove;
+                    }
+                    default -> {
+                        if (now - n.lastProbeNanos >= config.retransmitNanos()) {
+                            if (n.probes >= config.maxProbes()) {
+                                pendingDrops.add(n.pending.size());
+                                n.pending.clear();
+                                n.removed = true;
+                                remove = true;
+                            } else {
+                                probe(n, now);
+                            }
+                        }
+                    }
+                }
+            }
+            if (remove) delete(n);
+        }
+    }
+
+    /**
+     * 항목 수를 반환한다.
+     */
+    public int size() {
+        writeLock.lock();
+        try {
+            return size;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public long hits() { return hits.sum(); }
+    public long misses() { return misses.sum(); }
+    public long pendingDrops() { return pendingDrops.sum(); }
+    public long requestsSent() { return requestsSent.sum(); }
+    public long requestsSuppressed() { return requestsSuppressed.sum(); }
+
+    /**
+     * 재전송 간격과 최대 횟수, 전체 전송률 제한을 모두 만족하면 ARP 요청을 보낸다.
+     *
+     * - 호출자는 {@code n}의 모니터를 보유해야 한다
+     */
+    private void probe(Neighbor n, long now) {
+        if (n.probes > 0 && now - n.lastProbeNanos < config.retransmitNanos()) return;
+        if (n.probes >= config.maxProbes()) return;
+        if (!tryAcquireRequest(now)) {
+            requestsSuppressed.increment();
+            return;
+        }
+        n.probes++;
+        n.lastProbeNanos = now;
+        requestsSent.increment();
+        requester.request(n.ip);
+    }
+
+    private boolean tryAcquireRequest(long now) {
+        while (true) {
+            long next = nextRequestNanos.get();
+            long base = Math.max(next, now - requestBurstNanos);
+            if (base - now > 0) return false;
+            if (nextRequestNanos.compareAndSet(next, base + requestIntervalNanos)) return true;
+        }
+    }
+
+    private static Neighbor find(Neighbor[] slots, int ip) {
+        int m = slots.length - 1;
+        for (int i = hash(ip) & m; ; i = (i + 1) & m) {
+            Neighbor n = (Neighbor) SLOTS.getAcquire(slots, i);
+            if (n == null) return null;
+            if (n != TOMBSTONE && n.ip == ip) return n;
+        }
+    }
+
+    /**
+     * INCOMPLETE 상태의 새 항목을 추가한다.
+     *
+     * @return 추가되었거나 이미 존재하던 항목, 용량이 가득 찬 경우 {@code null}
+     */
+    private Neighbor insert(int ip, long now) {
+        writeLock.lock();
+        try {
+            Neighbor existing = find(table, ip);
+            if (existing != null) return existing;
+            if (size >= config.capacity()) return null;
+            if ((size + tombstones + 1) * 2 > table.length) rebuild();
+
+            Neighbor n = new Neighbor(ip);
+            n.updatedNanos = now;
+            Neighbor[] slots = table;
+            int m = slots.length - 1;
+            int i = hash(ip) & m;
+            while (slots[i] != null) i = (i + 1) & m;
+            SLOTS.setRelease(slots, i, n);
+            size++;
+            return n;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void delete(Neighbor n) {
+        writeLock.lock();
+        try {
+            Neighbor[] slots = table;
+            int m = slots.length - 1;
+            for (int i = hash(n.ip) & m; slots[i] != null; i = (i + 1) & m) {
+                if (slots[i] == n) {
+                    // 탐사 체인이 끊기지 않도록 빈 칸 대신 tombstone을 남긴다
+                    SLOTS.setRelease(slots, i, TOMBSTONE);
+                    size--;
+                    tombstones++;
+                    return;
+                }
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * tombstone을 제거한 새 테이블을 만들어 교체한다.
+     *
+     * - 호출자는 writer 락을 보유해야 한다
+     * - 기존 테이블을 읽던 조회 스레드는 교체 전 상태를 그대로 관찰한다
+     */
+    private void rebuild() {
+        Neighbor[] old = table;
+        Neighbor[] fresh = new Neighbor[Math.max(old.length, tableSizeFor(size * 2))];
+        int m = fresh.length - 1;
+        for (Neighbor n : old) {
+            if (n == null || n == TOMBSTONE) continue;
+            int i = hash(n.ip) & m;
+            while (fresh[i] != null) i = (i + 1) & m;
+            fresh[i] = n;
+        }
+        tombstones = 0;
+        table = fresh;
+    }
+
+    private static int tableSizeFor(int capacity) {
+        int n = Integer.highestOneBit(Math.max(capacity, 8) * 2 - 1) << 1;
+        return Math.max(n, 16);
+    }
+
+    private static int hash(int ip) {
+        int h = ip * 0x9E37_79B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * 이웃 항목
+     *
+     * - {@code ip}는 생성 이후 변하지 않으므로 조회 스레드가 락 없이 비교할 수 있다
+     * - 상태와 주소는 조회 스레드를 위해 volatile로 선언되며, 변경은 항목 모니터 안에서 수행된다
+     */
+    static final class Neighbor {
+        final int ip;
+        volatile long mac = UNRESOLVED;
+        volatile int state = INCOMPLETE;
+        long updatedNanos;
+        long staleSinceNanos;
+        long lastProbeNanos;
+        int probes;
+        boolean removed;
+        final ArrayDeque<Chunk> pending = new ArrayDeque<>(4);
+
+        Neighbor(int ip) {
+            this.ip = ip;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package framework.internet.arp;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ArpCache} 동작에 필요한 설정을 표현하는 설정 객체 <br>
+ *
+ * 캐시 생성 시 불변 설정 값으로 사용된다.
+ * <p>기본 설정 값은 다음과 같다.</p>
+ *
+ * <table border="1">
+ *   <tr>
+ *     <th>항목</th>
+ *     <th>기본값</th>
+ *     <th>설명</th>
+ *   </tr>
+ *   <tr>
+ *     <td>{@code capacity}</td>
+ *     <td>{@code 4096}</td>
+ *     <td>보관 가능한 이웃 항목의 최대 개수</td>
+ *   </tr>
+ *   <tr>
+ *     <td>{@code pendingLimit}</td>
+ *     <td>{@code 8}</td>
+ *     <td>미해결 이웃 하나당 대기시킬 수 있는 {@code Chunk} 수</td>
+ *   </tr>
+ *   <tr>
+ *     <td>{@code reachableNanos}</td>
+ *     <td>{@code 30s}</td>
+ *     <td>응답 수신 후 REACHABLE 상태가 유지되는 시간</td>
+ *   </tr>
+ *   <tr>
+ *     <td>{@code staleNanos}</td>
+ *     <td>{@code 60s}</td>
+ *     <td>REACHABLE에서 STALE로 전이한 항목이 제거되기까지의 시간</td>
+ *   </tr>
+ *   <tr>
+ *     <td>{@code retransmitNanos}</td>
+ *     <td>{@code 1s}</td>
+ *     <td>같은 이웃에 대한 ARP 요청 재전송 간격</td>
+ *   </tr>
+ *   <tr>
+ *     <td>{@code maxProbes}</td>
+ *     <td>{@code 3}</td>
+ *     <td>응답이 없을 때 포기하기 전까지의 요청 횟수</td>
+ *   </tr>
+ *   <tr>
+ *     <td>{@code requestsPerSecond}</td>
+ *     <td>{@code 100}</td>
+ *     <td>전체 ARP 요청 전송률 상한 (ARP storm 방지)</td>
+ *   </tr>
+ * </table>
+ */
+public final class ArpConfig {
+
+    private final int capacity;
+    private final int pendingLimit;
+    private final long reachableNanos;
+    private final long staleNanos;
+    private final long retransmitNanos;
+    private final int maxProbes;
+    private final int requestsPerSecond;
+
+    private ArpConfig(Builder builder) {
+        this.capacity = builder.capacity;
+        this.pendingLimit = builder.pendingLimit;
+        this.reachableNanos = builder.reachableNanos;
+        this.staleNanos = builder.staleNanos;
+        this.retransmitNanos = builder.retransmitNanos;
+        this.maxProbes = builder.maxProbes;
+        this.requestsPerSecond = builder.requestsPerSecond;
+    }
+
+    public static class Builder {
+        private int capacity = 4096;
+        private int pendingLimit = 8;
+        private long reachableNanos = TimeUnit.SECONDS.toNanos(30);
+        private long staleNanos = TimeUnit.SECONDS.toNanos(60);
+        private long retransmitNanos = TimeUnit.SECONDS.toNanos(1);
+        private int maxProbes = 3;
+        private int requestsPerSecond = 100;
+
+        public Builder capacity(int capacity) {
+            this.capacity = capacity;
+            return this;
+        }
+
+        public Builder pendingLimit(int pendingLimit) {
+            this.pendingLimit = pendingLimit;
+            return this;
+        }
+
+        public Builder reachableNanos(long reachableNanos) {
+            this.reachableNanos = reachableNanos;
+            return this;
+        }
+
+        public Builder staleNanos(long staleNanos) {
+            this.staleNanos = staleNanos;
+            return this;
+        }
+
+        public Builder retransmitNanos(long retransmitNanos) {
+            this.retransmitNanos = retransmitNanos;
+            return this;
+        }
+
+        public Builder maxProbes(int maxProbes) {
+            this.maxProbes = maxProbes;
+            return this;
+        }
+
+        public Builder requestsPerSecond(int requestsPerSecond) {
+            this.requestsPerSecond = requestsPerSecond;
+            return this;
+        }
+
+        public ArpConfig build() {
+            validate();
+            return new ArpConfig(this);
+        }
+
+        private void validate() {
+            if (capacity <= 0)
+                throw new IllegalArgumentException("capacity must be positive");
+            if (pendingLimit < 0)
+                throw new IllegalArgumentException("pendingLimit must not be negative");
+            if (reachableNanos <= 0 || staleNanos <= 0 || retransmitNanos <= 0)
+                throw new IllegalArgumentException("timeouts must be positive");
+            if (maxProbes <= 0)
+                throw new IllegalArgumentException("maxProbes must be positive");
+            if (requestsPerSecond <= 0)
+                throw new IllegalArgumentException("requestsPerSecond must be positive");
+        }
+    }
+
+    public int capacity() { return capacity; }
+    public int pendingLimit() { return pendingLimit; }
+    public long reachableNanos() { return reachableNanos; }
+    public long staleNanos() { return staleNanos; }
+    public long retransmitNanos() { return retransmitNanos; }
+    public int maxProbes() { return maxProbes; }
+    public int requestsPerSecond() { return requestsPerSecond; }
+}
@@ -0,0 +1,111 @@
+package framework.internet.arp;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+/**
+ * Ethernet / IPv4 ARP 패킷(RFC 826)의 필드를 읽고 쓰는 유틸리티 클래스입니다.
+ * <br>
+ * 별도의 객체를 만들지 않고 전달받은 바이트 배열의 오프셋에서 직접 필드를 읽고 씁니다.
+ * MAC 주소는 하위 48비트를 사용하는 {@code long}, IPv4 주소는 {@code int}로 표현합니다.
+ */
+public final class ArpPacket {
+    public static final int LENGTH = 28;
+    public static final int OP_REQUEST = 1;
+    public static final int OP_REPLY = 2;
+
+    private static final int HTYPE_ETHERNET = 1;
+    private static final int PTYPE_IPV4 = 0x0800;
+
+    private static final int OFF_HTYPE = 0;
+    private static final int OFF_PTYPE = 2;
+    private static final int OFF_HLEN = 4;
+    private static final int OFF_PLEN = 5;
+    private static final int OFF_OPER = 6;
+    private static final int OFF_SHA = 8;
+    private static final int OFF_SPA = 14;
+    private static final int OFF_THA = 18;
+    private static final int OFF_TPA = 24;
+
+    private static final VarHandle SHORT_BE =
+            MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle INT_BE =
+            MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+
+    // Utility class, prevent instantiation
+    private ArpPacket() { }
+
+    /**
+     * Ethernet / IPv4 ARP 패킷인지 검사합니다.
+     * @param bytes  ARP 패킷이 담긴 배열
+     * @param offset ARP 헤더 시작 위치
+     * @param length 사용 가능한 길이
+     * @return 유효한 Ethernet / IPv4 ARP 패킷이면 {@code true}
+     */
+    public static boolean isValid(byte[] bytes, int offset, int length) {
+        if (length < LENGTH || offset < 0 || offset + LENGTH > bytes.length) return false;
+        return u16(bytes, offset + OFF_HTYPE) == HTYPE_ETHERNET
+                && u16(bytes, offset + OFF_PTYPE) == PTYPE_IPV4
+                && bytes[offset + OFF_HLEN] == 6
+                && bytes[offset + OFF_PLEN] == 4;
+    }
+
+    public static int operation(byte[] bytes, int offset) { return u16(bytes, offset + OFF_OPER); }
+    public static long senderMac(byte[] bytes, int offset) { return mac(bytes, offset + OFF_SHA); }
+    public static int senderIp(byte[] bytes, int offset) { return (int) INT_BE.get(bytes, offset + OFF_SPA); }
+    public static long targetMac(byte[] bytes, int offset) { return mac(bytes, offset + OFF_THA); }
+    public static int targetIp(byte[] bytes, int offset) { return (int) INT_BE.get(bytes, offset + OFF_TPA); }
+
+    /**
+     * ARP 요청을 기록합니다. 대상 MAC 주소는 0으로 채워집니다.
+     * @param out       기록할 배열
+     * @param offset    기록 시작 위치
+     * @param senderMac 자신의 MAC 주소
+     * @param senderIp  자신의 IPv4 주소
+     * @param targetIp  해석할 IPv4 주소
+     */
+    public static void writeRequest(byte[] out, int offset, long senderMac, int senderIp, int targetIp) {
+        write(out, offset, OP_REQUEST, senderMac, senderIp, 0L, targetIp);
+    }
+
+    /**
+     * ARP 응답을 기록합니다.
+     * @param out       기록할 배열
+     * @param offset    기록 시작 위치
+     * @param senderMac 자신의 MAC 주소
+     * @param senderIp  자신의 IPv4 주소
+     * @param targetMac 요청자의 MAC 주소
+     * @param targetIp  요청자의 IPv4 주소
+     */
+    public static void writeReply(byte[] out, int offset, long senderMac, int senderIp, long targetMac, int targetIp) {
+        write(out, offset, OP_REPLY, senderMac, senderIp, targetMac, targetIp);
+    }
+
+    private static void write(byte[] out, int offset, int op, long sha, int spa, long tha, int tpa) {
+        Objects.checkFromIndexSize(offset, LENGTH, out.length);
+        SHORT_BE.set(out, offset + OFF_HTYPE, (short) HTYPE_ETHERNET);
+        SHORT_BE.set(out, offset + OFF_PTYPE, (short) PTYPE_IPV4);
+        out[offset + OFF_HLEN] = 6;
+        out[offset + OFF_PLEN] = 4;
+        SHORT_BE.set(out, offset + OFF_OPER, (short) op);
+        putMac(out, offset + OFF_SHA, sha);
+        INT_BE.set(out, offset + OFF_SPA, spa);
+        putMac(out, offset + OFF_THA, tha);
+        INT_BE.set(out, offset + OFF_TPA, tpa);
+    }
+
+    private static int u16(byte[] bytes, int index) {
+        return (short) SHORT_BE.get(bytes, index) & 0xFFFF;
+    }
+
+    private static long mac(byte[] bytes, int index) {
+        return ((long) u16(bytes, index) << 32) | ((int) INT_BE.get(bytes, index + 2) & 0xFFFF_FFFFL);
+    }
+
+    private static void putMac(byte[] out, int index, long mac) {
+        SHORT_BE.set(out, index, (short) (mac >>> 32));
+        INT_BE.set(out, index + 2, (int) mac);
+    }
+}
@@ -0,0 +1,85 @@
+package framework.internet.route;
+
+import java.util.Arrays;
+
+/**
+ * {@link RoutingTable}에 한 번에 적용할 경로 추가/제거 요청을 모으는 배치
+ *
+ * - 요청은 {@code long} 하나로 인코딩되어 원시 배열에 누적된다
+ * - {@link #commit()} 시 요청 순서대로 테이블에 적용되며, 그 동안 조회는 중단되지 않는다
+ * - 스레드 안전하지 않으므로 하나의 writer 스레드에서만 사용한다
+ */
+public final class RouteBatch {
+
+    /**
+     * 제거 요청을 나타내는 비트
+     */
+    static final long REMOVE = 1L << 31;
+
+    private final RoutingTable table;
+    private long[] ops = new long[16];
+    private int count;
+
+    RouteBatch(RoutingTable table) {
+        this.table = table;
+    }
+
+    /**
+     * 경로 추가 요청을 누적한다.
+     *
+     * - 접두사의 호스트 비트는 무시된다
+     *
+     * @param prefix  IPv4 접두사
+     * @param length  접두사 길이 (0 ~ 32)
+     * @param nextHop next hop 식별자 (0 ~ {@link RoutingTable#MAX_NEXT_HOP})
+     */
+    public RouteBatch add(int prefix, int length, int nextHop) {
+        validateLength(length);
+        if (nextHop < 0 || nextHop > RoutingTable.MAX_NEXT_HOP)
+            throw new IllegalArgumentException("nextHop out of range: " + nextHop);
+        append(encode(prefix, length) | nextHop);
+        return this;
+    }
+
+    /**
+     * 경로 제거 요청을 누적한다.
+     *
+     * @param prefix IPv4 접두사
+     * @param length 접두사 길이 (0 ~ 32)
+     */
+    public RouteBatch remove(int prefix, int length) {
+        validateLength(length);
+        append(encode(prefix, length) | REMOVE);
+        return this;
+    }
+
+    /**
+     * 누적된 요청을 테이블에 적용하고 배치를 비운다.
+     */
+    public void commit() {
+        table.apply(ops, count);
+        count = 0;
+    }
+
+    /**
+     * 누적된 요청 수를 반환한다.
+     */
+    public int size() {
+        return count;
+    }
+
+    private void append(long op) {
+        if (count == ops.length) ops = Arrays.copyOf(ops, count * 2);
+        ops[count++] = op;
+    }
+
+    private static long encode(int prefix, int length) {
+        int normalized = prefix & RoutingTable.mask(length);
+        return ((normalized & 0xFFFF_FFFFL) << 32) | ((long) length << 24);
+    }
+
+    private static void validateLength(int length) {
+        if (length < 0 || length > 32)
+            throw new IllegalArgumentException("prefix length must be between 0 and 32: " + length);
+    }
+}
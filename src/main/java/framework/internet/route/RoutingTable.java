@@ -0,0 +1,378 @@
+package framework.internet.route;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DIR-24-8 구조의 IPv4 최장 접두사 일치(Longest Prefix Match) 라우팅 테이블
+ *
+ * - 상위 24비트로 {@code tbl24}를 직접 인덱싱하고, /25 이상 접두사가 있는 구간만
+ *   256칸짜리 {@code tbl8} 그룹으로 확장하여 최대 두 번의 배열 접근으로 조회한다
+ * - 모든 항목은 {@code int} 하나로 인코딩되어 원시 배열에 저장된다
+ * - 조회는 락 없이 수행되며, 갱신은 {@link RouteBatch} 단위로 단일 writer가 적용한다
+ *
+ * <p>
+ * 항목 인코딩
+ * <pre>
+ *   일반 항목 : [31] 0 | [30] VALID | [29..24] 접두사 길이 | [23..0] next hop
+ *   확장 항목 : [31] 1 | [30..0] tbl8 그룹 번호
+ * </pre>
+ *
+ * <p>
+ * 갱신 중에도 각 항목은 원자적으로 교체되므로 조회는 갱신 전 또는 후의 경로 중 하나를 반환한다.
+ * 더 이상 쓰이지 않는 tbl8 그룹은 진행 중인 조회가 끝날 수 있도록
+ * 유예 기간(grace period)이 지난 이후의 배치에서만 재사용된다.
+ * <br>
+ * 유예 기간은 조회 스레드의 실제 종료를 추적하지 않는 시간 기준 가정이다.
+ * {@code tbl24} 항목을 읽은 뒤 {@code tbl8} 그룹을 읽기 전에 유예 기간보다 오래 멈춘 조회 스레드
+ * (스케줄링 지연, GC safepoint 등)는 다른 접두사에 재사용된 그룹을 읽어 잘못된 next hop을 반환할 수 있다.
+ * 따라서 기본값은 이러한 지연보다 충분히 긴 {@link #DEFAULT_GRACE_PERIOD_NANOS}이며,
+ * 그룹 재사용이 늦어지는 대신 테이블이 더 많은 그룹을 할당할 수 있다.
+ */
+public final class RoutingTable {
+
+    /**
+     * 일치하는 경로가 없음을 나타내는 조회 결과
+     */
+    public static final int NO_ROUTE = -1;
+
+    /**
+     * 저장 가능한 next hop 식별자의 최댓값
+     */
+    public static final int MAX_NEXT_HOP = (1 << 24) - 1;
+
+    /**
+     * 해제된 tbl8 그룹을 재사용하기까지 기다리는 기본 유예 기간
+     */
+    public static final long DEFAULT_GRACE_PERIOD_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    private static final int TBL24_SIZE = 1 << 24;
+    private static final int GROUP_SIZE = 256;
+    private static final int INITIAL_GROUPS = 256;
+
+    private static final int EXTENDED = 0x8000_0000;
+    private static final int VALID = 0x4000_0000;
+    private static final int LENGTH_SHIFT = 24;
+    private static final int NEXT_HOP_MASK = 0x00FF_FFFF;
+
+    private static final VarHandle INTS = MethodHandles.arrayElementVarHandle(int[].class);
+
+    private final int[] tbl24 = new int[TBL24_SIZE];
+
+    /**
+     * 확장 그룹 배열
+     *
+     * - 용량이 부족하면 복사 후 교체되므로 조회 스레드가 최신 배열을 보도록 volatile로 선언된다
+     */
+    private volatile int[] tbl8 = new int[INITIAL_GROUPS * GROUP_SIZE];
+
+    /**
+     * 아래 필드는 writer 전용이며 {@code this} 모니터로 보호된다
+     */
+    private final PrefixMap prefixes = new PrefixMap();
+    private final ArrayDeque<Integer> freeGroups = new ArrayDeque<>();
+    private final List<long[]> quarantine = new ArrayList<>();
+    private final long gracePeriodNanos;
+    private int allocatedGroups;
+
+    public RoutingTable() {
+        this(DEFAULT_GRACE_PERIOD_NANOS);
+    }
+
+    /**
+     * @param gracePeriodNanos 해제된 tbl8 그룹을 재사용하기까지 기다리는 최소 시간.
+     *                         조회 스레드 하나가 두 배열 접근 사이에 멈출 수 있는 최대 시간보다 길어야 하며,
+     *                         {@code 0}은 조회와 갱신을 같은 스레드에서만 수행하는 경우에만 사용한다
+     */
+    public RoutingTable(long gracePeriodNanos) {
+        if (gracePeriodNanos < 0)
+            throw new IllegalArgumentException("gracePeriodNanos must not be negative");
+        this.gracePeriodNanos = gracePeriodNanos;
+    }
+
+    /**
+     * 목적지 주소에 대한 최장 접두사 일치 경로의 next hop을 반환한다.
+     *
+     * - 락과 객체 할당 없이 최대 두 번의 배열 접근으로 수행된다
+     *
+     * @param address 목적지 IPv4 주소
+     * @return next hop 식별자, 일치하는 경로가 없으면 {@link #NO_ROUTE}
+     */
+    public int lookup(int address) {
+        int entry = (int) INTS.getAcquire(tbl24, address >>> 8);
+        if ((entry & EXTENDED) != 0) {
+            int[] groups = tbl8;
+            entry = (int) INTS.getAcquire(groups, ((entry & ~EXTENDED) << 8) | (address & 0xFF));
+        }
+        return (entry & VALID) != 0 ? entry & NEXT_HOP_MASK : NO_ROUTE;
+    }
+
+    /**
+     * 새로운 갱신 배치를 생성한다.
+     */
+    public RouteBatch batch() {
+        return new RouteBatch(this);
+    }
+
+    /**
+     * 경로 하나를 추가하거나 next hop을 교체한다.
+     */
+    public void add(int prefix, int length, int nextHop) {
+        batch().add(prefix, length, nextHop).commit();
+    }
+
+    /**
+     * 경로 하나를 제거한다.
+     */
+    public void remove(int prefix, int length) {
+        batch().remove(prefix, length).commit();
+    }
+
+    /**
+     * 현재 등록된 경로 수를 반환한다.
+     */
+    public synchronized int size() {
+        return prefixes.size();
+    }
+
+    /**
+     * 배치에 누적된 갱신을 순서대로 적용한다.
+     *
+     * - 단일 writer 보장을 위해 테이블 모니터를 획득한다
+     */
+    synchronized void apply(long[] ops, int count) {
+        reclaimGroups();
+        for (int i = 0; i < count; i++) {
+            long op = ops[i];
+            int prefix = (int) (op >>> 32);
+            int length = (int) (op >>> 24) & 0x3F;
+            int nextHop = (int) op & NEXT_HOP_MASK;
+            if ((op & RouteBatch.REMOVE) != 0) removeRoute(prefix, length);
+            else addRoute(prefix, length, nextHop);
+        }
+    }
+
+    private void addRoute(int prefix, int length, int nextHop) {
+        prefixes.put(prefix, length, nextHop);
+        fill(prefix, length, encode(length, nextHop), false);
+    }
+
+    private void removeRoute(int prefix, int length) {
+        if (prefixes.remove(prefix, length) < 0) return;
+        fill(prefix, length, coveringEntry(prefix, length), true);
+        if (length > 24) collapse(prefix >>> 8);
+    }
+
+    /**
+     * 접두사 범위의 항목을 교체한다.
+     *
+     * - 추가 시 : 길이가 {@code length} 이하인(덜 구체적인) 항목만 덮어쓴다
+     * - 제거 시 : 길이가 정확히 {@code length}인(제거 대상) 항목만 덮어쓴다
+     */
+    private void fill(int prefix, int length, int entry, boolean exact) {
+        if (length <= 24) {
+            int start = prefix >>> 8;
+            int end = start + (1 << (24 - length));
+            for (int i = start; i < end; i++) {
+                int current = tbl24[i];
+                if ((current & EXTENDED) != 0) {
+                    int base = (current & ~EXTENDED) << 8;
+                    replaceRange(tbl8, base, base + GROUP_SIZE, entry, length, exact);
+                } else if (matches(current, length, exact)) {
+                    INTS.setRelease(tbl24, i, entry);
+                }
+            }
+            return;
+        }
+
+        int index = prefix >>> 8;
+        int current = tbl24[index];
+        if ((current & EXTENDED) == 0) {
+            if (exact) return;
+            int group = allocateGroup();
+            int[] groups = tbl8;
+            Arrays.fill(groups, group << 8, (group << 8) + GROUP_SIZE, current);
+            current = EXTENDED | group;
+            // 그룹 내용을 먼저 채운 뒤 tbl24 항목을 release로 공개한다
+            INTS.setRelease(tbl24, index, current);
+        }
+        int start = ((current & ~EXTENDED) << 8) | (prefix & 0xFF);
+        replaceRange(tbl8, start, start + (1 << (32 - length)), entry, length, exact);
+    }
+
+    private static void replaceRange(int[] array, int start, int end, int entry, int length, boolean exact) {
+        for (int i = start; i < end; i++) {
+            if (matches(array[i], length, exact)) INTS.setRelease(array, i, entry);
+        }
+    }
+
+    private static boolean matches(int current, int length, boolean exact) {
+        if (exact) return (current & VALID) != 0 && lengthOf(current) == length;
+        return (current & VALID) == 0 || lengthOf(current) <= length;
+    }
+
+    /**
+     * 제거된 접두사를 대신할, 더 짧은 접두사 중 가장 긴 경로의 항목을 반환한다.
+     */
+    private int coveringEntry(int prefix, int length) {
+        for (int l = length - 1; l >= 0; l--) {
+            int covering = prefix & mask(l);
+            int nextHop = prefixes.get(covering, l);
+            if (nextHop >= 0) return encode(l, nextHop);
+        }
+        return 0;
+    }
+
+    /**
+     * 그룹 내 모든 항목이 /24 이하 경로로만 채워졌다면 tbl24 항목으로 되돌리고 그룹을 격리한다.
+     */
+    private void collapse(int index) {
+        int current = tbl24[index];
+        if ((current & EXTENDED) == 0) return;
+        int group = current & ~EXTENDED;
+        int[] groups = tbl8;
+        int base = group << 8;
+        int first = groups[base];
+        if ((first & VALID) != 0 && lengthOf(first) > 24) return;
+        for (int i = base + 1; i < base + GROUP_SIZE; i++) {
+            if (groups[i] != first) return;
+        }
+        INTS.setRelease(tbl24, index, first);
+        quarantine.add(new long[] { group, System.nanoTime() });
+    }
+
+    private int allocateGroup() {
+        Integer free = freeGroups.poll();
+        if (free != null) return free;
+        int[] groups = tbl8;
+        if ((allocatedGroups + 1) * GROUP_SIZE > groups.length) {
+            // 배열 교체 후 확장 항목을 공개해야 조회 스레드가 범위를 벗어나지 않는다
+            tbl8 = Arrays.copyOf(groups, groups.length * 2);
+        }
+        return allocatedGroups++;
+    }
+
+    private void reclaimGroups() {
+        if (quarantine.isEmpty()) return;
+        long now = System.nanoTime();
+        quarantine.removeIf(q -> {
+            if (now - q[1] < gracePeriodNanos) return false;
+            freeGroups.add((int) q[0]);
+            return true;
+        });
+    }
+
+    private static int encode(int length, int nextHop) {
+        return VALID | (length << LENGTH_SHIFT) | nextHop;
+    }
+
+    private static int lengthOf(int entry) {
+        return (entry >>> LENGTH_SHIFT) & 0x3F;
+    }
+
+    static int mask(int length) {
+        return length == 0 ? 0 : -1 << (32 - length);
+    }
+
+    /**
+     * writer 전용 (접두사, 길이) → next hop 원시 해시 맵
+     *
+     * - 제거 시 대체 경로를 찾기 위한 원본 경로 집합을 보관한다
+     * - 선형 탐사와 backward-shift 삭제를 사용한다
+     */
+    private static final class PrefixMap {
+        private static final long EMPTY = -1L;
+
+        private long[] keys = newKeys(1024);
+        private int[] values = new int[1024];
+        private int size;
+
+        int size() { return size; }
+
+        int get(int prefix, int length) {
+            long key = key(prefix, length);
+            int m = keys.length - 1;
+            for (int i = hash(key) & m; ; i = (i + 1) & m) {
+                if (keys[i] == key) return values[i];
+                if (keys[i] == EMPTY) return -1;
+            }
+        }
+
+        void put(int prefix, int length, int value) {
+            if ((size + 1) * 2 > keys.length) resize();
+            long key = key(prefix, length);
+            int m = keys.length - 1;
+            for (int i = hash(key) & m; ; i = (i + 1) & m) {
+                if (keys[i] == key) {
+                    values[i] = value;
+                    return;
+                }
+                if (keys[i] == EMPTY) {
+                    keys[i] = key;
+                    values[i] = value;
+                    size++;
+                    return;
+                }
+            }
+        }
+
+        int remove(int prefix, int length) {
+            long key = key(prefix, length);
+            int m = keys.length - 1;
+            int i = hash(key) & m;
+            while (keys[i] != key) {
+                if (keys[i] == EMPTY) return -1;
+                i = (i + 1) & m;
+            }
+            int removed = values[i];
+            // backward-shift : 뒤따르는 항목을 빈 칸으로 당겨 탐사 체인을 유지한다
+            int hole = i;
+            for (int j = (i + 1) & m; keys[j] != EMPTY; j = (j + 1) & m) {
+                int home = hash(keys[j]) & m;
+                if (((j - home) & m) >= ((j - hole) & m)) {
+                    keys[hole] = keys[j];
+                    values[hole] = values[j];
+                    hole = j;
+                }
+            }
+            keys[hole] = EMPTY;
+            size--;
+            return removed;
+        }
+
+        private void resize() {
+            long[] oldKeys = keys;
+            int[] oldValues = values;
+            keys = newKeys(oldKeys.length * 2);
+            values = new int[oldKeys.length * 2];
+            int m = keys.length - 1;
+            for (int j = 0; j < oldKeys.length; j++) {
+                if (oldKeys[j] == EMPTY) continue;
+                int i = hash(oldKeys[j]) & m;
+                while (keys[i] != EMPTY) i = (i + 1) & m;
+                keys[i] = oldKeys[j];
+                values[i] = oldValues[j];
+            }
+        }
+
+        private static long[] newKeys(int capacity) {
+            long[] k = new long[capacity];
+            Arrays.fill(k, EMPTY);
+            return k;
+        }
+
+        private static long key(int prefix, int length) {
+            return ((prefix & 0xFFFF_FFFFL) << 6) | length;
+        }
+
+        private static int hash(long key) {
+            long h = key * 0x9E37_79B9_7F4A_7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+    }
+}
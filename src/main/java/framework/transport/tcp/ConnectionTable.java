@@ -0,0 +1,293 @@
+package framework.transport.tcp;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * TCP 연결을 (srcIp, dstIp, srcPort, dstPort) 4-tuple로 찾는 연결 테이블
+ *
+ * - 4-tuple은 두 개의 {@code long}으로 압축되어 원시 배열에 저장되므로 조회 시 키 객체를 만들지 않는다
+ * - 테이블은 여러 세그먼트로 나뉘며, 각 세그먼트는 선형 탐사 기반 open addressing 구조이다
+ * - 조회는 락 없이 수행되고, 추가/제거/재구성만 세그먼트 단위 락으로 직렬화된다
+ * - 재구성은 세그먼트마다 독립적으로 일어나므로 다른 세그먼트의 조회/갱신을 막지 않는다
+ *
+ * <p>
+ * 슬롯의 키는 값이 공개된 이후 변경되지 않는다.
+ * 제거된 슬롯은 tombstone으로 표시되며, 같은 키가 다시 추가될 때만 재사용되고
+ * 그 외에는 세그먼트 재구성 시 정리된다.
+ *
+ * @param <V> 연결 상태(TCB) 타입
+ */
+public final class ConnectionTable<V> {
+
+    private static final int SEGMENT_BITS = 6;
+    private static final int SEGMENTS = 1 << SEGMENT_BITS;
+    private static final int MIN_SEGMENT_CAPACITY = 16;
+
+    private static final VarHandle VALUES = MethodHandles.arrayElementVarHandle(Object[].class);
+    private static final Object TOMBSTONE = new Object();
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private final Segment<V>[] segments = new Segment[SEGMENTS];
+
+    public ConnectionTable() {
+        this(1024);
+    }
+
+    /**
+     * @param expectedConnections 예상 동시 연결 수 (초기 용량 산정용)
+     */
+    public ConnectionTable(int expectedConnections) {
+        if (expectedConnections < 0)
+            throw new IllegalArgumentException("expectedConnections must not be negative");
+        int perSegment = Math.max(MIN_SEGMENT_CAPACITY,
+                Integer.highestOneBit(Math.max(1, expectedConnections / SEGMENTS) * 2 - 1) << 1);
+        for (int i = 0; i < SEGMENTS; i++) segments[i] = new Segment<>(perSegment);
+    }
+
+    /**
+     * 4-tuple에 해당하는 연결을 반환한다.
+     *
+     * - 락과 객체 할당 없이 수행된다
+     *
+     * @return 연결 상태, 없으면 {@code null}
+     */
+    public V get(int srcIp, int dstIp, int srcPort, int dstPort) {
+        long k1 = addresses(srcIp, dstIp);
+        long k2 = ports(srcPort, dstPort);
+        long h = hash(k1, k2);
+        return segmentFor(h).get(k1, k2, (int) h);
+    }
+
+    /**
+     * 연결을 추가하거나 교체한다.
+     *
+     * @return 이전 연결 상태, 없으면 {@code null}
+     */
+    public V put(int srcIp, int dstIp, int srcPort, int dstPort, V value) {
+        if (value == null) throw new NullPointerException("value cannot be null");
+        long k1 = addresses(srcIp, dstIp);
+        long k2 = ports(srcPort, dstPort);
+        long h = hash(k1, k2);
+        return segmentFor(h).put(k1, k2, (int) h, value, false);
+    }
+
+    /**
+     * 연결이 없을 때만 추가한다.
+     *
+     * @return 이미 존재하던 연결 상태, 새로 추가되었다면 {@code null}
+     */
+    public V putIfAbsent(int srcIp, int dstIp, int srcPort, int dstPort, V value) {
+        if (value == null) throw new NullPointerException("value cannot be null");
+        long k1 = addresses(srcIp, dstIp);
+        long k2 = ports(srcPort, dstPort);
+        long h = hash(k1, k2);
+        return segmentFor(h).put(k1, k2, (int) h, value, true);
+    }
+
+    /**
+     * 연결을 제거한다.
+     *
+     * @return 제거된 연결 상태, 없으면 {@code null}
+     */
+    public V remove(int srcIp, int dstIp, int srcPort, int dstPort) {
+        long k1 = addresses(srcIp, dstIp);
+        long k2 = ports(srcPort, dstPort);
+        long h = hash(k1, k2);
+        return segmentFor(h).remove(k1, k2, (int) h);
+    }
+
+    /**
+     * 전체 연결 수를 반환한다.
+     *
+     * - 세그먼트별 값을 합산하므로 동시 갱신 중에는 근사값이다
+     */
+    public int size() {
+        int total = 0;
+        for (Segment<V> segment : segments) total += segment.size;
+        return total;
+    }
+
+    /**
+     * 모든 연결을 순회한다.
+     *
+     * - 세그먼트별 현재 테이블 스냅샷을 순회하며, 순회 중 변경은 반영되지 않을 수 있다
+     *
+     * @param action 4-tuple과 연결 상태를 전달받는 동작
+     */
+    public void forEach(ConnectionConsumer<? super V> action) {
+        for (Segment<V> segment : segments) segment.forEach(action);
+    }
+
+    /**
+     * {@link #forEach(ConnectionConsumer)}의 순회 동작
+     */
+    @FunctionalInterface
+    public interface ConnectionConsumer<V> {
+        void accept(int srcIp, int dstIp, int srcPort, int dstPort, V value);
+    }
+
+    private Segment<V> segmentFor(long hash) {
+        return segments[(int) (hash >>> (64 - SEGMENT_BITS))];
+    }
+
+    static long addresses(int srcIp, int dstIp) {
+        return ((long) srcIp << 32) | (dstIp & 0xFFFF_FFFFL);
+    }
+
+    static long ports(int srcPort, int dstPort) {
+        return ((long) (srcPort & 0xFFFF) << 16) | (dstPort & 0xFFFF);
+    }
+
+    /**
+     * 두 키를 섞은 64비트 해시 (상위 비트는 세그먼트, 하위 비트는 슬롯 선택에 사용)
+     */
+    static long hash(long k1, long k2) {
+        long h = k1 * 0x9E37_79B9_7F4A_7C15L + k2;
+        h ^= h >>> 33;
+        h *= 0xFF51_AFD7_ED55_8CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CE_B9FE_1A85_EC53L;
+        return h ^ (h >>> 33);
+    }
+
+    /**
+     * 세그먼트의 슬롯 배열
+     *
+     * - 키 배열과 값 배열이 항상 같은 크기로 함께 교체되도록 하나의 불변 객체로 묶는다
+     */
+    private static final class Table {
+        final long[] keys;
+        final Object[] values;
+        final int mask;
+
+        Table(int capacity) {
+            this.keys = new long[capacity * 2];
+            this.values = new Object[capacity];
+            this.mask = capacity - 1;
+        }
+    }
+
+    private static final class Segment<V> {
+        private final ReentrantLock lock = new ReentrantLock();
+        private volatile Table table;
+        private volatile int size;
+        private int used;
+
+        Segment(int capacity) {
+            this.table = new Table(capacity);
+        }
+
+        @SuppressWarnings("unchecked")
+        V get(long k1, long k2, int hash) {
+            Table t = table;
+            long[] keys = t.keys;
+            for (int i = hash & t.mask; ; i = (i + 1) & t.mask) {
+                Object v = VALUES.getAcquire(t.values, i);
+                if (v == null) return null;
+                if (keys[i << 1] == k1 && keys[(i << 1) + 1] == k2) {
+                    return v == TOMBSTONE ? null : (V) v;
+                }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        V put(long k1, long k2, int hash, V value, boolean onlyIfAbsent) {
+            lock.lock();
+            try {
+                Table t = table;
+                int i = hash & t.mask;
+                for (; ; i = (i + 1) & t.mask) {
+                    Object v = t.values[i];
+                    if (v == null) break;
+                    if (t.keys[i << 1] == k1 && t.keys[(i << 1) + 1] == k2) {
+                        if (v != TOMBSTONE) {
+                            if (!onlyIfAbsent) VALUES.setRelease(t.values, i, value);
+                            return (V) v;
+                        }
+                        // 같은 키의 tombstone은 키가 동일하므로 그대로 재사용할 수 있다
+                        VALUES.setRelease(t.values, i, value);
+                        size++;
+                        return null;
+                    }
+                }
+
+                if ((used + 1) * 4 > (t.mask + 1) * 3) {
+                    t = rebuild();
+                    i = hash & t.mask;
+                    while (t.values[i] != null) i = (i + 1) & t.mask;
+                }
+                // 키를 먼저 기록한 뒤 값을 release로 공개한다
+                t.keys[i << 1] = k1;
+                t.keys[(i << 1) + 1] = k2;
+                VALUES.setRelease(t.values, i, value);
+                used++;
+                size++;
+                return null;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        V remove(long k1, long k2, int hash) {
+            lock.lock();
+            try {
+                Table t = table;
+                for (int i = hash & t.mask; ; i = (i + 1) & t.mask) {
+                    Object v = t.values[i];
+                    if (v == null) return null;
+                    if (t.keys[i << 1] == k1 && t.keys[(i << 1) + 1] == k2) {
+                        if (v == TOMBSTONE) return null;
+                        VALUES.setRelease(t.values, i, TOMBSTONE);
+                        size--;
+                        return (V) v;
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        void forEach(ConnectionConsumer<? super V> action) {
+            Table t = table;
+            for (int i = 0; i <= t.mask; i++) {
+                Object v = VALUES.getAcquire(t.values, i);
+                if (v == null || v == TOMBSTONE) continue;
+                long k1 = t.keys[i << 1];
+                long k2 = t.keys[(i << 1) + 1];
+                action.accept((int) (k1 >>> 32), (int) k1, (int) (k2 >>> 16) & 0xFFFF, (int) k2 & 0xFFFF, (V) v);
+            }
+        }
+
+        /**
+         * tombstone을 정리한 새 테이블로 교체한다.
+         *
+         * - 살아있는 항목이 용량의 3/8을 넘으면 두 배로 확장한다
+         * - 기존 테이블을 읽던 조회 스레드는 교체 전 상태를 그대로 관찰한다
+         * - 호출자는 세그먼트 락을 보유해야 한다
+         */
+        private Table rebuild() {
+            Table old = table;
+            int capacity = old.mask + 1;
+            if (size * 8 > capacity * 3) capacity <<= 1;
+            Table fresh = new Table(capacity);
+            for (int j = 0; j <= old.mask; j++) {
+                Object v = old.values[j];
+                if (v == null || v == TOMBSTONE) continue;
+                long k1 = old.keys[j << 1];
+                long k2 = old.keys[(j << 1) + 1];
+                int i = (int) hash(k1, k2) & fresh.mask;
+                while (fresh.values[i] != null) i = (i + 1) & fresh.mask;
+                fresh.keys[i << 1] = k1;
+                fresh.keys[(i << 1) + 1] = k2;
+                fresh.values[i] = v;
+            }
+            used = size;
+            table = fresh;
+            return fresh;
+        }
+    }
+}
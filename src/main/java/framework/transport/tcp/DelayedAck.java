@@ -0,0 +1,74 @@
+package framework.transport.tcp;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 지연 ACK(Delayed ACK) 정책 (RFC 1122 4.2.3.2, RFC 5681 4.2)
+ *
+ * - 최대 크기 세그먼트 두 개마다 한 번은 즉시 ACK한다
+ * - 순서가 어긋난 세그먼트나 빈 구간을 메우는 세그먼트는 즉시 ACK한다
+ * - 그 외에는 최대 {@code delayNanos} 동안 ACK를 미루고, 만료 시점은 {@link #deadline()}으로 제공한다
+ */
+public final class DelayedAck {
+
+    /**
+     * 예약된 지연 ACK가 없음을 나타내는 값
+     */
+    public static final long NONE = Long.MIN_VALUE;
+
+    private final long delayNanos;
+    private int unackedFullSegments;
+    private long deadline = NONE;
+
+    public DelayedAck() {
+        this(TimeUnit.MILLISECONDS.toNanos(40));
+    }
+
+    /**
+     * @param delayNanos ACK를 미룰 수 있는 최대 시간 (RFC 상한 500ms)
+     */
+    public DelayedAck(long delayNanos) {
+        if (delayNanos <= 0)
+            throw new IllegalArgumentException("delayNanos must be positive");
+        this.delayNanos = delayNanos;
+    }
+
+    /**
+     * 데이터 세그먼트 수신 시 호출한다.
+     *
+     * @param fullSized 세그먼트 길이가 MSS 이상인지 여부
+     * @param immediate 순서 어긋남, 빈 구간 메움, PSH 등으로 즉시 ACK가 필요한지 여부
+     * @param nowNanos  현재 시각
+     * @return 즉시 ACK를 보내야 하면 {@code true}
+     */
+    public boolean onSegment(boolean fullSized, boolean immediate, long nowNanos) {
+        if (fullSized) unackedFullSegments++;
+        if (immediate || unackedFullSegments >= 2) return true;
+        if (deadline == NONE) deadline = nowNanos + delayNanos;
+        return false;
+    }
+
+    /**
+     * 지연 ACK 만료 시각을 반환한다.
+     *
+     * @return 만료 시각, 예약된 ACK가 없으면 {@link #NONE}
+     */
+    public long deadline() {
+        return deadline;
+    }
+
+    /**
+     * 지연 ACK가 만료되었는지 검사한다.
+     */
+    public boolean isDue(long nowNanos) {
+        return deadline != NONE && nowNanos - deadline >= 0;
+    }
+
+    /**
+     * ACK(단독 또는 데이터에 piggyback)를 보낸 뒤 호출한다.
+     */
+    public void onAckSent() {
+        unackedFullSegments = 0;
+        deadline = NONE;
+    }
+}
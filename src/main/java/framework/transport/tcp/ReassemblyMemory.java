@@ -0,0 +1,44 @@
+package framework.transport.tcp;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 모든 연결의 {@link ReassemblyQueue}가 공유하는 전역 메모리 예산
+ *
+ * - 순서가 어긋나 보관 중인 세그먼트의 바이트 수 합계를 상한 이내로 유지한다
+ * - 예약/반환은 CAS 기반으로 수행되어 여러 스레드에서 호출할 수 있다
+ */
+public final class ReassemblyMemory {
+
+    private final long limit;
+    private final AtomicLong used = new AtomicLong();
+
+    public ReassemblyMemory(long limit) {
+        if (limit < 0)
+            throw new IllegalArgumentException("limit must not be negative");
+        this.limit = limit;
+    }
+
+    /**
+     * 지정된 바이트 수를 예약한다.
+     *
+     * @return 상한을 넘지 않아 예약되었다면 {@code true}
+     */
+    boolean tryReserve(long bytes) {
+        while (true) {
+            long current = used.get();
+            if (current + bytes > limit) return false;
+            if (used.compareAndSet(current, current + bytes)) return true;
+        }
+    }
+
+    /**
+     * 예약했던 바이트 수를 반환한다.
+     */
+    void release(long bytes) {
+        used.addAndGet(-bytes);
+    }
+
+    public long used() { return used.get(); }
+    public long limit() { return limit; }
+}
@@ -0,0 +1,284 @@
+package framework.transport.tcp;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * 연결 하나의 수신 측 순서 재조립 버퍼
+ *
+ * - 순서가 어긋난 세그먼트를 복사하지 않고 (배열, 오프셋, 길이) 조각으로 보관한다
+ * - 조각은 시작 위치 기준으로 정렬되고 서로 겹치지 않는 구간 배열로 관리된다
+ * - 빈 구간(hole)이 메워지는 즉시 순서대로 이어지는 바이트를 {@link Sink}로 전달한다
+ * - 보관 중인 구간으로부터 SACK 블록(RFC 2018)을 생성한다
+ * - 연결별 상한과 {@link ReassemblyMemory} 전역 상한을 넘는 데이터는 보관하지 않고 폐기한다
+ *
+ * <p>
+ * 32비트 시퀀스 번호는 내부적으로 64비트 스트림 위치로 변환하여 다루므로
+ * 시퀀스 번호 순환(wrap-around)을 별도로 고려하지 않는다.
+ * <br>
+ * 전달된 바이트 배열은 전달 또는 폐기 전까지 참조되므로 호출자는 해당 배열을 재사용해서는 안 된다.
+ * 연결 하나는 하나의 스레드에서만 사용한다는 전제로 동기화하지 않는다.
+ */
+public final class ReassemblyQueue {
+
+    /**
+     * 순서대로 이어진 수신 데이터를 전달받는 계약
+     */
+    @FunctionalInterface
+    public interface Sink {
+        void deliver(byte[] bytes, int offset, int length);
+    }
+
+    private final Sink sink;
+    private final ReassemblyMemory memory;
+    private final long maxBytes;
+
+    private int rcvNxt;
+    private long rcvNxtPos;
+
+    // 정렬된 구간 배열 : [starts[i], ends[i]) 는 bufs[i]의 offs[i]부터 시작한다
+    private long[] starts = new long[8];
+    private long[] ends = new long[8];
+    private byte[][] bufs = new byte[8][];
+    private int[] offs = new int[8];
+    private long[] stamps = new long[8];
+    private int count;
+
+    private long held;
+    private long arrivals;
+    private long dropped;
+
+    /**
+     * @param irs      상대방의 초기 시퀀스 번호 + 1 (첫 데이터 바이트의 시퀀스 번호)
+     * @param maxBytes 연결별로 보관 가능한 최대 바이트 수
+     * @param memory   전역 메모리 예산
+     * @param sink     순서대로 이어진 데이터를 전달받을 대상
+     */
+    public ReassemblyQueue(int irs, long maxBytes, ReassemblyMemory memory, Sink sink) {
+        if (maxBytes < 0)
+            throw new IllegalArgumentException("maxBytes must not be negative");
+        this.rcvNxt = irs;
+        this.maxBytes = maxBytes;
+        this.memory = Objects.requireNonNull(memory, "memory cannot be null");
+        this.sink = Objects.requireNonNull(sink, "sink cannot be null");
+    }
+
+    /**
+     * 수신된 세그먼트 데이터를 반영한다.
+     *
+     * - 이미 수신한 범위는 무시하고, {@code rcvNxt}에서 시작하는 데이터는 즉시 전달한다
+     * - 그 외의 데이터는 비어 있는 구간만 잘라 보관한다
+     *
+     * @param seq    세그먼트 첫 바이트의 시퀀스 번호
+     * @param bytes  세그먼트 데이터가 담긴 배열
+     * @param offset 데이터 시작 위치
+     * @param length 데이터 길이
+     * @return 메모리 상한으로 인해 일부라도 폐기되었다면 {@code false}
+     */
+    public boolean offer(int seq, byte[] bytes, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        long start = rcvNxtPos + (seq - rcvNxt);
+        long end = start + length;
+        if (end <= rcvNxtPos) return true;
+        if (start < rcvNxtPos) {
+            offset += (int) (rcvNxtPos - start);
+            start = rcvNxtPos;
+        }
+
+        if (start == rcvNxtPos) {
+            advance(bytes, offset, (int) (end - start));
+            drainContiguous();
+            return true;
+        }
+        return insert(start, end, bytes, offset);
+    }
+
+    /**
+     * 보관 중인 구간으로 SACK 블록을 생성한다.
+     *
+     * - 가장 최근에 수신된 세그먼트를 포함한 블록이 첫 번째가 되고,
+     *   나머지는 최근에 갱신된 순서로 채워진다 (RFC 2018 4.)
+     * - 객체를 할당하지 않는다
+     *
+     * @param out       (left edge, right edge) 시퀀스 번호 쌍을 기록할 배열
+     * @param maxBlocks 기록할 최대 블록 수 (타임스탬프 옵션 사용 시 보통 3)
+     * @return 기록된 블록 수
+     */
+    public int sackBlocks(int[] out, int maxBlocks) {
+        int limit = Math.min(maxBlocks, out.length / 2);
+        long previous = Long.MAX_VALUE;
+        int written = 0;
+        while (written < limit) {
+            long bestStamp = -1;
+            long bestStart = 0;
+            long bestEnd = 0;
+            for (int i = 0; i < count; ) {
+                long blockStart = starts[i];
+                long stamp = stamps[i];
+                int j = i + 1;
+                while (j < count && starts[j] == ends[j - 1]) {
+                    stamp = Math.max(stamp, stamps[j]);
+                    j++;
+                }
+                if (stamp < previous && stamp > bestStamp) {
+                    bestStamp = stamp;
+                    bestStart = blockStart;
+                    bestEnd = ends[j - 1];
+                }
+                i = j;
+            }
+            if (bestStamp < 0) break;
+            out[written * 2] = toSeq(bestStart);
+            out[written * 2 + 1] = toSeq(bestEnd);
+            previous = bestStamp;
+            written++;
+        }
+        return written;
+    }
+
+    /**
+     * 다음으로 기대하는 시퀀스 번호를 반환한다.
+     */
+    public int rcvNxt() { return rcvNxt; }
+
+    /**
+     * 순서가 어긋나 보관 중인 바이트 수를 반환한다.
+     */
+    public long bytesHeld() { return held; }
+
+    /**
+     * 보관 중인 구간 수를 반환한다.
+     */
+    public int segments() { return count; }
+
+    /**
+     * 메모리 상한으로 인해 폐기된 바이트 수를 반환한다.
+     */
+    public long bytesDropped() { return dropped; }
+
+    /**
+     * 보관 중인 모든 구간을 폐기하고 예약한 메모리를 반환한다.
+     *
+     * - 연결 종료 시 호출해야 한다
+     */
+    public void clear() {
+        memory.release(held);
+        held = 0;
+        Arrays.fill(bufs, 0, count, null);
+        count = 0;
+    }
+
+    private void advance(byte[] bytes, int offset, int length) {
+        if (length <= 0) return;
+        sink.deliver(bytes, offset, length);
+        rcvNxtPos += length;
+        rcvNxt += length;
+    }
+
+    /**
+     * 앞쪽 구간이 {@code rcvNxt}와 이어지거나 겹치면 전달하고 제거한다.
+     */
+    private void drainContiguous() {
+        int removed = 0;
+        while (removed < count && starts[removed] <= rcvNxtPos) {
+            long start = starts[removed];
+            long end = ends[removed];
+            if (end > rcvNxtPos) {
+                int skip = (int) (rcvNxtPos - start);
+                advance(bufs[removed], offs[removed] + skip, (int) (end - rcvNxtPos));
+            }
+            long size = end - start;
+            held -= size;
+            memory.release(size);
+            removed++;
+        }
+        if (removed > 0) removeFirst(removed);
+    }
+
+    private boolean insert(long start, long end, byte[] bytes, int offset) {
+        long stamp = ++arrivals;
+        int i = firstEndingAfter(start);
+        long cursor = start;
+        while (cursor < end) {
+            if (i < count && starts[i] <= cursor) {
+                cursor = Math.max(cursor, ends[i]);
+                i++;
+                continue;
+            }
+            long gapEnd = i < count ? Math.min(end, starts[i]) : end;
+            long size = gapEnd - cursor;
+            if (held + size > maxBytes || !memory.tryReserve(size)) {
+                dropped += end - cursor;
+                return false;
+            }
+            held += size;
+            int pieceOffset = offset + (int) (cursor - start);
+            if (i > 0 && ends[i - 1] == cursor && bufs[i - 1] == bytes
+                    && offs[i - 1] + (ends[i - 1] - starts[i - 1]) == pieceOffset) {
+                // 같은 배열에서 바로 이어지는 조각이면 기존 구간을 연장한다
+                ends[i - 1] = gapEnd;
+                stamps[i - 1] = stamp;
+            } else {
+                insertAt(i, cursor, gapEnd, bytes, pieceOffset, stamp);
+                i++;
+            }
+            cursor = gapEnd;
+        }
+        // 기존 구간과 완전히 겹친 재전송도 최근 수신으로 취급한다
+        int touched = firstEndingAfter(start);
+        if (touched < count && starts[touched] < end) stamps[touched] = Math.max(stamps[touched], stamp);
+        return true;
+    }
+
+    /**
+     * {@code ends[i] > position}을 만족하는 첫 구간의 인덱스를 찾는다.
+     */
+    private int firstEndingAfter(long position) {
+        int lo = 0;
+        int hi = count;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (ends[mid] <= position) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    private void insertAt(int index, long start, long end, byte[] bytes, int offset, long stamp) {
+        if (count == starts.length) {
+            int capacity = count * 2;
+            starts = Arrays.copyOf(starts, capacity);
+            ends = Arrays.copyOf(ends, capacity);
+            bufs = Arrays.copyOf(bufs, capacity);
+            offs = Arrays.copyOf(offs, capacity);
+            stamps = Arrays.copyOf(stamps, capacity);
+        }
+        int moved = count - index;
+        System.arraycopy(starts, index, starts, index + 1, moved);
+        System.arraycopy(ends, index, ends, index + 1, moved);
+        System.arraycopy(bufs, index, bufs, index + 1, moved);
+        System.arraycopy(offs, index, offs, index + 1, moved);
+        System.arraycopy(stamps, index, stamps, index + 1, moved);
+        starts[index] = start;
+        ends[index] = end;
+        bufs[index] = bytes;
+        offs[index] = offset;
+        stamps[index] = stamp;
+        count++;
+    }
+
+    private void removeFirst(int n) {
+        int remaining = count - n;
+        System.arraycopy(starts, n, starts, 0, remaining);
+        System.arraycopy(ends, n, ends, 0, remaining);
+        System.arraycopy(bufs, n, bufs, 0, remaining);
+        System.arraycopy(offs, n, offs, 0, remaining);
+        System.arraycopy(stamps, n, stamps, 0, remaining);
+        Arrays.fill(bufs, remaining, count, null);
+        count = remaining;
+    }
+
+    private int toSeq(long position) {
+        return rcvNxt + (int) (position - rcvNxtPos);
+    }
+}
@@ -0,0 +1,77 @@
+package framework.transport.tcp;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 재전송 타임아웃(RTO) 계산을 위한 RTT 추정기 (RFC 6298)
+ *
+ * - 첫 측정값 R : {@code SRTT = R, RTTVAR = R / 2}
+ * - 이후 측정값 R' : {@code RTTVAR = 3/4 RTTVAR + 1/4 |SRTT - R'|, SRTT = 7/8 SRTT + 1/8 R'}
+ * - {@code RTO = SRTT + max(G, 4 * RTTVAR)}를 [minRto, maxRto] 범위로 제한한다
+ * - 타임아웃 시 RTO를 두 배로 늘리고(back off), 새 측정값이 들어오면 다시 계산한다
+ *
+ * <p>
+ * 재전송된 세그먼트의 ACK로는 측정하지 않아야 한다 (Karn 알고리즘). 이는 호출자가 보장한다.
+ */
+public final class RttEstimator {
+
+    private static final long CLOCK_GRANULARITY_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final long minRtoNanos;
+    private final long maxRtoNanos;
+
+    private long srtt;
+    private long rttvar;
+    private long rto;
+    private boolean measured;
+
+    public RttEstimator() {
+        this(TimeUnit.SECONDS.toNanos(1), TimeUnit.SECONDS.toNanos(60));
+    }
+
+    /**
+     * @param minRtoNanos RTO 하한 (RFC 6298 권고 1초)
+     * @param maxRtoNanos RTO 상한 (최소 60초 이상 권고)
+     */
+    public RttEstimator(long minRtoNanos, long maxRtoNanos) {
+        if (minRtoNanos <= 0 || maxRtoNanos < minRtoNanos)
+            throw new IllegalArgumentException("invalid RTO bounds");
+        this.minRtoNanos = minRtoNanos;
+        this.maxRtoNanos = maxRtoNanos;
+        this.rto = Math.max(minRtoNanos, Math.min(TimeUnit.SECONDS.toNanos(1), maxRtoNanos));
+    }
+
+    /**
+     * RTT 측정값을 반영한다.
+     *
+     * @param rttNanos 측정된 RTT
+     */
+    public void sample(long rttNanos) {
+        if (rttNanos < 0) return;
+        if (!measured) {
+            srtt = rttNanos;
+            rttvar = rttNanos / 2;
+            measured = true;
+        } else {
+            rttvar = (3 * rttvar + Math.abs(srtt - rttNanos)) / 4;
+            srtt = (7 * srtt + rttNanos) / 8;
+        }
+        rto = clamp(srtt + Math.max(CLOCK_GRANULARITY_NANOS, 4 * rttvar));
+    }
+
+    /**
+     * 재전송 타임아웃 발생 시 RTO를 두 배로 늘린다.
+     */
+    public void backoff() {
+        rto = clamp(rto * 2);
+    }
+
+    public long srttNanos() { return srtt; }
+    public long rttvarNanos() { return rttvar; }
+    public long rtoNanos() { return rto; }
+    public boolean hasSample() { return measured; }
+
+    private long clamp(long value) {
+        return Math.max(minRtoNanos, Math.min(maxRtoNanos, value));
+    }
+}
@@ -0,0 +1,201 @@
+package framework.transport.tcp;
+
+import java.util.Objects;
+
+import framework.transport.tcp.congestion.CongestionControl;
+
+/**
+ * 연결 하나의 송신 흐름 제어기
+ *
+ * - 송신 가능량을 {@code min(cwnd, rwnd) - inFlight}로 계산하고 Nagle 알고리즘(RFC 896)으로 작은 세그먼트를 합친다
+ * - 수신한 ACK로부터 중복 ACK, 부분 ACK, 복구 종료를 판단하여 {@link CongestionControl}에 전달한다
+ * - RTT 측정값을 {@link RttEstimator}에 반영하고, 각 이벤트 결과를 {@link TcpMetrics}에 기록한다
+ *
+ * <p>
+ * 실제 세그먼트 생성과 재전송, 타이머 예약은 호출자가 반환값({@link AckAction}, {@link #rtoNanos()})을 보고 수행한다.
+ * 연결 하나는 하나의 스레드에서만 사용한다는 전제로 동기화하지 않는다.
+ */
+public final class SendController {
+
+    /**
+     * ACK 처리 결과 호출자가 수행해야 할 동작
+     */
+    public enum AckAction {
+        /**
+         * 추가 동작 없음
+         */
+        NONE,
+        /**
+         * 세 번째 중복 ACK : {@code sndUna}의 세그먼트를 즉시 재전송한다.
+         */
+        FAST_RETRANSMIT,
+        /**
+         * 복구 구간의 부분 ACK : 새로운 {@code sndUna}의 세그먼트를 재전송한다.
+         */
+        RETRANSMIT_NEXT
+    }
+
+    private static final int DUP_ACK_THRESHOLD = 3;
+
+    private final CongestionControl cc;
+    private final RttEstimator rtt;
+    private final TcpMetrics metrics = new TcpMetrics();
+    private final int mss;
+    private final boolean noDelay;
+
+    private int sndUna;
+    private int sndNxt;
+    private int sndMax;
+    private int recover;
+    private boolean inRecovery;
+    private int dupAcks;
+
+    /**
+     * @param cc      혼잡 제어 알고리즘
+     * @param rtt     RTT 추정기
+     * @param mss     최대 세그먼트 크기
+     * @param iss     송신 초기 시퀀스 번호 + 1 (첫 데이터 바이트의 시퀀스 번호)
+     * @param noDelay Nagle 알고리즘 비활성화 여부 ({@code TCP_NODELAY})
+     */
+    public SendController(CongestionControl cc, RttEstimator rtt, int mss, int iss, boolean noDelay) {
+        this.cc = Objects.requireNonNull(cc, "congestion control cannot be null");
+        this.rtt = Objects.requireNonNull(rtt, "rtt estimator cannot be null");
+        if (mss <= 0)
+            throw new IllegalArgumentException("mss must be positive");
+        this.mss = mss;
+        this.noDelay = noDelay;
+        this.sndUna = iss;
+        this.sndNxt = iss;
+        this.sndMax = iss;
+        this.recover = iss;
+        metrics.congestionControl = cc.name();
+        record();
+    }
+
+    /**
+     * 지금 새로 보낼 수 있는 세그먼트 크기를 반환한다.
+     *
+     * - 혼잡 윈도우와 수신 윈도우 중 작은 값에서 전송 중인 바이트를 뺀 만큼 보낼 수 있다
+     * - Nagle : 전송 중인 데이터가 있으면 MSS 미만의 세그먼트는 보내지 않고 모은다
+     *
+     * @param queuedBytes 송신 버퍼에서 {@code sndNxt} 이후에 대기 중인 바이트 수
+     * @param rwnd        상대방이 광고한 수신 윈도우 (window scale 적용 후)
+     * @return 보낼 바이트 수, 보낼 수 없으면 0
+     */
+    public int nextSegmentSize(long queuedBytes, long rwnd) {
+        long window = Math.min(cc.cwnd(), rwnd) - inFlight();
+        long size = Math.min(Math.min(queuedBytes, mss), window);
+        if (size <= 0) return 0;
+        if (size < mss && !noDelay && inFlight() > 0) return 0;
+        return (int) size;
+    }
+
+    /**
+     * 세그먼트 전송 후 호출한다.
+     *
+     * @param seq          세그먼트 첫 바이트의 시퀀스 번호
+     * @param length       데이터 길이
+     * @param retransmission 재전송 여부
+     */
+    public void onSent(int seq, int length, boolean retransmission) {
+        int end = seq + length;
+        if (end - sndNxt > 0) sndNxt = end;
+        if (end - sndMax > 0) sndMax = end;
+        if (retransmission) metrics.bytesRetransmitted += length;
+        else metrics.bytesSent += length;
+        record();
+    }
+
+    /**
+     * ACK 수신 시 호출한다.
+     *
+     * @param ack       ACK 번호
+     * @param rttNanos  이 ACK로 측정한 RTT, 측정하지 않았거나 재전송 세그먼트라면 음수
+     * @param nowNanos  현재 시각
+     * @return 호출자가 수행해야 할 재전송 동작
+     */
+    public AckAction onAck(int ack, long rttNanos, long nowNanos) {
+        if (ack - sndMax > 0) ack = sndMax;
+        // 타임아웃 후 되돌아간 sndNxt보다 앞서 이미 수신된 데이터는 다시 보내지 않는다
+        if (ack - sndNxt > 0) sndNxt = ack;
+
+        if (ack == sndUna) {
+            if (inFlight() == 0) return AckAction.NONE;
+            dupAcks++;
+            if (inRecovery) {
+                cc.onDupAck();
+                record();
+                return AckAction.NONE;
+            }
+            // RFC 6582 3.2 : 타임아웃 전에 보낸 데이터(recover 이전)에 대한 중복 ACK로는 다시 복구에 들어가지 않는다
+            if (dupAcks == DUP_ACK_THRESHOLD && ack - recover >= 0) {
+                inRecovery = true;
+                recover = sndNxt;
+                cc.onEnterRecovery(inFlight(), nowNanos);
+                metrics.fastRetransmits++;
+                record();
+                return AckAction.FAST_RETRANSMIT;
+            }
+            return AckAction.NONE;
+        }
+        if (ack - sndUna < 0) return AckAction.NONE;
+
+        long acked = ack - sndUna;
+        sndUna = ack;
+        dupAcks = 0;
+        metrics.bytesAcked += acked;
+        if (rttNanos >= 0) rtt.sample(rttNanos);
+
+        AckAction action = AckAction.NONE;
+        if (inRecovery) {
+            if (ack - recover >= 0) {
+                inRecovery = false;
+                cc.onExitRecovery(inFlight());
+            } else {
+                cc.onPartialAck(acked);
+                action = AckAction.RETRANSMIT_NEXT;
+            }
+        } else {
+            cc.onAck(acked, rtt.srttNanos(), nowNanos);
+        }
+        record();
+        return action;
+    }
+
+    /**
+     * 재전송 타이머 만료 시 호출한다.
+     *
+     * - RTO를 back off하고 혼잡 윈도우를 줄이며 복구 구간을 종료한다
+     * - {@code recover}를 지금까지 보낸 가장 높은 시퀀스 번호로 옮겨, 타임아웃 전에 보낸 데이터의 중복 ACK가
+     *   빠른 재전송을 다시 일으키지 않게 한다
+     * - {@code sndNxt}를 {@code sndUna}로 되돌린다. 호출자는 {@link #nextSegmentSize}가 허용하는 만큼
+     *   {@code sndNxt}부터 다시 전송하며, 한 윈도우에서 잃은 여러 세그먼트를 다음 타임아웃을 기다리지 않고 복구한다
+     */
+    public void onRetransmitTimeout() {
+        rtt.backoff();
+        cc.onRetransmitTimeout(inFlight());
+        inRecovery = false;
+        recover = sndMax;
+        sndNxt = sndUna;
+        dupAcks = 0;
+        metrics.timeouts++;
+        record();
+    }
+
+    public int sndUna() { return sndUna; }
+    public int sndNxt() { return sndNxt; }
+    public int sndMax() { return sndMax; }
+    public long inFlight() { return (sndNxt - sndUna) & 0xFFFF_FFFFL; }
+    public boolean inRecovery() { return inRecovery; }
+    public long rtoNanos() { return rtt.rtoNanos(); }
+    public TcpMetrics metrics() { return metrics; }
+
+    private void record() {
+        metrics.cwnd = cc.cwnd();
+        metrics.ssthresh = cc.ssthresh();
+        metrics.srttNanos = rtt.srttNanos();
+        metrics.rttvarNanos = rtt.rttvarNanos();
+        metrics.rtoNanos = rtt.rtoNanos();
+        metrics.inFlight = inFlight();
+    }
+}
@@ -0,0 +1,193 @@
+package framework.transport.tcp;
+
+import java.security.SecureRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * SYN flood 방어를 위한 half-open 연결 제한과 SYN cookie 생성/검증
+ *
+ * - half-open(SYN_RECEIVED) 연결 수가 상한 이내이면 일반적인 상태 기반 핸드셰이크를 허용한다
+ * - 상한을 넘으면 상태를 만들지 않고, ISN에 연결 정보를 담은 SYN cookie로 응답하도록 한다
+ * - 최종 ACK 수신 시 cookie를 검증하여 MSS를 복원하고 연결을 생성한다
+ *
+ * <p>
+ * cookie 구성 (RFC 4987, Linux 방식)
+ * <pre>
+ *   ISN = H1(4-tuple) + clientIsn + (count &lt;&lt; 24) + ((H2(4-tuple, count) + mssIndex) mod 2^24)
+ * </pre>
+ * {@code count}는 64초 단위 시각이며, H1/H2는 비밀 키를 사용하는 SipHash-2-4이다.
+ * 모든 연산은 원시 타입만 사용하므로 객체를 할당하지 않는다.
+ */
+public final class SynFloodGuard {
+
+    /**
+     * SYN 처리 방식
+     */
+    public enum Admission {
+        /**
+         * half-open 연결 상태를 만들어 처리한다.
+         */
+        STATEFUL,
+        /**
+         * 상태 없이 SYN cookie로 응답한다.
+         */
+        COOKIE
+    }
+
+    /**
+     * cookie 검증 실패를 나타내는 반환값
+     */
+    public static final int INVALID_COOKIE = -1;
+
+    /**
+     * cookie에 인코딩 가능한 MSS 값 (인덱스 2비트)
+     */
+    private static final int[] MSS_TABLE = { 536, 1300, 1440, 1460 };
+
+    private static final long COUNTER_PERIOD_NANOS = 64_000_000_000L;
+    private static final int MAX_COOKIE_AGE = 2;
+    private static final int COOKIE_MASK = 0x00FF_FFFF;
+
+    private final int halfOpenLimit;
+    private final AtomicInteger halfOpen = new AtomicInteger();
+    private final long k0;
+    private final long k1;
+
+    private final LongAdder cookiesSent = new LongAdder();
+    private final LongAdder cookiesAccepted = new LongAdder();
+    private final LongAdder cookiesRejected = new LongAdder();
+
+    public SynFloodGuard(int halfOpenLimit) {
+        this(halfOpenLimit, new SecureRandom());
+    }
+
+    SynFloodGuard(int halfOpenLimit, SecureRandom random) {
+        if (halfOpenLimit < 0)
+            throw new IllegalArgumentException("halfOpenLimit must not be negative");
+        this.halfOpenLimit = halfOpenLimit;
+        this.k0 = random.nextLong();
+        this.k1 = random.nextLong();
+    }
+
+    /**
+     * SYN 수신 시 처리 방식을 결정한다.
+     *
+     * - {@link Admission#STATEFUL}을 반환한 경우 half-open 슬롯 하나가 예약되며,
+     *   핸드셰이크 완료 또는 실패 시 {@link #release()}를 호출해야 한다
+     */
+    public Admission admit() {
+        while (true) {
+            int current = halfOpen.get();
+            if (current >= halfOpenLimit) return Admission.COOKIE;
+            if (halfOpen.compareAndSet(current, current + 1)) return Admission.STATEFUL;
+        }
+    }
+
+    /**
+     * {@link #admit()}로 예약한 half-open 슬롯을 반환한다.
+     *
+     * - 예약된 슬롯이 없으면 아무 것도 하지 않는다.
+     *   중복 반환이나 COOKIE 승인 후의 반환으로 카운터가 음수가 되어 상한이 늘어나는 것을 막는다
+     *
+     * @return 슬롯이 반환되었다면 {@code true}
+     */
+    public boolean release() {
+        while (true) {
+            int current = halfOpen.get();
+            if (current <= 0) return false;
+            if (halfOpen.compareAndSet(current, current - 1)) return true;
+        }
+    }
+
+    /**
+     * 현재 half-open 연결 수를 반환한다.
+     */
+    public int halfOpen() {
+        return halfOpen.get();
+    }
+
+    /**
+     * SYN에 대한 SYN-ACK의 ISN으로 사용할 cookie를 생성한다.
+     *
+     * @param clientIsn 클라이언트 SYN의 시퀀스 번호
+     * @param mss       클라이언트가 제시한 MSS (cookie에는 이하의 가장 큰 표준 값이 담긴다)
+     * @param nowNanos  현재 시각 ({@link System#nanoTime()})
+     * @return 서버 ISN
+     */
+    public int cookie(int srcIp, int dstIp, int srcPort, int dstPort, int clientIsn, int mss, long nowNanos) {
+        long a = ConnectionTable.addresses(srcIp, dstIp);
+        long p = ConnectionTable.ports(srcPort, dstPort);
+        int count = counter(nowNanos);
+        int mssIndex = 0;
+        for (int i = MSS_TABLE.length - 1; i > 0; i--) {
+            if (mss >= MSS_TABLE[i]) {
+                mssIndex = i;
+                break;
+            }
+        }
+        cookiesSent.increment();
+        return (int) sipHash(a, p, 0) + clientIsn + (count << 24)
+                + (((int) sipHash(a, p, count) + mssIndex) & COOKIE_MASK);
+    }
+
+    /**
+     * 최종 ACK의 cookie를 검증하고 인코딩된 MSS를 반환한다.
+     *
+     * @param clientSeq ACK 세그먼트의 시퀀스 번호 (clientIsn + 1)
+     * @param ackNum    ACK 세그먼트의 확인 번호 (cookie + 1)
+     * @param nowNanos  현재 시각 ({@link System#nanoTime()})
+     * @return 복원된 MSS, 유효하지 않으면 {@link #INVALID_COOKIE}
+     */
+    public int validate(int srcIp, int dstIp, int srcPort, int dstPort, int clientSeq, int ackNum, long nowNanos) {
+        long a = ConnectionTable.addresses(srcIp, dstIp);
+        long p = ConnectionTable.ports(srcPort, dstPort);
+        int count = counter(nowNanos);
+        int cookie = (ackNum - 1) - (int) sipHash(a, p, 0) - (clientSeq - 1);
+        int age = (count - (cookie >>> 24)) & 0xFF;
+        if (age < MAX_COOKIE_AGE) {
+            int mssIndex = (cookie - (int) sipHash(a, p, count - age)) & COOKIE_MASK;
+            if (mssIndex < MSS_TABLE.length) {
+                cookiesAccepted.increment();
+                return MSS_TABLE[mssIndex];
+            }
+        }
+        cookiesRejected.increment();
+        return INVALID_COOKIE;
+    }
+
+    public long cookiesSent() { return cookiesSent.sum(); }
+    public long cookiesAccepted() { return cookiesAccepted.sum(); }
+    public long cookiesRejected() { return cookiesRejected.sum(); }
+
+    private static int counter(long nowNanos) {
+        return (int) Long.divideUnsigned(nowNanos, COUNTER_PERIOD_NANOS) & 0xFF;
+    }
+
+    /**
+     * 16바이트 메시지 (m0, m1)과 8비트 counter, 총 17바이트를 입력으로 하는 SipHash-2-4
+     *
+     * - 배열 없이 지역 변수만 사용하도록 라운드를 펼쳐 작성한다
+     */
+    private long sipHash(long m0, long m1, int count) {
+        long v0 = 0x736f_6d65_7073_6575L ^ k0;
+        long v1 = 0x646f_7261_6e64_6f6dL ^ k1;
+        long v2 = 0x6c79_6765_6e65_7261L ^ k0;
+        long v3 = 0x7465_6462_7974_6573L ^ k1;
+        long m2 = (count & 0xFFL) | (17L << 56);
+
+        // 메시지 블록당 2라운드, 마무리 4라운드 (총 10라운드)
+        for (int r = 0; r < 10; r++) {
+            if (r == 0) v3 ^= m0;
+            else if (r == 2) { v0 ^= m0; v3 ^= m1; }
+            else if (r == 4) { v0 ^= m1; v3 ^= m2; }
+            else if (r == 6) { v0 ^= m2; v2 ^= 0xFF; }
+
+            v0 += v1; v1 = Long.rotateLeft(v1, 13); v1 ^= v0; v0 = Long.rotateLeft(v0, 32);
+            v2 += v3; v3 = Long.rotateLeft(v3, 16); v3 ^= v2;
+            v0 += v3; v3 = Long.rotateLeft(v3, 21); v3 ^= v0;
+            v2 += v1; v1 = Long.rotateLeft(v1, 17); v1 ^= v2; v2 = Long.rotateLeft(v2, 32);
+        }
+        return v0 ^ v1 ^ v2 ^ v3;
+    }
+}
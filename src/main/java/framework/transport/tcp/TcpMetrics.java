@@ -0,0 +1,51 @@
+package framework.transport.tcp;
+
+/**
+ * 연결별 송신 측 지표
+ *
+ * - 연결을 처리하는 스레드 하나만 갱신하며, 다른 스레드에서의 조회를 위해 volatile로 선언된다
+ * - 값은 {@link SendController}가 이벤트마다 기록한다
+ */
+public final class TcpMetrics {
+
+    volatile String congestionControl;
+    volatile long cwnd;
+    volatile long ssthresh;
+    volatile long srttNanos;
+    volatile long rttvarNanos;
+    volatile long rtoNanos;
+    volatile long inFlight;
+    volatile long bytesSent;
+    volatile long bytesAcked;
+    volatile long bytesRetransmitted;
+    volatile long fastRetransmits;
+    volatile long timeouts;
+
+    public String congestionControl() { return congestionControl; }
+    public long cwnd() { return cwnd; }
+    public long ssthresh() { return ssthresh; }
+    public long srttNanos() { return srttNanos; }
+    public long rttvarNanos() { return rttvarNanos; }
+    public long rtoNanos() { return rtoNanos; }
+    public long inFlight() { return inFlight; }
+    public long bytesSent() { return bytesSent; }
+    public long bytesAcked() { return bytesAcked; }
+    public long bytesRetransmitted() { return bytesRetransmitted; }
+    public long fastRetransmits() { return fastRetransmits; }
+    public long timeouts() { return timeouts; }
+
+    @Override
+    public String toString() {
+        return "TcpMetrics[" + congestionControl
+                + " cwnd=" + cwnd
+                + " ssthresh=" + ssthresh
+                + " srtt=" + srttNanos / 1000 + "us"
+                + " rto=" + rtoNanos / 1000 + "us"
+                + " inFlight=" + inFlight
+                + " sent=" + bytesSent
+                + " acked=" + bytesAcked
+                + " retransmitted=" + bytesRetransmitted
+                + " fastRetransmits=" + fastRetransmits
+                + " timeouts=" + timeouts + "]";
+    }
+}
@@ -0,0 +1,47 @@
+package framework.transport.tcp;
+
+/**
+ * TCP Window Scale 옵션(RFC 7323) 계산을 위한 유틸리티 클래스입니다.
+ * <br>
+ * 16비트 윈도우 필드 값과 실제 윈도우 크기 사이의 변환을 제공합니다.
+ */
+public final class WindowScale {
+    public static final int MAX_SHIFT = 14;
+    private static final int MAX_FIELD = 0xFFFF;
+
+    // Utility class, prevent instantiation
+    private WindowScale() { }
+
+    /**
+     * 수신 버퍼 크기를 16비트 윈도우 필드로 표현하는 데 필요한 최소 shift 값을 반환합니다.
+     * @param bufferBytes 수신 버퍼 크기
+     * @return 0 ~ {@link #MAX_SHIFT} 범위의 shift 값
+     */
+    public static int shiftFor(long bufferBytes) {
+        int shift = 0;
+        while (shift < MAX_SHIFT && (bufferBytes >> shift) > MAX_FIELD) shift++;
+        return shift;
+    }
+
+    /**
+     * 수신한 윈도우 필드 값을 실제 윈도우 크기로 변환합니다.
+     * @param field 세그먼트의 윈도우 필드 값
+     * @param shift 상대방이 협상한 shift 값
+     * @return 바이트 단위 윈도우 크기
+     */
+    public static long scale(int field, int shift) {
+        return (long) (field & MAX_FIELD) << shift;
+    }
+
+    /**
+     * 광고할 윈도우 크기를 윈도우 필드 값으로 변환합니다.
+     * <br>
+     * shift로 잘려나가는 하위 비트는 버림 처리되어 실제보다 큰 윈도우를 광고하지 않습니다.
+     * @param windowBytes 광고할 바이트 단위 윈도우 크기
+     * @param shift       자신이 협상한 shift 값
+     * @return 세그먼트에 기록할 윈도우 필드 값
+     */
+    public static int field(long windowBytes, int shift) {
+        return (int) Math.min(MAX_FIELD, Math.max(0, windowBytes) >> shift);
+    }
+}
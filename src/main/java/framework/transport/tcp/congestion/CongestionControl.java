@@ -0,0 +1,70 @@
+package framework.transport.tcp.congestion;
+
+/**
+ * TCP 혼잡 제어 알고리즘 계약
+ *
+ * - 혼잡 윈도우(cwnd)와 slow start 임계값(ssthresh)을 바이트 단위로 관리한다
+ * - 손실 감지, 복구 구간 판단, 재전송 결정은 호출자({@code SendController})가 담당하고,
+ *   구현체는 각 이벤트에 대한 윈도우 변화만 정의한다
+ * - 연결 하나에 하나의 인스턴스를 사용하며, 하나의 스레드에서만 호출된다
+ */
+public interface CongestionControl {
+
+    /**
+     * 알고리즘 이름을 반환한다.
+     */
+    String name();
+
+    /**
+     * 현재 혼잡 윈도우를 바이트 단위로 반환한다.
+     */
+    long cwnd();
+
+    /**
+     * 현재 slow start 임계값을 바이트 단위로 반환한다.
+     */
+    long ssthresh();
+
+    /**
+     * 복구 구간 밖에서 새로운 데이터가 확인(ACK)되었을 때 호출된다.
+     *
+     * @param ackedBytes 새로 확인된 바이트 수
+     * @param srttNanos  현재 평활 RTT, 측정값이 없으면 0
+     * @param nowNanos   현재 시각
+     */
+    void onAck(long ackedBytes, long srttNanos, long nowNanos);
+
+    /**
+     * 중복 ACK 또는 SACK으로 손실이 감지되어 빠른 복구에 진입할 때 호출된다.
+     *
+     * @param inFlight 전송 후 확인되지 않은 바이트 수
+     * @param nowNanos 현재 시각
+     */
+    void onEnterRecovery(long inFlight, long nowNanos);
+
+    /**
+     * 복구 구간에서 추가 중복 ACK를 수신했을 때 호출된다.
+     */
+    void onDupAck();
+
+    /**
+     * 복구 구간에서 복구 지점 이전까지만 확인하는 부분 ACK를 수신했을 때 호출된다.
+     *
+     * @param ackedBytes 새로 확인된 바이트 수
+     */
+    void onPartialAck(long ackedBytes);
+
+    /**
+     * 복구 지점까지 모두 확인되어 복구 구간을 벗어날 때 호출된다.
+     *
+     * @param inFlight 전송 후 확인되지 않은 바이트 수
+     */
+    void onExitRecovery(long inFlight);
+
+    /**
+     * 재전송 타이머가 만료되었을 때 호출된다.
+     *
+     * @param inFlight 전송 후 확인되지 않은 바이트 수
+     */
+    void onRetransmitTimeout(long inFlight);
+}
@@ -0,0 +1,123 @@
+package framework.transport.tcp.congestion;
+
+/**
+ * CUBIC 혼잡 제어 (RFC 9438)
+ *
+ * - congestion avoidance 구간에서 마지막 손실 시점의 윈도우({@code wMax})를 기준으로
+ *   {@code W(t) = C * (t - K)^3 + wMax} 곡선을 따라 cwnd를 늘린다
+ * - RTT가 짧은 환경에서는 Reno 추정 윈도우({@code wEst})보다 느려지지 않도록 보정한다
+ * - 손실 시 cwnd를 {@code beta}배로 줄이며, fast convergence를 적용한다
+ *
+ * <p>
+ * 곡선 계산은 세그먼트 단위 {@code double}로 수행하고, 결과는 바이트 단위로 환산한다.
+ */
+public final class Cubic implements CongestionControl {
+
+    private static final double C = 0.4;
+    private static final double BETA = 0.7;
+    private static final double ALPHA = 3 * (1 - BETA) / (1 + BETA);
+
+    private final int mss;
+    private long cwnd;
+    private long ssthresh = Long.MAX_VALUE;
+
+    private double wMax;
+    private double wEst;
+    private double k;
+    private long epochStart = -1;
+    private boolean inLoss;
+
+    /**
+     * @param mss           최대 세그먼트 크기
+     * @param initialWindow 초기 윈도우 (세그먼트 수, RFC 6928 기준 10)
+     */
+    public Cubic(int mss, int initialWindow) {
+        if (mss <= 0 || initialWindow <= 0)
+            throw new IllegalArgumentException("mss and initialWindow must be positive");
+        this.mss = mss;
+        this.cwnd = (long) mss * initialWindow;
+    }
+
+    @Override public String name() { return "cubic"; }
+    @Override public long cwnd() { return cwnd; }
+    @Override public long ssthresh() { return ssthresh; }
+
+    @Override
+    public void onAck(long ackedBytes, long srttNanos, long nowNanos) {
+        inLoss = false;
+        if (cwnd < ssthresh) {
+            cwnd += Math.min(ackedBytes, mss);
+            return;
+        }
+
+        double current = (double) cwnd / mss;
+        if (epochStart < 0) {
+            // 손실 이후 첫 congestion avoidance ACK에서 새 epoch를 시작한다
+            epochStart = nowNanos;
+            if (current < wMax) {
+                k = Math.cbrt((wMax - current) / C);
+            } else {
+                k = 0;
+                wMax = current;
+            }
+            wEst = current;
+        }
+
+        double t = (nowNanos - epochStart + srttNanos) / 1e9;
+        double target = C * Math.pow(t - k, 3) + wMax;
+        wEst += ALPHA * ((double) ackedBytes / mss) / current;
+        if (target < wEst) target = wEst;
+
+        // RTT당 최대 1.5배까지 증가시킨다
+        target = Math.min(target, current * 1.5);
+        if (target > current) {
+            double increase = (target - current) / current * ackedBytes;
+            cwnd += Math.max(1, (long) increase);
+        }
+    }
+
+    @Override
+    public void onEnterRecovery(long inFlight, long nowNanos) {
+        reduce(inFlight);
+        cwnd = ssthresh;
+        inLoss = true;
+    }
+
+    @Override
+    public void onDupAck() {
+        // CUBIC은 복구 구간에서 윈도우를 팽창시키지 않는다
+    }
+
+    @Override
+    public void onPartialAck(long ackedBytes) {
+    }
+
+    @Override
+    public void onExitRecovery(long inFlight) {
+        cwnd = Math.max(ssthresh, 2L * mss);
+        inLoss = false;
+    }
+
+    /**
+     * - 복구 중이거나 직전 RTO 이후 ACK 없이 다시 만료된 경우에는 이미 줄인 wMax와 ssthresh를 유지한다
+     */
+    @Override
+    public void onRetransmitTimeout(long inFlight) {
+        if (!inLoss) reduce(inFlight);
+        cwnd = mss;
+        epochStart = -1;
+        inLoss = true;
+    }
+
+    /**
+     * 손실 시 wMax를 기록하고 ssthresh를 전송 중인 바이트(FlightSize)의 beta배로 줄인다.
+     *
+     * - fast convergence : 이전 손실 시점보다 윈도우가 작다면 wMax를 더 낮춰 대역폭을 양보한다
+     */
+    private void reduce(long inFlight) {
+        double current = (double) cwnd / mss;
+        wMax = current < wMax ? current * (1 + BETA) / 2 : current;
+        ssthresh = Math.max((long) (inFlight * BETA), 2L * mss);
+        epochStart = -1;
+    }
+}
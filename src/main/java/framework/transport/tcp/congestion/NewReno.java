@@ -0,0 +1,78 @@
+package framework.transport.tcp.congestion;
+
+/**
+ * NewReno 혼잡 제어 (RFC 5681, RFC 6582)
+ *
+ * - slow start : ACK된 바이트만큼 cwnd 증가 (ACK당 최대 1 MSS)
+ * - congestion avoidance : RTT당 약 1 MSS 증가
+ * - 빠른 복구 : ssthresh = max(inFlight / 2, 2 MSS), 중복 ACK마다 윈도우 팽창,
+ *   부분 ACK 시 확인된 만큼 줄이고 1 MSS 보정
+ */
+public final class NewReno implements CongestionControl {
+
+    private final int mss;
+    private long cwnd;
+    private long ssthresh = Long.MAX_VALUE;
+
+    /**
+     * congestion avoidance 구간에서 누적된 ACK 바이트 수
+     */
+    private long bytesAcked;
+
+    /**
+     * @param mss           최대 세그먼트 크기
+     * @param initialWindow 초기 윈도우 (세그먼트 수, RFC 6928 기준 10)
+     */
+    public NewReno(int mss, int initialWindow) {
+        if (mss <= 0 || initialWindow <= 0)
+            throw new IllegalArgumentException("mss and initialWindow must be positive");
+        this.mss = mss;
+        this.cwnd = (long) mss * initialWindow;
+    }
+
+    @Override public String name() { return "newreno"; }
+    @Override public long cwnd() { return cwnd; }
+    @Override public long ssthresh() { return ssthresh; }
+
+    @Override
+    public void onAck(long ackedBytes, long srttNanos, long nowNanos) {
+        if (cwnd < ssthresh) {
+            cwnd += Math.min(ackedBytes, mss);
+            return;
+        }
+        bytesAcked += ackedBytes;
+        if (bytesAcked >= cwnd) {
+            bytesAcked -= cwnd;
+            cwnd += mss;
+        }
+    }
+
+    @Override
+    public void onEnterRecovery(long inFlight, long nowNanos) {
+        ssthresh = Math.max(inFlight / 2, 2L * mss);
+        cwnd = ssthresh + 3L * mss;
+        bytesAcked = 0;
+    }
+
+    @Override
+    public void onDupAck() {
+        cwnd += mss;
+    }
+
+    @Override
+    public void onPartialAck(long ackedBytes) {
+        cwnd = Math.max(cwnd - ackedBytes, mss) + mss;
+    }
+
+    @Override
+    public void onExitRecovery(long inFlight) {
+        cwnd = Math.min(ssthresh, Math.max(inFlight, mss) + mss);
+    }
+
+    @Override
+    public void onRetransmitTimeout(long inFlight) {
+        ssthresh = Math.max(inFlight / 2, 2L * mss);
+        cwnd = mss;
+        bytesAcked = 0;
+    }
+}
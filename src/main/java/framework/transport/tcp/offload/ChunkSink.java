@@ -0,0 +1,13 @@
+package framework.transport.tcp.offload;
+
+import framework.core.data.Chunk;
+
+/**
+ * 오프로드 처리 결과를 전달받는 계약
+ *
+ * - 병합 또는 분할된 패킷이나 그대로 통과한 패킷이 원래 순서대로 전달된다
+ */
+@FunctionalInterface
+public interface ChunkSink {
+    void deliver(Chunk chunk);
+}
@@ -0,0 +1,129 @@
+package framework.transport.tcp.offload;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+import framework.core.data.Chunk;
+import framework.core.data.header.EmptyHeader;
+import framework.core.data.payload.Payload;
+import framework.util.InternetChecksum;
+
+/**
+ * GRO / GSO가 공통으로 사용하는 IPv4 + TCP 헤더 접근 유틸리티 클래스입니다.
+ * <br>
+ * 패킷은 바이트 배열의 0번 위치에서 시작하는 IPv4 헤더와 그 뒤의 TCP 세그먼트로 구성된다고 가정합니다.
+ */
+final class SegmentHeaders {
+    static final int PROTOCOL_TCP = 6;
+    static final int MAX_IP_LENGTH = 0xFFFF;
+
+    static final int FIN = 0x01;
+    static final int SYN = 0x02;
+    static final int RST = 0x04;
+    static final int PSH = 0x08;
+    static final int ACK = 0x10;
+    static final int URG = 0x20;
+    static final int CWR = 0x80;
+
+    static final int IP_TOS = 1;
+    static final int IP_TOTAL_LENGTH = 2;
+    static final int IP_ID = 4;
+    static final int IP_FRAGMENT = 6;
+    static final int IP_TTL = 8;
+    static final int IP_PROTOCOL = 9;
+    static final int IP_CHECKSUM = 10;
+    static final int IP_SRC = 12;
+    static final int IP_DST = 16;
+
+    static final int TCP_SRC_PORT = 0;
+    static final int TCP_DST_PORT = 2;
+    static final int TCP_SEQ = 4;
+    static final int TCP_ACK = 8;
+    static final int TCP_DATA_OFFSET = 12;
+    static final int TCP_FLAGS = 13;
+    static final int TCP_WINDOW = 14;
+    static final int TCP_CHECKSUM = 16;
+    static final int TCP_MIN_LENGTH = 20;
+
+    private static final int IP_MIN_LENGTH = 20;
+    private static final int MORE_FRAGMENTS_AND_OFFSET = 0x3FFF;
+
+    private static final VarHandle SHORT_BE =
+            MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle INT_BE =
+            MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+
+    // Utility class, prevent instantiation
+    private SegmentHeaders() { }
+
+    /**
+     * 오프로드 대상이 될 수 있는 단편화되지 않은 IPv4 / TCP 패킷인지 검사하고 TCP 헤더 위치를 반환합니다.
+     * @param bytes  패킷이 담긴 배열
+     * @param length 패킷 길이
+     * @return TCP 헤더 시작 위치, 대상이 아니면 {@code -1}
+     */
+    static int tcpOffset(byte[] bytes, int length) {
+        if (length < IP_MIN_LENGTH + TCP_MIN_LENGTH || length > bytes.length) return -1;
+        if ((bytes[0] & 0xF0) != 0x40 || (bytes[IP_PROTOCOL] & 0xFF) != PROTOCOL_TCP) return -1;
+        if ((u16(bytes, IP_FRAGMENT) & MORE_FRAGMENTS_AND_OFFSET) != 0) return -1;
+        int ipHeaderLength = (bytes[0] & 0x0F) * 4;
+        if (ipHeaderLength < IP_MIN_LENGTH || ipHeaderLength + TCP_MIN_LENGTH > length) return -1;
+        int tcpHeaderLength = tcpHeaderLength(bytes, ipHeaderLength);
+        if (tcpHeaderLength < TCP_MIN_LENGTH || ipHeaderLength + tcpHeaderLength > length) return -1;
+        return ipHeaderLength;
+    }
+
+    static int tcpHeaderLength(byte[] bytes, int tcp) {
+        return ((bytes[tcp + TCP_DATA_OFFSET] >>> 4) & 0x0F) * 4;
+    }
+
+    /**
+     * 의사 헤더를 포함한 TCP 체크섬이 유효한지 검사합니다.
+     */
+    static boolean tcpChecksumValid(byte[] bytes, int tcp, int length) {
+        long sum = InternetChecksum.pseudoHeaderSum(
+                i32(bytes, IP_SRC), i32(bytes, IP_DST), PROTOCOL_TCP, length - tcp);
+        return InternetChecksum.fold(InternetChecksum.sum(bytes, tcp, length - tcp, sum)) == 0xFFFF;
+    }
+
+    /**
+     * 길이가 바뀐 패킷의 IPv4 전체 길이와 IPv4 / TCP 체크섬을 다시 기록합니다.
+     * @param bytes  패킷이 담긴 배열
+     * @param tcp    TCP 헤더 시작 위치
+     * @param length 패킷 길이
+     */
+    static void finish(byte[] bytes, int tcp, int length) {
+        put16(bytes, IP_TOTAL_LENGTH, length);
+        put16(bytes, IP_CHECKSUM, 0);
+        put16(bytes, IP_CHECKSUM, InternetChecksum.checksum(bytes, 0, tcp));
+
+        put16(bytes, tcp + TCP_CHECKSUM, 0);
+        long sum = InternetChecksum.pseudoHeaderSum(
+                i32(bytes, IP_SRC), i32(bytes, IP_DST), PROTOCOL_TCP, length - tcp);
+        put16(bytes, tcp + TCP_CHECKSUM, ~InternetChecksum.fold(InternetChecksum.sum(bytes, tcp, length - tcp, sum)));
+    }
+
+    static Chunk chunk(byte[] bytes) {
+        Chunk chunk = new Chunk();
+        chunk.setHeader(EmptyHeader.INSTANCE);
+        chunk.setPayload(new Payload(bytes));
+        return chunk;
+    }
+
+    static int u16(byte[] bytes, int offset) {
+        return (short) SHORT_BE.get(bytes, offset) & 0xFFFF;
+    }
+
+    static int i32(byte[] bytes, int offset) {
+        return (int) INT_BE.get(bytes, offset);
+    }
+
+    static void put16(byte[] bytes, int offset, int value) {
+        SHORT_BE.set(bytes, offset, (short) value);
+    }
+
+    static void put32(byte[] bytes, int offset, int value) {
+        INT_BE.set(bytes, offset, value);
+    }
+}
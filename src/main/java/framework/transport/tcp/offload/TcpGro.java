@@ -0,0 +1,243 @@
+package framework.transport.tcp.offload;
+
+import static framework.transport.tcp.offload.SegmentHeaders.*;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import framework.core.data.Chunk;
+
+/**
+ * 소프트웨어 GRO(Generic Receive Offload) 병합기
+ *
+ * - 한 번에 수신된 패킷 묶음(batch) 안에서 같은 흐름의 순서대로 이어지는 TCP 세그먼트를 하나의 큰 {@link Chunk}로 병합한다
+ * - Internet / Transport 계층 경계에서 사용하여, 대량 전송 흐름이 계층 큐를 통과하는 횟수를 줄인다
+ * - 병합된 패킷의 IPv4 전체 길이와 IPv4 / TCP 체크섬은 다시 계산된다
+ * - 흐름별 순서는 유지되며, 병합할 수 없는 패킷은 같은 흐름의 대기 패킷을 먼저 내보낸 뒤 그대로 전달된다
+ *
+ * <p>
+ * 병합 조건은 다음과 같다.
+ * <br>
+ * 단편화되지 않은 IPv4 / TCP, 플래그가 ACK 또는 ACK|PSH, 페이로드가 있고 체크섬이 유효한 세그먼트로서
+ * 대기 중인 세그먼트와 시퀀스 번호가 이어지고 ACK 번호, TCP 옵션, TOS, TTL, 헤더 길이가 같아야 한다.
+ * 첫 세그먼트보다 작은 세그먼트나 PSH 세그먼트는 병합 후 즉시 내보낸다.
+ * <br>
+ * 패킷 묶음이 끝나면 반드시 {@link #flush()}를 호출해야 한다.
+ * 하나의 수신 스레드에서만 사용한다는 전제로 동기화하지 않는다.
+ */
+public final class TcpGro {
+
+    private static final int DEFAULT_MAX_FLOWS = 8;
+
+    private final ChunkSink sink;
+    private final int maxPacketLength;
+    private final Flow[] flows;
+    private int active;
+
+    private long segmentsIn;
+    private long packetsOut;
+
+    /**
+     * @param sink 병합되었거나 그대로 통과한 패킷을 전달받을 대상
+     */
+    public TcpGro(ChunkSink sink) {
+        this(sink, DEFAULT_MAX_FLOWS, MAX_IP_LENGTH);
+    }
+
+    /**
+     * @param sink            병합되었거나 그대로 통과한 패킷을 전달받을 대상
+     * @param maxFlows        동시에 병합 대기할 수 있는 최대 흐름 수
+     * @param maxPacketLength 병합된 패킷의 최대 길이
+     */
+    public TcpGro(ChunkSink sink, int maxFlows, int maxPacketLength) {
+        if (maxFlows <= 0)
+            throw new IllegalArgumentException("maxFlows must be positive");
+        if (maxPacketLength <= 0 || maxPacketLength > MAX_IP_LENGTH)
+            throw new IllegalArgumentException("maxPacketLength must be in (0, 65535]");
+        this.sink = Objects.requireNonNull(sink, "sink cannot be null");
+        this.maxPacketLength = maxPacketLength;
+        this.flows = new Flow[maxFlows];
+        for (int i = 0; i < maxFlows; i++) flows[i] = new Flow();
+    }
+
+    /**
+     * 수신된 IPv4 패킷을 병합 대상에 추가한다.
+     *
+     * @param chunk IPv4 패킷을 페이로드로 가진 {@link Chunk}
+     */
+    public void receive(Chunk chunk) {
+        segmentsIn++;
+        byte[] bytes = chunk.getPayload().getBytes();
+        int length = bytes.length >= 4 ? Math.min(bytes.length, u16(bytes, IP_TOTAL_LENGTH)) : 0;
+        int tcp = tcpOffset(bytes, length);
+        if (tcp < 0) {
+            emit(chunk);
+            return;
+        }
+
+        int srcIp = i32(bytes, IP_SRC);
+        int dstIp = i32(bytes, IP_DST);
+        int ports = i32(bytes, tcp + TCP_SRC_PORT);
+        int index = find(srcIp, dstIp, ports);
+
+        int headerLength = tcp + tcpHeaderLength(bytes, tcp);
+        int payloadLength = length - headerLength;
+        int flags = bytes[tcp + TCP_FLAGS] & 0xFF;
+        if (payloadLength == 0 || (flags & ~PSH) != ACK || !tcpChecksumValid(bytes, tcp, length)) {
+            if (index >= 0) flush(index);
+            emit(chunk);
+            return;
+        }
+
+        if (index >= 0) {
+            Flow flow = flows[index];
+            if (flow.accepts(bytes, tcp, headerLength, payloadLength, maxPacketLength)) {
+                flow.append(chunk, bytes, tcp, headerLength, payloadLength);
+                if ((flags & PSH) != 0 || payloadLength < flow.mss) flush(index);
+                return;
+            }
+            flush(index);
+        }
+
+        if ((flags & PSH) != 0) {
+            emit(chunk);
+            return;
+        }
+        if (active == flows.length) flush(0);
+        flows[active++].start(chunk, bytes, tcp, headerLength, payloadLength, srcIp, dstIp, ports);
+    }
+
+    /**
+     * 병합 대기 중인 모든 흐름을 도착 순서대로 내보낸다.
+     *
+     * - 수신한 패킷 묶음의 처리가 끝날 때마다 호출한다
+     */
+    public void flush() {
+        while (active > 0) flush(0);
+    }
+
+    /**
+     * 입력된 세그먼트 수를 반환한다.
+     */
+    public long segmentsIn() { return segmentsIn; }
+
+    /**
+     * 병합 후 전달된 패킷 수를 반환한다.
+     */
+    public long packetsOut() { return packetsOut; }
+
+    private int find(int srcIp, int dstIp, int ports) {
+        for (int i = 0; i < active; i++) {
+            Flow flow = flows[i];
+            if (flow.ports == ports && flow.srcIp == srcIp && flow.dstIp == dstIp) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * 흐름 하나를 내보내고, 남은 흐름의 도착 순서를 유지하도록 앞으로 당긴다.
+     */
+    private void flush(int index) {
+        Flow flow = flows[index];
+        Chunk merged = flow.build();
+        flow.clear();
+        System.arraycopy(flows, index + 1, flows, index, active - index - 1);
+        flows[--active] = flow;
+        emit(merged);
+    }
+
+    private void emit(Chunk chunk) {
+        packetsOut++;
+        sink.deliver(chunk);
+    }
+
+    /**
+     * 병합 대기 중인 흐름 하나
+     *
+     * - 세그먼트 데이터는 복사하지 않고 원본 배열 참조로 보관하며, 내보낼 때 한 번만 복사한다
+     */
+    private static final class Flow {
+        int srcIp;
+        int dstIp;
+        int ports;
+
+        Chunk first;
+        int tcp;
+        int headerLength;
+        int mss;
+        int nextSeq;
+        int totalLength;
+        byte lastFlags;
+        int lastWindow;
+
+        byte[][] buffers = new byte[8][];
+        int[] offsets = new int[8];
+        int[] lengths = new int[8];
+        int count;
+
+        void start(Chunk chunk, byte[] bytes, int tcp, int headerLength, int payloadLength,
+                   int srcIp, int dstIp, int ports) {
+            this.srcIp = srcIp;
+            this.dstIp = dstIp;
+            this.ports = ports;
+            this.first = chunk;
+            this.tcp = tcp;
+            this.headerLength = headerLength;
+            this.mss = payloadLength;
+            this.nextSeq = i32(bytes, tcp + TCP_SEQ);
+            this.totalLength = headerLength;
+            append(chunk, bytes, tcp, headerLength, payloadLength);
+        }
+
+        boolean accepts(byte[] bytes, int tcp, int headerLength, int payloadLength, int maxPacketLength) {
+            byte[] head = first.getPayload().getBytes();
+            return tcp == this.tcp
+                    && headerLength == this.headerLength
+                    && payloadLength <= mss
+                    && totalLength + payloadLength <= maxPacketLength
+                    && i32(bytes, tcp + TCP_SEQ) == nextSeq
+                    && i32(bytes, tcp + TCP_ACK) == i32(head, tcp + TCP_ACK)
+                    && bytes[IP_TOS] == head[IP_TOS]
+                    && bytes[IP_TTL] == head[IP_TTL]
+                    && Arrays.equals(bytes, tcp + TCP_MIN_LENGTH, headerLength,
+                                     head, tcp + TCP_MIN_LENGTH, headerLength);
+        }
+
+        void append(Chunk chunk, byte[] bytes, int tcp, int headerLength, int payloadLength) {
+            if (count == buffers.length) {
+                buffers = Arrays.copyOf(buffers, count * 2);
+                offsets = Arrays.copyOf(offsets, count * 2);
+                lengths = Arrays.copyOf(lengths, count * 2);
+            }
+            buffers[count] = bytes;
+            offsets[count] = headerLength;
+            lengths[count] = payloadLength;
+            count++;
+            nextSeq += payloadLength;
+            totalLength += payloadLength;
+            lastFlags = bytes[tcp + TCP_FLAGS];
+            lastWindow = u16(bytes, tcp + TCP_WINDOW);
+        }
+
+        Chunk build() {
+            if (count == 1) return first;
+            byte[] merged = new byte[totalLength];
+            System.arraycopy(buffers[0], 0, merged, 0, headerLength);
+            int position = headerLength;
+            for (int i = 0; i < count; i++) {
+                System.arraycopy(buffers[i], offsets[i], merged, position, lengths[i]);
+                position += lengths[i];
+            }
+            merged[tcp + TCP_FLAGS] = lastFlags;
+            put16(merged, tcp + TCP_WINDOW, lastWindow);
+            finish(merged, tcp, totalLength);
+            return chunk(merged);
+        }
+
+        void clear() {
+            Arrays.fill(buffers, 0, count, null);
+            first = null;
+            count = 0;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package framework.transport.tcp.offload;
+
+import static framework.transport.tcp.offload.SegmentHeaders.*;
+
+import framework.core.data.Chunk;
+
+/**
+ * 소프트웨어 GSO(Generic Segmentation Offload) 유틸리티 클래스입니다.
+ * <br>
+ * Transport 계층이 MSS보다 큰 TCP 세그먼트 하나를 만들어 계층을 한 번만 통과시키고,
+ * Link 계층 경계에서 이 클래스로 MSS 크기의 패킷들로 나눕니다.
+ * <br>
+ * 분할된 각 패킷은 다음 규칙에 따라 헤더를 보정합니다.
+ * <ul>
+ *   <li>시퀀스 번호는 분할 위치만큼 증가하고, IPv4 식별자는 패킷마다 1씩 증가합니다.</li>
+ *   <li>FIN / PSH 플래그는 마지막 패킷에만, CWR 플래그는 첫 패킷에만 남깁니다.</li>
+ *   <li>IPv4 전체 길이와 IPv4 / TCP 체크섬을 다시 계산합니다.</li>
+ * </ul>
+ * 큰 세그먼트는 IPv4 전체 길이 필드의 한계(65535)를 넘을 수 있으므로
+ * 전체 길이 필드 대신 전달받은 배열 길이를 패킷 길이로 사용합니다.
+ */
+public final class TcpGso {
+
+    // Utility class, prevent instantiation
+    private TcpGso() { }
+
+    /**
+     * {@link Chunk}의 페이로드에 담긴 IPv4 / TCP 패킷을 MSS 단위로 분할합니다.
+     * <br>
+     * 분할이 필요 없거나 분할 대상이 아닌 패킷은 복사하지 않고 그대로 전달합니다.
+     * @param chunk 분할할 패킷을 페이로드로 가진 {@link Chunk}
+     * @param mss   분할할 최대 TCP 페이로드 크기
+     * @param sink  분할된 패킷을 순서대로 전달받을 대상
+     * @return 전달된 패킷 수
+     */
+    public static int segment(Chunk chunk, int mss, ChunkSink sink) {
+        byte[] bytes = chunk.getPayload().getBytes();
+        int tcp = tcpOffset(bytes, bytes.length);
+        if (tcp < 0) {
+            sink.deliver(chunk);
+            return 1;
+        }
+        int headerLength = tcp + tcpHeaderLength(bytes, tcp);
+        int flags = bytes[tcp + TCP_FLAGS] & 0xFF;
+        if (bytes.length - headerLength <= mss || (flags & (SYN | RST)) != 0) {
+            sink.deliver(chunk);
+            return 1;
+        }
+        return segment(bytes, mss, sink);
+    }
+
+    /**
+     * IPv4 / TCP 패킷을 MSS 단위로 분할합니다.
+     * @param packet 분할할 패킷 (0번 위치부터 IPv4 헤더, 배열 길이가 패킷 길이)
+     * @param mss    분할할 최대 TCP 페이로드 크기
+     * @param sink   분할된 패킷을 순서대로 전달받을 대상
+     * @return 전달된 패킷 수
+     * @throws IllegalArgumentException 분할할 수 없는 패킷인 경우
+     */
+    public static int segment(byte[] packet, int mss, ChunkSink sink) {
+        if (mss <= 0)
+            throw new IllegalArgumentException("mss must be positive");
+        int tcp = tcpOffset(packet, packet.length);
+        if (tcp < 0)
+            throw new IllegalArgumentException("not an unfragmented IPv4/TCP packet");
+        int headerLength = tcp + tcpHeaderLength(packet, tcp);
+        if ((packet[tcp + TCP_FLAGS] & (SYN | RST)) != 0)
+            throw new IllegalArgumentException("SYN/RST segments cannot be segmented");
+        if (headerLength + Math.min(mss, packet.length - headerLength) > MAX_IP_LENGTH)
+            throw new IllegalArgumentException("segment exceeds the IPv4 length limit");
+        return split(packet, tcp, headerLength, mss, sink);
+    }
+
+    private static int split(byte[] packet, int tcp, int headerLength, int mss, ChunkSink sink) {
+        int payloadLength = packet.length - headerLength;
+        int seq = i32(packet, tcp + TCP_SEQ);
+        int id = u16(packet, IP_ID);
+        int flags = packet[tcp + TCP_FLAGS] & 0xFF;
+
+        int count = 0;
+        for (int offset = 0; offset < payloadLength || count == 0; offset += mss) {
+            int length = Math.min(mss, payloadLength - offset);
+            boolean first = offset == 0;
+            boolean last = offset + length == payloadLength;
+
+            byte[] segment = new byte[headerLength + length];
+            System.arraycopy(packet, 0, segment, 0, headerLength);
+            System.arraycopy(packet, headerLength + offset, segment, headerLength, length);
+
+            int segmentFlags = flags;
+            if (!last) segmentFlags &= ~(FIN | PSH);
+            if (!first) segmentFlags &= ~CWR;
+            segment[tcp + TCP_FLAGS] = (byte) segmentFlags;
+            put32(segment, tcp + TCP_SEQ, seq + offset);
+            put16(segment, IP_ID, id + count);
+            finish(segment, tcp, segment.length);
+
+            sink.deliver(chunk(segment));
+            count++;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,33 @@
+package framework.transport.udp;
+
+/**
+ * 수신된 UDP 데이터그램의 읽기 전용 뷰
+ *
+ * - 페이로드를 복사하지 않고 수신 버퍼의 (배열, 오프셋, 길이)를 그대로 가리킨다
+ * - {@link UdpSocket}의 슬롯에 미리 할당되어 재사용되므로,
+ *   {@link UdpSocket.DatagramHandler} 콜백이 반환된 이후에는 참조를 보관해서는 안 된다
+ */
+public final class UdpDatagram {
+
+    int srcIp;
+    int dstIp;
+    int srcPort;
+    int dstPort;
+    byte[] bytes;
+    int offset;
+    int length;
+
+    UdpDatagram() { }
+
+    public int srcIp() { return srcIp; }
+    public int dstIp() { return dstIp; }
+    public int srcPort() { return srcPort; }
+    public int dstPort() { return dstPort; }
+
+    /**
+     * 페이로드가 담긴 배열을 반환한다. 배열은 수정해서는 안 된다.
+     */
+    public byte[] bytes() { return bytes; }
+    public int offset() { return offset; }
+    public int length() { return length; }
+}
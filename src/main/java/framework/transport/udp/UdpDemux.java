@@ -0,0 +1,141 @@
+package framework.transport.udp;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Transport 계층의 UDP 수신 처리기
+ *
+ * - 목적지 포트로 65536칸 배열을 직접 인덱싱하여 수신 소켓을 찾는다 (해시 조회/연결 상태 없음)
+ * - 한 포트에 여러 소켓이 {@code reusePort}로 바인딩되면 (출발지 IP, 출발지 포트) 해시로 분산한다
+ * - 페이로드는 복사하지 않고 수신 버퍼의 뷰로 소켓 링에 전달된다
+ * - 소켓 링이 가득 차 폐기된 데이터그램은 포트별로 계수된다
+ *
+ * <p>
+ * 수신 경로는 락 없이 동작하며, 바인딩 변경만 모니터로 직렬화되어 포트별 소켓 배열을 교체(copy-on-write)한다.
+ */
+public final class UdpDemux {
+
+    private static final int PORTS = 1 << 16;
+    private static final VarHandle BINDINGS = MethodHandles.arrayElementVarHandle(UdpSocket[][].class);
+
+    private final UdpSocket[][] bindings = new UdpSocket[PORTS][];
+    private final AtomicLongArray portDrops = new AtomicLongArray(PORTS);
+    private final boolean verifyChecksum;
+
+    private final LongAdder malformed = new LongAdder();
+    private final LongAdder badChecksum = new LongAdder();
+    private final LongAdder noPort = new LongAdder();
+
+    public UdpDemux() {
+        this(true);
+    }
+
+    /**
+     * @param verifyChecksum 수신 시 UDP 체크섬 검증 여부 (NIC 오프로드 등으로 이미 검증된 경우 생략)
+     */
+    public UdpDemux(boolean verifyChecksum) {
+        this.verifyChecksum = verifyChecksum;
+    }
+
+    /**
+     * 포트에 새 소켓을 바인딩한다.
+     *
+     * @param port      바인딩할 포트
+     * @param capacity  소켓 링 용량 (2의 거듭제곱)
+     * @param reusePort 같은 포트에 다른 {@code reusePort} 소켓과 함께 바인딩할지 여부
+     * @return 바인딩된 소켓
+     * @throws IllegalStateException 포트가 이미 사용 중이고 공유할 수 없는 경우
+     */
+    public synchronized UdpSocket bind(int port, int capacity, boolean reusePort) {
+        if (port < 0 || port >= PORTS)
+            throw new IllegalArgumentException("port out of range: " + port);
+        UdpSocket[] current = bindings[port];
+        if (current != null && !(reusePort && current[0].reusePort()))
+            throw new IllegalStateException("port " + port + " is already bound");
+
+        UdpSocket socket = new UdpSocket(port, capacity, reusePort);
+        UdpSocket[] next = current == null ? new UdpSocket[] { socket } : append(current, socket);
+        BINDINGS.setRelease(bindings, port, next);
+        return socket;
+    }
+
+    /**
+     * 소켓의 바인딩을 해제한다.
+     *
+     * - 이미 링에 들어간 데이터그램은 소켓에서 계속 꺼낼 수 있다
+     */
+    public synchronized void unbind(UdpSocket socket) {
+        UdpSocket[] current = bindings[socket.port()];
+        if (current == null) return;
+        UdpSocket[] next = Arrays.stream(current).filter(s -> s != socket).toArray(UdpSocket[]::new);
+        BINDINGS.setRelease(bindings, socket.port(), next.length == 0 ? null : next);
+    }
+
+    /**
+     * Internet 계층에서 전달된 UDP 데이터그램을 수신 소켓으로 분배한다.
+     *
+     * - 락과 객체 할당 없이 수행된다
+     * - 전달된 배열은 소켓 소비자가 처리할 때까지 참조되므로 재사용해서는 안 된다
+     *
+     * @param srcIp  IP 헤더의 출발지 주소
+     * @param dstIp  IP 헤더의 목적지 주소
+     * @param bytes  UDP 데이터그램이 담긴 배열
+     * @param offset UDP 헤더 시작 위치
+     * @param length IP 페이로드 길이
+     * @return 소켓 링에 전달되었다면 {@code true}
+     */
+    public boolean receive(int srcIp, int dstIp, byte[] bytes, int offset, int length) {
+        if (length < UdpHeader.LENGTH || offset < 0 || offset + length > bytes.length) {
+            malformed.increment();
+            return false;
+        }
+        int udpLength = UdpHeader.length(bytes, offset);
+        if (udpLength < UdpHeader.LENGTH || udpLength > length) {
+            malformed.increment();
+            return false;
+        }
+
+        int dstPort = UdpHeader.destinationPort(bytes, offset);
+        UdpSocket[] sockets = (UdpSocket[]) BINDINGS.getAcquire(bindings, dstPort);
+        if (sockets == null) {
+            noPort.increment();
+            return false;
+        }
+        if (verifyChecksum && !UdpHeader.verify(srcIp, dstIp, bytes, offset, udpLength)) {
+            badChecksum.increment();
+            return false;
+        }
+
+        int srcPort = UdpHeader.sourcePort(bytes, offset);
+        UdpSocket socket = sockets.length == 1
+                ? sockets[0]
+                : sockets[Math.floorMod(flowHash(srcIp, srcPort), sockets.length)];
+        boolean offered = socket.offer(srcIp, dstIp, srcPort, dstPort,
+                bytes, offset + UdpHeader.LENGTH, udpLength - UdpHeader.LENGTH);
+        if (!offered) portDrops.incrementAndGet(dstPort);
+        return offered;
+    }
+
+    /**
+     * 수신 소켓이 처리하지 못해 폐기된 포트별 데이터그램 수를 반환한다.
+     */
+    public long drops(int port) { return portDrops.get(port); }
+    public long malformed() { return malformed.sum(); }
+    public long badChecksum() { return badChecksum.sum(); }
+    public long noPort() { return noPort.sum(); }
+
+    private static UdpSocket[] append(UdpSocket[] sockets, UdpSocket socket) {
+        UdpSocket[] next = Arrays.copyOf(sockets, sockets.length + 1);
+        next[sockets.length] = socket;
+        return next;
+    }
+
+    private static int flowHash(int srcIp, int srcPort) {
+        int h = (srcIp * 0x9E37_79B9) ^ srcPort;
+        return h ^ (h >>> 15);
+    }
+}
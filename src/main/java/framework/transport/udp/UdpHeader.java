@@ -0,0 +1,76 @@
+package framework.transport.udp;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+import framework.util.InternetChecksum;
+
+/**
+ * UDP 헤더(RFC 768)의 필드를 읽고 쓰는 유틸리티 클래스입니다.
+ * <br>
+ * 별도의 객체를 만들지 않고 전달받은 바이트 배열의 오프셋에서 직접 필드를 읽고 씁니다.
+ */
+public final class UdpHeader {
+    public static final int LENGTH = 8;
+    public static final int PROTOCOL = 17;
+
+    private static final VarHandle SHORT_BE =
+            MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.BIG_ENDIAN);
+
+    // Utility class, prevent instantiation
+    private UdpHeader() { }
+
+    public static int sourcePort(byte[] bytes, int offset) { return u16(bytes, offset); }
+    public static int destinationPort(byte[] bytes, int offset) { return u16(bytes, offset + 2); }
+    public static int length(byte[] bytes, int offset) { return u16(bytes, offset + 4); }
+    public static int checksum(byte[] bytes, int offset) { return u16(bytes, offset + 6); }
+
+    /**
+     * 의사 헤더를 포함하여 UDP 체크섬을 검증합니다.
+     * <br>
+     * 체크섬 필드가 0이면 송신 측이 체크섬을 계산하지 않은 것이므로 검증을 생략합니다.
+     * @param srcIp  출발지 IPv4 주소
+     * @param dstIp  목적지 IPv4 주소
+     * @param bytes  UDP 데이터그램이 담긴 배열
+     * @param offset UDP 헤더 시작 위치
+     * @param length UDP 헤더의 길이 필드 값
+     * @return 체크섬이 유효하거나 생략되었다면 {@code true}
+     */
+    public static boolean verify(int srcIp, int dstIp, byte[] bytes, int offset, int length) {
+        if (checksum(bytes, offset) == 0) return true;
+        long sum = InternetChecksum.sum(bytes, offset, length,
+                InternetChecksum.pseudoHeaderSum(srcIp, dstIp, PROTOCOL, length));
+        return InternetChecksum.fold(sum) == 0xFFFF;
+    }
+
+    /**
+     * UDP 헤더를 기록하고 의사 헤더를 포함한 체크섬을 계산하여 채웁니다.
+     * <br>
+     * 페이로드는 {@code offset + LENGTH} 위치에 이미 기록되어 있어야 합니다.
+     * @param out           기록할 배열
+     * @param offset        UDP 헤더 시작 위치
+     * @param srcIp         출발지 IPv4 주소
+     * @param dstIp         목적지 IPv4 주소
+     * @param srcPort       출발지 포트
+     * @param dstPort       목적지 포트
+     * @param payloadLength 페이로드 길이
+     */
+    public static void write(byte[] out, int offset, int srcIp, int dstIp, int srcPort, int dstPort, int payloadLength) {
+        int length = LENGTH + payloadLength;
+        Objects.checkFromIndexSize(offset, length, out.length);
+        SHORT_BE.set(out, offset, (short) srcPort);
+        SHORT_BE.set(out, offset + 2, (short) dstPort);
+        SHORT_BE.set(out, offset + 4, (short) length);
+        SHORT_BE.set(out, offset + 6, (short) 0);
+        int checksum = ~InternetChecksum.fold(InternetChecksum.sum(out, offset, length,
+                InternetChecksum.pseudoHeaderSum(srcIp, dstIp, PROTOCOL, length))) & 0xFFFF;
+        // 계산 결과가 0이면 "체크섬 없음"과 구분하기 위해 0xFFFF로 전송한다
+        SHORT_BE.set(out, offset + 6, (short) (checksum == 0 ? 0xFFFF : checksum));
+    }
+
+    private static int u16(byte[] bytes, int index) {
+        return (short) SHORT_BE.get(bytes, index) & 0xFFFF;
+    }
+}
@@ -0,0 +1,138 @@
+package framework.transport.udp;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 포트에 바인딩된 UDP 수신 엔드포인트
+ *
+ * - 수신된 데이터그램은 미리 할당된 {@link UdpDatagram} 슬롯을 가진 고정 크기 링 버퍼에 보관된다
+ * - Transport 계층 스레드(생산자)는 락 없이 슬롯을 예약하여 채우고, 링이 가득 차면 폐기 후 계수한다
+ * - 애플리케이션 스레드(소비자 하나)는 {@link #drain(DatagramHandler, int)}로 여러 데이터그램을 한 번에 처리한다
+ *
+ * <p>
+ * 링은 슬롯별 시퀀스 번호를 사용하는 bounded MPSC 구조로,
+ * Transport 계층이 여러 스레드로 실행되어도 안전하게 생산할 수 있다.
+ */
+public final class UdpSocket {
+
+    /**
+     * 데이터그램 일괄 처리 콜백
+     *
+     * - 전달되는 {@link UdpDatagram}은 콜백이 반환되면 재사용된다
+     */
+    @FunctionalInterface
+    public interface DatagramHandler {
+        void onDatagram(UdpDatagram datagram);
+    }
+
+    private static final VarHandle SEQUENCES = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private final int port;
+    private final boolean reusePort;
+    private final UdpDatagram[] slots;
+    private final long[] sequences;
+    private final int mask;
+
+    private final AtomicLong tail = new AtomicLong();
+    private long head;
+
+    private final LongAdder received = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    UdpSocket(int port, int capacity, boolean reusePort) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1)
+            throw new IllegalArgumentException("capacity must be a positive power of two");
+        this.port = port;
+        this.reusePort = reusePort;
+        this.slots = new UdpDatagram[capacity];
+        this.sequences = new long[capacity];
+        this.mask = capacity - 1;
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new UdpDatagram();
+            sequences[i] = i;
+        }
+    }
+
+    /**
+     * 데이터그램을 링에 넣는다.
+     *
+     * @return 링이 가득 차 폐기되었다면 {@code false}
+     */
+    boolean offer(int srcIp, int dstIp, int srcPort, int dstPort, byte[] bytes, int offset, int length) {
+        long position = tail.get();
+        int index;
+        while (true) {
+            index = (int) position & mask;
+            long sequence = (long) SEQUENCES.getAcquire(sequences, index);
+            long diff = sequence - position;
+            if (diff == 0) {
+                if (tail.compareAndSet(position, position + 1)) break;
+                position = tail.get();
+            } else if (diff < 0) {
+                dropped.increment();
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+
+        UdpDatagram slot = slots[index];
+        slot.srcIp = srcIp;
+        slot.dstIp = dstIp;
+        slot.srcPort = srcPort;
+        slot.dstPort = dstPort;
+        slot.bytes = bytes;
+        slot.offset = offset;
+        slot.length = length;
+        // 슬롯 내용을 채운 뒤 시퀀스를 release로 공개한다
+        SEQUENCES.setRelease(sequences, index, position + 1);
+        received.increment();
+        return true;
+    }
+
+    /**
+     * 대기 중인 데이터그램을 최대 {@code maxBatch}개까지 순서대로 처리한다.
+     *
+     * - 블로킹하지 않으며, 하나의 소비자 스레드에서만 호출해야 한다
+     *
+     * @param handler  데이터그램 처리 콜백
+     * @param maxBatch 한 번에 처리할 최대 개수
+     * @return 처리한 데이터그램 수
+     */
+    public int drain(DatagramHandler handler, int maxBatch) {
+        int n = 0;
+        while (n < maxBatch) {
+            int index = (int) head & mask;
+            long sequence = (long) SEQUENCES.getAcquire(sequences, index);
+            if (sequence != head + 1) break;
+
+            UdpDatagram slot = slots[index];
+            try {
+                handler.onDatagram(slot);
+            } finally {
+                slot.bytes = null;
+                SEQUENCES.setRelease(sequences, index, head + mask + 1);
+                head++;
+            }
+            n++;
+        }
+        return n;
+    }
+
+    /**
+     * 대기 중인 데이터그램이 있는지 여부를 반환한다.
+     */
+    public boolean hasPending() {
+        return (long) SEQUENCES.getAcquire(sequences, (int) head & mask) == head + 1;
+    }
+
+    public int port() { return port; }
+    public int capacity() { return slots.length; }
+    public long received() { return received.sum(); }
+    public long dropped() { return dropped.sum(); }
+
+    boolean reusePort() { return reusePort; }
+}
@@ -0,0 +1,231 @@
+package framework.util;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+import framework.core.data.Chunk;
+
+/**
+ * IPv4 / TCP / UDP 헤더에서 사용하는 인터넷 체크섬(RFC 1071) 유틸리티 클래스입니다.
+ * <br>
+ * 16비트 1의 보수 합은 32/64비트 단위로 더한 뒤 접어도(fold) 결과가 같으므로,
+ * 바이트 단위 루프 대신 {@link VarHandle}로 8바이트씩 읽어 누적합니다.
+ * <br>
+ * 제공 기능
+ * <ul>
+ *  <li>{@link #sum(byte[], int, int, long)} : 접지 않은(unfolded) 부분합 계산</li>
+ *  <li>{@link Accumulator} : 헤더/페이로드 조각을 이어 붙이지 않고 순서대로 누적</li>
+ *  <li>{@link #update16(int, int, int)} : 필드 변경 시 증분 갱신 (RFC 1624)</li>
+ * </ul>
+ */
+public final class InternetChecksum {
+    private static final VarHandle LONG_BE =
+            MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle INT_BE =
+            MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle SHORT_BE =
+            MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.BIG_ENDIAN);
+
+    private static final long LOW_32 = 0xFFFF_FFFFL;
+
+    // Utility class, prevent instantiation
+    private InternetChecksum() { }
+
+    /**
+     * 지정된 구간의 접지 않은 1의 보수 부분합을 {@code acc}에 더해 반환합니다.
+     * <br>
+     * 각 64비트 워드를 상위/하위 32비트로 나누어 더하므로 한 번에 최대 2^33 만큼 증가하며,
+     * 약 8GB 이하의 입력에 대해서는 {@code long} 누적값이 넘치지 않습니다.
+     * 홀수 길이의 마지막 바이트는 0으로 패딩된 16비트 워드로 취급합니다.
+     *
+     * @param bytes  대상 바이트 배열
+     * @param offset 시작 위치
+     * @param length 길이
+     * @param acc    이전까지의 누적값 (처음이면 0)
+     * @return 접지 않은 누적값, {@link #fold(long)}로 16비트로 변환
+     */
+    public static long sum(byte[] bytes, int offset, int length, long acc) {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        int i = offset;
+        final int end = offset + length;
+        long a = acc;
+        long b = 0;
+
+        // 두 개의 누적 변수로 나누어 덧셈 의존성 체인을 끊는다
+        for (; i + 16 <= end; i += 16) {
+            long w0 = (long) LONG_BE.get(bytes, i);
+            long w1 = (long) LONG_BE.get(bytes, i + 8);
+            a += (w0 >>> 32) + (w0 & LOW_32);
+            b += (w1 >>> 32) + (w1 & LOW_32);
+        }
+        a += b;
+        if (i + 8 <= end) {
+            long w = (long) LONG_BE.get(bytes, i);
+            a += (w >>> 32) + (w & LOW_32);
+            i += 8;
+        }
+        if (i + 4 <= end) {
+            a += (int) INT_BE.get(bytes, i) & LOW_32;
+            i += 4;
+        }
+        if (i + 2 <= end) {
+            a += (short) SHORT_BE.get(bytes, i) & 0xFFFF;
+            i += 2;
+        }
+        if (i < end) {
+            a += (bytes[i] & 0xFF) << 8;
+        }
+        return a;
+    }
+
+    /**
+     * 접지 않은 누적값을 16비트 1의 보수 합으로 접어 반환합니다.
+     * @param sum {@link #sum(byte[], int, int, long)} 등의 누적값
+     * @return 0 ~ 0xFFFF 범위의 16비트 합 (보수를 취하기 전)
+     */
+    public static int fold(long sum) {
+        long s = (sum & LOW_32) + (sum >>> 32);
+        s = (s & LOW_32) + (s >>> 32);
+        s = (s & 0xFFFF) + (s >>> 16);
+        s = (s & 0xFFFF) + (s >>> 16);
+        s = (s & 0xFFFF) + (s >>> 16);
+        return (int) s;
+    }
+
+    /**
+     * 지정된 구간의 인터넷 체크섬을 계산합니다.
+     * <br>
+     * 체크섬 필드를 포함한 헤더 전체를 검증할 때는 결과가 0이면 정상입니다.
+     *
+     * @param bytes  대상 바이트 배열
+     * @param offset 시작 위치
+     * @param length 길이
+     * @return 16비트 체크섬
+     */
+    public static int checksum(byte[] bytes, int offset, int length) {
+        return ~fold(sum(bytes, offset, length, 0)) & 0xFFFF;
+    }
+
+    /**
+     * {@link Chunk}의 헤더와 페이로드를 이어 붙이지 않고 하나의 연속된 데이터로 보아 체크섬을 계산합니다.
+     * @param chunk 대상 {@link Chunk}
+     * @return 16비트 체크섬
+     */
+    public static int checksum(Chunk chunk) {
+        byte[] header = chunk.getHeader().getBytes();
+        byte[] payload = chunk.getPayload().getBytes();
+        return new Accumulator()
+                .update(header, 0, header.length)
+                .update(payload, 0, payload.length)
+                .finish();
+    }
+
+    /**
+     * 16비트 필드가 {@code oldWord}에서 {@code newWord}로 바뀌었을 때의 체크섬을 증분 계산합니다.
+     * <br>
+     * RFC 1624 Eqn. 3 : {@code HC' = ~(~HC + ~m + m')}
+     * <br>
+     * 예) IPv4 TTL 감소 : TTL과 Protocol이 같은 16비트 워드를 이루므로
+     * {@code update16(hc, (ttl << 8) | proto, ((ttl - 1) << 8) | proto)}
+     *
+     * @param checksum 기존 체크섬
+     * @param oldWord  변경 전 16비트 값
+     * @param newWord  변경 후 16비트 값
+     * @return 갱신된 체크섬
+     */
+    public static int update16(int checksum, int oldWord, int newWord) {
+        long s = (~checksum & 0xFFFF) + (~oldWord & 0xFFFF) + (newWord & 0xFFFF);
+        return ~fold(s) & 0xFFFF;
+    }
+
+    /**
+     * 32비트 필드(IPv4 주소 등)가 바뀌었을 때의 체크섬을 증분 계산합니다.
+     * @param checksum 기존 체크섬
+     * @param oldValue 변경 전 32비트 값
+     * @param newValue 변경 후 32비트 값
+     * @return 갱신된 체크섬
+     */
+    public static int update32(int checksum, int oldValue, int newValue) {
+        long s = (~checksum & 0xFFFF)
+                + (~(oldValue >>> 16) & 0xFFFF) + (~oldValue & 0xFFFF)
+                + ((newValue >>> 16) & 0xFFFF) + (newValue & 0xFFFF);
+        return ~fold(s) & 0xFFFF;
+    }
+
+    /**
+     * TCP/UDP 체크섬 계산에 포함되는 IPv4 의사 헤더(pseudo header)의 누적값을 반환합니다.
+     * @param srcIp    출발지 IPv4 주소
+     * @param dstIp    목적지 IPv4 주소
+     * @param protocol IP 프로토콜 번호 (TCP 6, UDP 17)
+     * @param length   TCP/UDP 세그먼트 길이 (헤더 + 데이터)
+     * @return 접지 않은 누적값
+     */
+    public static long pseudoHeaderSum(int srcIp, int dstIp, int protocol, int length) {
+        return (srcIp & LOW_32) + (dstIp & LOW_32) + (protocol & 0xFF) + (length & 0xFFFF);
+    }
+
+    /**
+     * 여러 바이트 조각을 순서대로 누적하여 하나의 체크섬을 계산하는 누적기입니다.
+     * <br>
+     * 앞 조각이 홀수 길이로 끝나면 다음 조각은 16비트 워드 경계가 한 바이트 밀리므로,
+     * 해당 조각의 부분합을 바이트 스왑하여 더합니다. (RFC 1071 2.(B) 바이트 순서 독립성)
+     * <br>
+     * {@link #reset()} 후 재사용할 수 있으며, 스레드 안전하지 않습니다.
+     */
+    public static final class Accumulator {
+        private long sum;
+        private boolean odd;
+
+        /**
+         * 누적 상태를 초기화합니다.
+         * @return 현재 누적기
+         */
+        public Accumulator reset() {
+            sum = 0;
+            odd = false;
+            return this;
+        }
+
+        /**
+         * 바이트 조각을 누적합니다.
+         * @param bytes  대상 바이트 배열
+         * @param offset 시작 위치
+         * @param length 길이
+         * @return 현재 누적기
+         */
+        public Accumulator update(byte[] bytes, int offset, int length) {
+            if (length == 0) return this;
+            if (!odd) {
+                sum = sum(bytes, offset, length, sum);
+            } else {
+                int part = fold(sum(bytes, offset, length, 0));
+                sum += ((part & 0xFF) << 8) | (part >>> 8);
+            }
+            odd ^= (length & 1) != 0;
+            return this;
+        }
+
+        /**
+         * 접지 않은 누적값(의사 헤더 등)을 더합니다.
+         * <br>
+         * 16비트 워드 경계가 맞는 위치에서만 호출해야 합니다.
+         * @param partialSum 접지 않은 누적값
+         * @return 현재 누적기
+         */
+        public Accumulator add(long partialSum) {
+            if (odd) throw new IllegalStateException("partial sum must be added on a 16-bit boundary");
+            sum += (partialSum & LOW_32) + (partialSum >>> 32);
+            return this;
+        }
+
+        /**
+         * 누적된 값으로 16비트 체크섬을 계산합니다.
+         * @return 16비트 체크섬
+         */
+        public int finish() {
+            return ~fold(sum) & 0xFFFF;
+        }
+    }
+}
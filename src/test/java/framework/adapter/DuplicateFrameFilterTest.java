@@ -0,0 +1,145 @@
+package framework.adapter;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.pcap4j.packet.namednumber.DataLinkType;
+
+import framework.adapter.capture.CaptureRing;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DuplicateFrameFilterTest {
+
+    private static final long MS = 1_000_000L;
+
+    private static byte[] ipPacket(int id) {
+        byte[] packet = new byte[60];
+        packet[0] = 0x45;
+        packet[4] = (byte) (id >>> 8);
+        packet[5] = (byte) id;
+        for (int i = 20; i < packet.length; i++) packet[i] = (byte) (i * 7 + id);
+        return packet;
+    }
+
+    private static byte[] withHeader(byte[] packet, byte[] header) {
+        byte[] frame = new byte[header.length + packet.length];
+        System.arraycopy(header, 0, frame, 0, header.length);
+        System.arraycopy(packet, 0, frame, header.length, packet.length);
+        return frame;
+    }
+
+    @Test
+    void testIsDuplicate_sameL3PacketAcrossLinkTypes() {
+        // given
+        DuplicateFrameFilter filter = new DuplicateFrameFilter(5 * MS, 1024);
+        byte[] packet = ipPacket(1);
+        byte[] ethernet = new byte[14];
+        ethernet[12] = 0x08;
+        byte[] sll = new byte[16];
+        sll[14] = 0x08;
+        byte[] ethernetFrame = withHeader(packet, ethernet);
+        byte[] sllFrame = withHeader(packet, sll);
+
+        // when
+        boolean first = filter.isDuplicate(ethernetFrame,
+                DuplicateFrameFilter.payloadOffset(DataLinkType.EN10MB, ethernetFrame), ethernetFrame.length, 0);
+        boolean second = filter.isDuplicate(sllFrame,
+                DuplicateFrameFilter.payloadOffset(DataLinkType.LINUX_SLL, sllFrame), sllFrame.length, MS);
+        boolean other = filter.isDuplicate(ipPacket(2), 0, 60, MS);
+
+        // then
+        assertFalse(first);
+        assertTrue(second);
+        assertFalse(other);
+        assertEquals(3, filter.inspected());
+        assertEquals(1, filter.suppressed());
+    }
+
+    @Test
+    void testIsDuplicate_expiresAfterWindow() {
+        // given
+        DuplicateFrameFilter filter = new DuplicateFrameFilter(5 * MS, 1024);
+        byte[] packet = ipPacket(3);
+
+        // then
+        assertFalse(filter.isDuplicate(packet, 0, packet.length, 0));
+        assertTrue(filter.isDuplicate(packet, 0, packet.length, 4 * MS));
+        assertFalse(filter.isDuplicate(packet, 0, packet.length, 20 * MS));
+    }
+
+    @Test
+    void testIsDuplicate_laterCapturedCopyCheckedFirst() {
+        // given : NIC 1이 더 늦게 캡처한 사본이 먼저 디코드된다
+        DuplicateFrameFilter filter = new DuplicateFrameFilter(5 * MS, 1024);
+        byte[] packet = ipPacket(4);
+        CaptureRing early = new CaptureRing(0, 4, 256);
+        CaptureRing late = new CaptureRing(1, 4, 256);
+        early.offer(packet, 0, packet.length, MS);
+        late.offer(packet, 0, packet.length, 3 * MS);
+        boolean[] duplicate = new boolean[2];
+
+        // when
+        late.drain((bytes, offset, length, ts) -> {
+            duplicate[1] = filter.isDuplicate(bytes, offset, offset + length, ts);
+            return true;
+        }, 1);
+        early.drain((bytes, offset, length, ts) -> {
+            duplicate[0] = filter.isDuplicate(bytes, offset, offset + length, ts);
+            return true;
+        }, 1);
+
+        // then : 이른 사본도 중복이며, 늦은 사본의 기록을 덮어쓰지 않는다
+        assertFalse(duplicate[1]);
+        assertTrue(duplicate[0]);
+        assertTrue(filter.isDuplicate(packet, 0, packet.length, 7 * MS));
+        assertFalse(filter.isDuplicate(packet, 0, packet.length, 20 * MS));
+    }
+
+    @Test
+    void testPayloadOffset_skipsVlanTags() {
+        // given
+        byte[] frame = new byte[64];
+        frame[12] = (byte) 0x81;
+        frame[13] = 0x00;
+        frame[16] = 0x08;
+
+        // then
+        assertEquals(18, DuplicateFrameFilter.payloadOffset(DataLinkType.EN10MB, frame));
+        assertEquals(0, DuplicateFrameFilter.payloadOffset(DataLinkType.RAW, frame));
+    }
+
+    @Test
+    void testIsDuplicate_concurrentCaptureAdmitsOnce() throws InterruptedException {
+        // given
+        DuplicateFrameFilter filter = new DuplicateFrameFilter(1000 * MS, 1 << 14);
+        int frames = 2000;
+        int threads = 3;
+        AtomicInteger admitted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            workers[t] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < frames; i++) {
+                    byte[] packet = ipPacket(i);
+                    if (!filter.isDuplicate(packet, 0, packet.length, 0)) admitted.incrementAndGet();
+                }
+            });
+            workers[t].start();
+        }
+
+        // when
+        start.countDown();
+        for (Thread worker : workers) worker.join();
+
+        // then : 같은 프레임이 여러 NIC에서 동시에 들어와도 한 번만 통과한다
+        assertEquals(frames, admitted.get());
+        assertEquals((long) frames * (threads - 1), filter.suppressed());
+    }
+}
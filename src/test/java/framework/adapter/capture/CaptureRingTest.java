@@ -0,0 +1,157 @@
+package framework.adapter.capture;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CaptureRingTest {
+
+    private static byte[] frame(int id, int length) {
+        byte[] bytes = new byte[length];
+        Arrays.fill(bytes, (byte) id);
+        return bytes;
+    }
+
+    @Test
+    void testOffer_dropsWhenSlotsOrBytesExhausted() {
+        // given
+        CaptureRing ring = new CaptureRing(3, 4, 100);
+
+        // then : 레코드 수 상한
+        for (int i = 0; i < 4; i++) assertTrue(ring.offer(frame(i, 10), 0, 10, i));
+        assertFalse(ring.offer(frame(4, 10), 0, 10, 4));
+
+        // when
+        List<Integer> seen = new ArrayList<>();
+        ring.drain((bytes, offset, length, ts) -> seen.add((int) bytes[offset]), 16);
+
+        // then : 버퍼 크기 상한
+        assertEquals(List.of(0, 1, 2, 3), seen);
+        assertTrue(ring.offer(frame(5, 60), 0, 60, 5));
+        assertFalse(ring.offer(frame(6, 60), 0, 60, 6));
+        assertFalse(ring.offer(frame(7, 101), 0, 101, 7));
+
+        CaptureStats stats = ring.stats();
+        assertEquals(3, stats.nic());
+        assertEquals(5, stats.captured());
+        assertEquals(4, stats.delivered());
+        assertEquals(3, stats.ringDropped());
+        assertEquals(1, stats.backlog());
+        assertEquals(-1, stats.kernelDropped());
+    }
+
+    @Test
+    void testDrain_wrapsAroundBufferWithoutCorruption() {
+        // given
+        CaptureRing ring = new CaptureRing(0, 8, 100);
+        List<String> seen = new ArrayList<>();
+
+        // when : 길이가 서로 다른 프레임으로 버퍼를 여러 바퀴 돈다
+        for (int i = 0; i < 50; i++) {
+            int length = 17 + (i * 7) % 23;
+            assertTrue(ring.offer(frame(i, length), 0, length, i));
+            if (i % 2 == 1) {
+                ring.drain((bytes, offset, len, ts) -> {
+                    for (int k = 0; k < len; k++) assertEquals((byte) ts, bytes[offset + k]);
+                    return seen.add(ts + ":" + len);
+                }, 8);
+            }
+        }
+
+        // then
+        assertEquals(50, seen.size());
+        assertEquals("49:" + (17 + (49 * 7) % 23), seen.get(49));
+        assertEquals(0, ring.size());
+    }
+
+    @Test
+    void testDrain_rejectedFrameStaysForRetry() {
+        // given
+        CaptureRing ring = new CaptureRing(0, 4, 64);
+        ring.offer(frame(1, 8), 0, 8, 1);
+        ring.offer(frame(2, 8), 0, 8, 2);
+        List<Long> seen = new ArrayList<>();
+
+        // when : 하위 계층이 두 번째 프레임을 받지 못한다
+        int drained = ring.drain((bytes, offset, length, ts) -> ts == 1 && seen.add(ts), 4);
+
+        // then
+        assertEquals(1, drained);
+        assertEquals(1, ring.size());
+
+        // when
+        drained = ring.drain((bytes, offset, length, ts) -> seen.add(ts), 4);
+
+        // then
+        assertEquals(1, drained);
+        assertEquals(List.of(1L, 2L), seen);
+        assertEquals(2, ring.stats().delivered());
+    }
+
+    @Test
+    void testOfferDrain_concurrentProducerConsumerPreservesOrderAndContent() throws InterruptedException {
+        // given : 작은 링에서 캡처 스레드와 디코드 스레드가 동시에 접근한다
+        CaptureRing ring = new CaptureRing(0, 16, 256);
+        int frames = 100_000;
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        Thread producer = new Thread(() -> {
+            byte[] scratch = new byte[64];
+            for (int seq = 0; seq < frames; seq++) {
+                int length = 1 + seq % 64;
+                for (int k = 0; k < length; k++) scratch[k] = (byte) (seq + k);
+                // 가득 차면 버려지므로 같은 프레임을 다시 넣는다
+                while (!ring.offer(scratch, 0, length, seq)) {
+                    if (failure.get() != null) return;
+                    Thread.yield();
+                }
+            }
+        });
+
+        long[] next = new long[1];
+        boolean[] rejected = new boolean[1];
+        CaptureRing.FrameHandler handler = (bytes, offset, length, ts) -> {
+            // 일부 프레임은 한 번 거절하여 재전달 경로도 함께 검증한다
+            if (ts % 7 == 0 && !rejected[0]) {
+                rejected[0] = true;
+                return false;
+            }
+            rejected[0] = false;
+            int seq = (int) next[0]++;
+            assertEquals(seq, ts);
+            assertEquals(1 + seq % 64, length);
+            for (int k = 0; k < length; k++) assertEquals((byte) (seq + k), bytes[offset + k]);
+            return true;
+        };
+        Thread consumer = new Thread(() -> {
+            try {
+                while (next[0] < frames) {
+                    if (ring.drain(handler, 8) == 0) Thread.yield();
+                }
+            } catch (Throwable t) {
+                failure.set(t);
+            }
+        });
+
+        // when
+        producer.start();
+        consumer.start();
+        producer.join(TimeUnit.SECONDS.toMillis(30));
+        consumer.join(TimeUnit.SECONDS.toMillis(30));
+
+        // then
+        assertNull(failure.get());
+        assertFalse(producer.isAlive() || consumer.isAlive());
+        assertEquals(frames, next[0]);
+        assertEquals(0, ring.size());
+        CaptureStats stats = ring.stats();
+        assertEquals(frames, stats.captured());
+        assertEquals(frames, stats.delivered());
+    }
+}
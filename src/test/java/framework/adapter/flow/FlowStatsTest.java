@@ -0,0 +1,154 @@
+package framework.adapter.flow;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FlowStatsTest {
+
+    private static final long SEC = 1_000_000_000L;
+
+    private final List<String> exported = new ArrayList<>();
+    private final List<Integer> batchSizes = new ArrayList<>();
+
+    private FlowStats stats(FlowConfig config) {
+        return new FlowStats(config, (records, count) -> {
+            batchSizes.add(count);
+            for (int i = 0; i < count; i++) {
+                FlowRecord r = records[i];
+                exported.add(r.srcPort() + ":" + r.packets() + ":" + r.bytes() + ":" + r.reason());
+            }
+        });
+    }
+
+    /**
+     * 14바이트 Ethernet 헤더 뒤에 IPv4 / UDP 패킷을 담은 프레임
+     */
+    private static byte[] frame(int srcIp, int srcPort, int dstPort, int ipLength) {
+        byte[] frame = new byte[14 + ipLength];
+        frame[12] = 0x08;
+        frame[14] = 0x45;
+        frame[16] = (byte) (ipLength >>> 8);
+        frame[17] = (byte) ipLength;
+        frame[23] = 17;
+        frame[26] = (byte) (srcIp >>> 24);
+        frame[27] = (byte) (srcIp >>> 16);
+        frame[28] = (byte) (srcIp >>> 8);
+        frame[29] = (byte) srcIp;
+        frame[33] = 1;
+        frame[34] = (byte) (srcPort >>> 8);
+        frame[35] = (byte) srcPort;
+        frame[36] = (byte) (dstPort >>> 8);
+        frame[37] = (byte) dstPort;
+        return frame;
+    }
+
+    @Test
+    void testExtract_boundedByEndWithinSharedBuffer() {
+        // given : 캡처 링처럼 여러 프레임이 이어진 버퍼의 중간에 있는 프레임
+        byte[] frame = frame(0x0A000001, 1234, 80, 40);
+        byte[] buffer = new byte[200];
+        System.arraycopy(frame, 0, buffer, 100, frame.length);
+        int ip = 100 + 14;
+        long[] key = new long[3];
+
+        // when
+        boolean extracted = FlowKeys.extract(buffer, ip, 100 + frame.length, key);
+
+        // then
+        assertTrue(extracted);
+        assertEquals(0x0A000001, FlowKeys.srcIp(key[0]));
+        assertEquals(1234, FlowKeys.srcPort(key[1]));
+        assertEquals(80, FlowKeys.dstPort(key[1]));
+
+        // when : 포트 앞에서 끝나는 프레임은 끝 위치 밖의 바이트를 읽지 않는다
+        extracted = FlowKeys.extract(buffer, ip, ip + 20, key);
+
+        // then
+        assertTrue(extracted);
+        assertEquals(0, FlowKeys.srcPort(key[1]));
+        assertFalse(FlowKeys.extract(buffer, ip, ip + 19, key));
+    }
+
+    @Test
+    void testExpire_idleAndActiveTimeouts() {
+        // given
+        FlowStats stats = stats(new FlowConfig.Builder()
+                .idleTimeoutNanos(5 * SEC).activeTimeoutNanos(20 * SEC).build());
+        FlowStats.Recorder recorder = stats.recorder(0);
+        byte[] idle = frame(0x0A000001, 1000, 53, 100);
+        byte[] busy = frame(0x0A000001, 2000, 443, 1000);
+
+        // when
+        recorder.record(idle, 14, idle.length, 0);
+        recorder.record(idle, 14, idle.length, SEC);
+        for (long t = 0; t <= 21; t++) {
+            recorder.record(busy, 14, busy.length, t * SEC);
+            recorder.expire(t * SEC);
+        }
+
+        // then
+        assertEquals(List.of("1000:2:200:IDLE", "2000:21:21000:ACTIVE"), exported);
+        assertEquals(1, recorder.activeFlows());
+
+        // when
+        recorder.flush(22 * SEC);
+
+        // then : 중간 보고 이후 누적분만 내보낸다
+        assertEquals("2000:1:1000:FLUSH", exported.get(2));
+        assertEquals(0, recorder.activeFlows());
+        assertEquals(3, recorder.exported());
+    }
+
+    @Test
+    void testExport_batchedAndTableBounded() {
+        // given
+        FlowStats stats = stats(new FlowConfig.Builder().flowCapacity(100).exportBatchSize(16).build());
+        FlowStats.Recorder recorder = stats.recorder(0);
+
+        // when
+        for (int port = 1; port <= 150; port++) {
+            byte[] frame = frame(0x0A000001, port, 80, 60);
+            recorder.record(frame, 14, frame.length, 0);
+        }
+        recorder.flush(SEC);
+
+        // then
+        assertEquals(100, exported.size());
+        assertEquals(50, recorder.untracked());
+        assertEquals(List.of(16, 16, 16, 16, 16, 16, 4), batchSizes);
+    }
+
+    @Test
+    void testHeavyHitters_foundAcrossStripes() {
+        // given
+        FlowStats stats = stats(new FlowConfig.Builder().stripes(2).topK(8).sketchWidth(1024).build());
+        Random random = new Random(3);
+        byte[] elephant = frame(0x0A000009, 9999, 80, 1500);
+        byte[] mouse = frame(0x0A000008, 8888, 80, 1500);
+
+        // when : 큰 흐름 사이에 다수의 작은 흐름이 섞여 들어온다
+        for (int i = 0; i < 20_000; i++) {
+            FlowStats.Recorder recorder = stats.recorder(i & 1);
+            if (i % 10 == 0) recorder.record(elephant, 14, elephant.length, 0);
+            if (i % 50 == 0) recorder.record(mouse, 14, mouse.length, 0);
+            byte[] noise = frame(0x0B000000 | random.nextInt(1 << 16), random.nextInt(65536), 80, 64);
+            recorder.record(noise, 14, noise.length, 0);
+        }
+        stats.recorder(0).expire(0);
+        stats.recorder(1).expire(0);
+
+        // then
+        List<HeavyHitter> top = stats.heavyHitters(2);
+        assertEquals(9999, top.get(0).srcPort());
+        assertEquals(8888, top.get(1).srcPort());
+        assertTrue(top.get(0).guaranteedBytes() <= 2000L * 1500 && top.get(0).bytes() >= 2000L * 1500);
+        long estimate = stats.estimateBytes(0x0A000009, 0x00000001, 17, 9999, 80);
+        assertTrue(estimate >= 2000L * 1500);
+        assertTrue(estimate < 2000L * 1500 * 2);
+    }
+}
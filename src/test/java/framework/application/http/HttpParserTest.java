@@ -0,0 +1,163 @@
+package framework.application.http;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HttpParserTest {
+
+    /**
+     * 콜백을 문자열로 기록하는 핸들러
+     */
+    private static final class Recorder implements HttpHandler {
+        final StringBuilder events = new StringBuilder();
+        final StringBuilder body = new StringBuilder();
+
+        @Override
+        public void onRequestLine(byte[] buf, int methodOffset, int methodLength,
+                                  int targetOffset, int targetLength, int minorVersion) {
+            events.append(HttpBytes.toString(buf, methodOffset, methodLength)).append(' ')
+                  .append(HttpBytes.toString(buf, targetOffset, targetLength)).append(" 1.").append(minorVersion).append('|');
+        }
+
+        @Override
+        public void onStatusLine(byte[] buf, int status, int reasonOffset, int reasonLength, int minorVersion) {
+            events.append(status).append(' ').append(HttpBytes.toString(buf, reasonOffset, reasonLength)).append('|');
+        }
+
+        @Override
+        public void onHeader(byte[] buf, int nameOffset, int nameLength, int valueOffset, int valueLength) {
+            events.append(HttpBytes.toString(buf, nameOffset, nameLength)).append('=')
+                  .append(HttpBytes.toString(buf, valueOffset, valueLength)).append('|');
+        }
+
+        @Override
+        public void onBody(byte[] buf, int offset, int length) {
+            body.append(HttpBytes.toString(buf, offset, length));
+        }
+
+        @Override
+        public void onTrailer(byte[] buf, int nameOffset, int nameLength, int valueOffset, int valueLength) {
+            events.append("trailer:").append(HttpBytes.toString(buf, nameOffset, nameLength)).append('|');
+        }
+
+        @Override
+        public void onMessageComplete() {
+            events.append("body=").append(body).append("|done|");
+            body.setLength(0);
+        }
+    }
+
+    private static byte[] ascii(String s) {
+        return s.getBytes(StandardCharsets.ISO_8859_1);
+    }
+
+    @Test
+    void testParse_pipelinedRequestsIndependentOfSliceBoundaries() {
+        // given
+        byte[] stream = ascii("GET /a HTTP/1.1\r\nHost: x\r\n\r\n"
+                + "POST /b HTTP/1.0\r\nContent-Length: 5\r\nX-Name:  v  \r\n\r\nhello"
+                + "\r\nPUT /c HTTP/1.1\r\nTransfer-Encoding: gzip, chunked\r\n\r\n"
+                + "3;ext=1\r\nabc\r\n10\r\n0123456789abcdef\r\n0\r\nChecksum: 1\r\n\r\n");
+        Recorder whole = new Recorder();
+        new HttpParser(HttpParser.Type.REQUEST, whole).parse(stream, 0, stream.length);
+
+        // then
+        assertEquals("GET /a 1.1|Host=x|body=|done|"
+                + "POST /b 1.0|Content-Length=5|X-Name=v|body=hello|done|"
+                + "PUT /c 1.1|Transfer-Encoding=gzip, chunked|trailer:Checksum|body=abc0123456789abcdef|done|",
+                whole.events.toString());
+
+        // when : 모든 분할 지점에서 두 조각, 그리고 한 바이트씩 전달
+        for (int split = 1; split < stream.length; split++) {
+            Recorder recorder = new Recorder();
+            HttpParser parser = new HttpParser(HttpParser.Type.REQUEST, recorder);
+            parser.parse(stream, 0, split);
+            parser.parse(stream, split, stream.length - split);
+
+            // then
+            assertEquals(whole.events.toString(), recorder.events.toString(), "split at " + split);
+            assertEquals(3, parser.messages());
+            assertTrue(parser.isIdle());
+        }
+        Recorder recorder = new Recorder();
+        HttpParser parser = new HttpParser(HttpParser.Type.REQUEST, recorder);
+        for (int i = 0; i < stream.length; i++) parser.parse(stream, i, 1);
+        assertEquals(whole.events.toString(), recorder.events.toString());
+    }
+
+    @Test
+    void testParse_bodyPointsIntoOriginalSlice() {
+        // given
+        byte[] stream = ascii("HTTP/1.1 200 OK\r\nContent-Length: 4\r\n\r\nDATA");
+        int[] bodyOffset = { -1 };
+        byte[][] bodyBuffer = new byte[1][];
+        HttpParser parser = new HttpParser(HttpParser.Type.RESPONSE, new HttpHandler() {
+            @Override
+            public void onBody(byte[] buf, int offset, int length) {
+                bodyBuffer[0] = buf;
+                bodyOffset[0] = offset;
+            }
+        });
+
+        // when
+        parser.parse(stream, 0, stream.length);
+
+        // then
+        assertSame(stream, bodyBuffer[0]);
+        assertEquals(stream.length - 4, bodyOffset[0]);
+    }
+
+    @Test
+    void testParse_responseFraming() {
+        // given
+        Recorder recorder = new Recorder();
+        HttpParser parser = new HttpParser(HttpParser.Type.RESPONSE, recorder);
+        byte[] stream = ascii("HTTP/1.1 100 Continue\r\n\r\n"
+                + "HTTP/1.1 204 No Content\r\nContent-Length: 10\r\n\r\n"
+                + "HTTP/1.0 200\r\n\r\nuntil close");
+
+        // when
+        parser.parse(stream, 0, stream.length);
+        parser.finish();
+
+        // then
+        assertEquals("100 Continue|body=|done|204 No Content|Content-Length=10|body=|done|200 |body=until close|done|",
+                recorder.events.toString());
+        assertEquals(3, parser.messages());
+    }
+
+    @Test
+    void testParse_malformedInputFailsStream() {
+        assertThrows(HttpParseException.class, () -> parse(HttpParser.Type.REQUEST, "GET /a HTTP/2.0\r\n\r\n"));
+        assertThrows(HttpParseException.class, () -> parse(HttpParser.Type.REQUEST,
+                "POST / HTTP/1.1\r\nContent-Length: 1\r\nContent-Length: 2\r\n\r\n"));
+        assertThrows(HttpParseException.class, () -> parse(HttpParser.Type.REQUEST,
+                "GET / HTTP/1.1\r\nHost: a\r\n folded\r\n\r\n"));
+        assertThrows(HttpParseException.class, () -> parse(HttpParser.Type.RESPONSE,
+                "HTTP/1.1 200 OK\r\nTransfer-Encoding: chunked\r\n\r\nzz\r\n"));
+
+        // given : 줄 길이 상한
+        HttpParser parser = new HttpParser(HttpParser.Type.REQUEST, new Recorder(), 16, 10);
+        byte[] line = ascii("GET /a-very-long-target");
+
+        // then
+        assertThrows(HttpParseException.class, () -> parser.parse(line, 0, line.length));
+        assertThrows(HttpParseException.class, () -> parser.parse(line, 0, 1));
+
+        // when
+        parser.reset();
+        byte[] ok = ascii("GET / HTTP/1.1\r\n\r\n");
+        parser.parse(ok, 0, ok.length);
+
+        // then
+        assertEquals(1, parser.messages());
+    }
+
+    private static void parse(HttpParser.Type type, String message) {
+        byte[] bytes = ascii(message);
+        new HttpParser(type, new Recorder()).parse(bytes, 0, bytes.length);
+    }
+}
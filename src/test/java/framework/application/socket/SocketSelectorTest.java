@@ -0,0 +1,198 @@
+package framework.application.socket;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SocketSelectorTest {
+
+    /**
+     * 연결 양 끝을 같은 프로세스 안에서 이어 주는 전송 계층
+     *
+     * - 송신 슬라이스를 복사하지 않고 상대방에게 빌려주며, 상대방이 반환하면 송신 버퍼 여유가 생긴다
+     */
+    private static final class LoopbackTransport implements TransportPort {
+        private final int sendBuffer;
+        private final Map<Integer, TransportEvents> listeners = new HashMap<>();
+        private final Map<Long, Long> peers = new HashMap<>();
+        private final Map<Long, TransportEvents> owners = new HashMap<>();
+        private final Map<Long, Long> buffered = new HashMap<>();
+        private final Map<Long, Boolean> blocked = new HashMap<>();
+        private long nextId = 1;
+        int closes;
+
+        LoopbackTransport(int sendBuffer) {
+            this.sendBuffer = sendBuffer;
+        }
+
+        @Override
+        public void listen(int localPort, TransportEvents events) {
+            if (listeners.putIfAbsent(localPort, events) != null) throw new IllegalStateException();
+        }
+
+        @Override
+        public void unlisten(int localPort) {
+            listeners.remove(localPort);
+        }
+
+        @Override
+        public long connect(int remoteAddress, int remotePort, TransportEvents events) {
+            long client = nextId++;
+            long server = nextId++;
+            TransportEvents listener = listeners.get(remotePort);
+            peers.put(client, server);
+            peers.put(server, client);
+            owners.put(client, events);
+            owners.put(server, listener);
+            buffered.put(client, 0L);
+            buffered.put(server, 0L);
+            listener.onAccepted(remotePort, server);
+            events.onConnected(client);
+            return client;
+        }
+
+        @Override
+        public long write(long connectionId, BufferSlice[] chain, int offset, int count) {
+            long peer = peers.get(connectionId);
+            long accepted = 0;
+            for (int i = offset; i < offset + count; i++) {
+                BufferSlice slice = chain[i];
+                int n = (int) Math.min(slice.length(), sendBuffer - buffered.get(connectionId));
+                if (n <= 0) break;
+                buffered.merge(connectionId, (long) n, Long::sum);
+                owners.get(peer).onData(peer, BufferSlice.borrow(slice.array(), slice.offset(), n,
+                        returned -> onReturned(connectionId, n)));
+                accepted += n;
+                if (n < slice.length()) break;
+            }
+            if (accepted == 0 || buffered.get(connectionId) == sendBuffer) blocked.put(connectionId, true);
+            return accepted;
+        }
+
+        private void onReturned(long connectionId, int n) {
+            buffered.merge(connectionId, (long) -n, Long::sum);
+            if (blocked.remove(connectionId) != null) owners.get(connectionId).onWritable(connectionId);
+        }
+
+        @Override
+        public void shutdownOutput(long connectionId) {
+            long peer = peers.get(connectionId);
+            owners.get(peer).onClosed(peer);
+        }
+
+        @Override
+        public void close(long connectionId) {
+            closes++;
+        }
+    }
+
+    private static String text(BufferSlice slice) {
+        return new String(slice.array(), slice.offset(), slice.length(), StandardCharsets.US_ASCII);
+    }
+
+    private static BufferSlice slice(String s) {
+        return BufferSlice.wrap(s.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    void testSelect_acceptReadWriteOnSingleThread() throws InterruptedException {
+        // given
+        SocketSelector selector = new SocketSelector(new LoopbackTransport(1 << 16));
+        SelectableSocket[] ready = new SelectableSocket[8];
+        ListenSocket listener = selector.listen(80);
+        StreamSocket client = selector.connect(0x7F000001, 80);
+
+        // when
+        int n = selector.select(ready, 0);
+
+        // then : 수락 가능, 연결 완료(쓰기 가능)
+        assertEquals(2, n);
+        assertSame(listener, ready[0]);
+        assertTrue(listener.isAcceptable());
+        assertSame(client, ready[1]);
+        assertTrue(client.isWritable());
+
+        // when
+        StreamSocket server = listener.accept();
+        byte[] body = "hello, world".getBytes(StandardCharsets.US_ASCII);
+        long written = client.write(new BufferSlice[] { slice("GET "), BufferSlice.wrap(body, 7, 5) }, 0, 2);
+
+        // then
+        assertNull(listener.accept());
+        assertEquals(9, written);
+        assertEquals(9, server.available());
+        n = selector.select(ready, 0);
+        assertEquals(2, n);
+        assertSame(server, ready[0]);
+        assertTrue(server.isReadable());
+
+        // then : 수신 슬라이스는 송신 측 배열을 그대로 가리킨다
+        BufferSlice first = server.read();
+        assertEquals("GET ", text(first));
+        BufferSlice second = server.read();
+        assertSame(body, second.array());
+        assertEquals(7, second.offset());
+        assertEquals("world", text(second));
+        assertNull(server.read());
+        first.release();
+        second.release();
+        assertEquals(0, second.refCount());
+
+        // when : 상대방 송신 종료
+        client.shutdownOutput();
+
+        // then
+        assertEquals(1, selector.select(ready, 0));
+        assertSame(server, ready[0]);
+        assertTrue(server.isEndOfStream());
+        selector.close();
+        assertTrue(server.isClosed() && client.isClosed() && listener.isClosed());
+    }
+
+    @Test
+    void testWrite_partialWriteBlocksUntilPeerReleases() throws InterruptedException {
+        // given
+        LoopbackTransport transport = new LoopbackTransport(8);
+        SocketSelector selector = new SocketSelector(transport);
+        SelectableSocket[] ready = new SelectableSocket[8];
+        ListenSocket listener = selector.listen(9000);
+        StreamSocket client = selector.connect(0x7F000001, 9000);
+        selector.select(ready, 0);
+        StreamSocket server = listener.accept();
+
+        // when
+        long written = client.write(new BufferSlice[] { slice("0123456789") }, 0, 1);
+
+        // then : 송신 버퍼가 가득 차면 쓰기 가능 통지가 멈춘다
+        assertEquals(8, written);
+        assertEquals(1, selector.select(ready, 0));
+        assertSame(server, ready[0]);
+
+        // when
+        server.read().release();
+
+        // then
+        assertEquals(1, selector.select(ready, 0));
+        assertSame(client, ready[0]);
+        assertTrue(client.isWritable());
+
+        // when : 관심 동작에서 쓰기를 빼면 보고되지 않는다
+        client.interestOps(SelectableSocket.OP_READ);
+
+        // then
+        assertEquals(0, selector.select(ready, 1_000_000));
+        assertThrows(IllegalArgumentException.class, () -> client.interestOps(SelectableSocket.OP_ACCEPT));
+        assertThrows(IllegalStateException.class, () -> selector.listen(9000));
+
+        // when
+        server.close();
+
+        // then
+        assertEquals(1, transport.closes);
+        assertThrows(IllegalStateException.class, () -> server.read().release());
+    }
+}
@@ -0,0 +1,115 @@
+package framework.core.data.header.layout;
+
+import java.util.Random;
+
+/**
+ * {@link Ipv4Layout} / {@link TcpLayout} 필드 접근자와 직접 작성한 시프트/마스크 디코딩의 처리량 비교
+ *
+ * - 같은 프레임 묶음에서 IPv4 + TCP 헤더의 주요 필드를 읽어 합산한다
+ * - 워밍업 중 두 방식의 합산이 같은지 확인하고, JIT 컴파일을 유도한 뒤 측정 라운드마다 프레임당 나노초를 출력한다
+ * - 합산 결과를 출력하여 JIT가 읽기를 제거하지 못하게 한다
+ *
+ * <p>
+ * JMH 대신 main 메서드만으로 동작하는 간이 하네스이므로 수치는 상대 비교용으로만 본다.
+ * {@code ./gradlew headerLayoutBenchmark}로 실행한다.
+ */
+public final class HeaderLayoutBenchmark {
+
+    private static final int FRAMES = 1024;
+    private static final int FRAME_LENGTH = 54;
+    private static final int IP = 14;
+    private static final int TCP = 34;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURE_ROUNDS = 5;
+    private static final int ITERATIONS = 20_000;
+
+    private HeaderLayoutBenchmark() {
+        // Utility class, prevent instantiation
+    }
+
+    public static void main(String[] args) {
+        byte[][] frames = frames(new Random(42));
+        long sink = 0;
+
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            long expected = manual(frames);
+            if (layout(frames) != expected)
+                throw new IllegalStateException("layout and manual decoding disagree");
+            sink += expected;
+        }
+        for (int round = 0; round < MEASURE_ROUNDS; round++) {
+            long start = System.nanoTime();
+            sink += layout(frames);
+            long layoutNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            sink += manual(frames);
+            long manualNanos = System.nanoTime() - start;
+
+            double perFrame = (double) FRAMES * ITERATIONS;
+            System.out.printf("round %d : layout %.2f ns/frame, manual %.2f ns/frame%n",
+                    round, layoutNanos / perFrame, manualNanos / perFrame);
+        }
+        System.out.println("checksum " + sink);
+    }
+
+    private static long layout(byte[][] frames) {
+        long sum = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            for (byte[] frame : frames) {
+                sum += Ipv4Layout.VERSION.getInt(frame, IP);
+                sum += Ipv4Layout.IHL.getInt(frame, IP);
+                sum += Ipv4Layout.TOTAL_LENGTH.getInt(frame, IP);
+                sum += Ipv4Layout.FRAGMENT_OFFSET.getInt(frame, IP);
+                sum += Ipv4Layout.TTL.getInt(frame, IP);
+                sum += Ipv4Layout.PROTOCOL.getInt(frame, IP);
+                sum += Ipv4Layout.SOURCE.get(frame, IP);
+                sum += Ipv4Layout.DESTINATION.get(frame, IP);
+                sum += TcpLayout.SOURCE_PORT.getInt(frame, TCP);
+                sum += TcpLayout.DESTINATION_PORT.getInt(frame, TCP);
+                sum += TcpLayout.SEQUENCE.get(frame, TCP);
+                sum += TcpLayout.DATA_OFFSET.getInt(frame, TCP);
+                sum += TcpLayout.FLAGS.getInt(frame, TCP);
+                sum += TcpLayout.WINDOW.getInt(frame, TCP);
+            }
+        }
+        return sum;
+    }
+
+    private static long manual(byte[][] frames) {
+        long sum = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            for (byte[] f : frames) {
+                sum += (f[IP] & 0xFF) >>> 4;
+                sum += f[IP] & 0x0F;
+                sum += ((f[IP + 2] & 0xFF) << 8) | (f[IP + 3] & 0xFF);
+                sum += ((f[IP + 6] & 0x1F) << 8) | (f[IP + 7] & 0xFF);
+                sum += f[IP + 8] & 0xFF;
+                sum += f[IP + 9] & 0xFF;
+                sum += u32(f, IP + 12);
+                sum += u32(f, IP + 16);
+                sum += ((f[TCP] & 0xFF) << 8) | (f[TCP + 1] & 0xFF);
+                sum += ((f[TCP + 2] & 0xFF) << 8) | (f[TCP + 3] & 0xFF);
+                sum += u32(f, TCP + 4);
+                sum += (f[TCP + 12] & 0xFF) >>> 4;
+                sum += f[TCP + 13] & 0xFF;
+                sum += ((f[TCP + 14] & 0xFF) << 8) | (f[TCP + 15] & 0xFF);
+            }
+        }
+        return sum;
+    }
+
+    private static long u32(byte[] f, int offset) {
+        return ((long) (f[offset] & 0xFF) << 24) | ((f[offset + 1] & 0xFF) << 16)
+                | ((f[offset + 2] & 0xFF) << 8) | (f[offset + 3] & 0xFF);
+    }
+
+    private static byte[][] frames(Random random) {
+        byte[][] frames = new byte[FRAMES][FRAME_LENGTH];
+        for (byte[] frame : frames) {
+            random.nextBytes(frame);
+            frame[IP] = 0x45;
+        }
+        return frames;
+    }
+}
@@ -0,0 +1,120 @@
+package framework.core.data.header.layout;
+
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HeaderLayoutTest {
+
+    private static byte[] bytes(int... values) {
+        byte[] out = new byte[values.length];
+        for (int i = 0; i < values.length; i++) out[i] = (byte) values[i];
+        return out;
+    }
+
+    @Test
+    void testGet_matchesHandDecodedHeaders() {
+        // given : Ethernet + IPv4 + TCP SYN, IP 헤더는 오프셋 14
+        byte[] frame = bytes(
+                0x00, 0x11, 0x22, 0x33, 0x44, 0x55, 0x66, 0x77, 0x88, 0x99, 0xAA, 0xBB, 0x08, 0x00,
+                0x45, 0xB8, 0x00, 0x3C, 0x1C, 0x46, 0x40, 0x00, 0x40, 0x06, 0xB1, 0xE6,
+                0xC0, 0xA8, 0x00, 0x68, 0xC0, 0xA8, 0x00, 0x01,
+                0xD4, 0x31, 0x00, 0x50, 0x8A, 0xBC, 0xDE, 0xF0, 0x00, 0x00, 0x00, 0x00,
+                0x50, 0x02, 0xFA, 0xF0, 0x12, 0x34, 0x00, 0x00);
+
+        // then
+        assertEquals(0x001122334455L, EthernetLayout.DESTINATION.get(frame, 0));
+        assertEquals(0x66778899AABBL, EthernetLayout.SOURCE.get(frame, 0));
+        assertEquals(0x0800, EthernetLayout.ETHER_TYPE.getInt(frame, 0));
+
+        assertEquals(4, Ipv4Layout.VERSION.getInt(frame, 14));
+        assertEquals(5, Ipv4Layout.IHL.getInt(frame, 14));
+        assertEquals(46, Ipv4Layout.DSCP.getInt(frame, 14));
+        assertEquals(0, Ipv4Layout.ECN.getInt(frame, 14));
+        assertEquals(60, Ipv4Layout.TOTAL_LENGTH.getInt(frame, 14));
+        assertEquals(1, Ipv4Layout.DONT_FRAGMENT.getInt(frame, 14));
+        assertEquals(0, Ipv4Layout.FRAGMENT_OFFSET.getInt(frame, 14));
+        assertEquals(64, Ipv4Layout.TTL.getInt(frame, 14));
+        assertEquals(6, Ipv4Layout.PROTOCOL.getInt(frame, 14));
+        assertEquals(0xC0A80068L, Ipv4Layout.SOURCE.get(frame, 14));
+
+        assertEquals(0xD431, TcpLayout.SOURCE_PORT.getInt(frame, 34));
+        assertEquals(80, TcpLayout.DESTINATION_PORT.getInt(frame, 34));
+        assertEquals(0x8ABCDEF0L, TcpLayout.SEQUENCE.get(frame, 34));
+        assertEquals(5, TcpLayout.DATA_OFFSET.getInt(frame, 34));
+        assertEquals(1, TcpLayout.SYN.getInt(frame, 34));
+        assertEquals(0, TcpLayout.ACK.getInt(frame, 34));
+        assertEquals(0x02, TcpLayout.FLAGS.getInt(frame, 34));
+        assertEquals(0xFAF0, TcpLayout.WINDOW.getInt(frame, 34));
+    }
+
+    @Test
+    void testSet_bitfieldsRoundTripWithoutTouchingNeighbours() {
+        // given
+        byte[] header = new byte[20];
+        Arrays.fill(header, (byte) 0xFF);
+
+        // when
+        Ipv4Layout.FRAGMENT_OFFSET.set(header, 0, 0x0ABC);
+        Ipv4Layout.MORE_FRAGMENTS.set(header, 0, 0);
+        Ipv4Layout.ECN.set(header, 0, 1);
+
+        // then
+        assertEquals(0x0ABC, Ipv4Layout.FRAGMENT_OFFSET.getInt(header, 0));
+        assertEquals(0, Ipv4Layout.MORE_FRAGMENTS.getInt(header, 0));
+        assertEquals(1, Ipv4Layout.DONT_FRAGMENT.getInt(header, 0));
+        assertEquals(0x3F, Ipv4Layout.DSCP.getInt(header, 0));
+        assertEquals(1, Ipv4Layout.ECN.getInt(header, 0));
+        assertEquals(0xFFFF, Ipv4Layout.IDENTIFICATION.getInt(header, 0));
+        assertEquals(0xFF, Ipv4Layout.TTL.getInt(header, 0));
+        // 폭을 넘는 값은 잘린다
+        TcpLayout.DATA_OFFSET.set(header, 0, 0x1F);
+        assertEquals(0xF, TcpLayout.DATA_OFFSET.getInt(header, 0));
+        assertEquals(0xFF, header[12] & 0xFF);
+    }
+
+    @Test
+    void testBuilder_containerClampedAndValidated() {
+        // given : 헤더 끝에 걸친 비트 필드, 헤더 밖을 읽지 않아야 한다
+        HeaderLayout layout = new HeaderLayout.Builder("tail", 3)
+                .field("tail", 12, 12)
+                .field("le", 0, 16, ByteOrder.LITTLE_ENDIAN)
+                .build();
+        byte[] header = bytes(0x34, 0x12, 0xAB);
+
+        // then
+        assertEquals(0x2AB, layout.field("tail").getInt(header, 0));
+        assertEquals(0x1234, layout.field("le").getInt(header, 0));
+        assertThrows(IllegalArgumentException.class, () -> layout.field("missing"));
+        assertThrows(IllegalArgumentException.class,
+                () -> new HeaderLayout.Builder("x", 2).field("a", 8, 16));
+        assertThrows(IllegalArgumentException.class,
+                () -> new HeaderLayout.Builder("x", 4).field("a", 4, 16, ByteOrder.LITTLE_ENDIAN));
+        assertThrows(IllegalArgumentException.class,
+                () -> new HeaderLayout.Builder("x", 4).field("a", 0, 8).field("a", 8, 8));
+    }
+
+    @Test
+    void testBuilder_rejectsFieldSpanningNineBytes() {
+        // given
+        HeaderLayout.Builder builder = new HeaderLayout.Builder("wide", 16);
+
+        // then : 비트 정렬되지 않은 필드는 64비트 읽기 한 번으로 덮을 수 없다
+        assertThrows(IllegalArgumentException.class, () -> builder.field("f", 4, 64));
+        assertThrows(IllegalArgumentException.class, () -> builder.field("g", 4, 62));
+
+        // when : 8바이트 안에 들어가는 경계값
+        HeaderLayout layout = builder.field("h", 4, 60).field("i", 64, 64).build();
+        byte[] header = new byte[16];
+        Arrays.fill(header, (byte) 0xFF);
+        header[0] = (byte) 0xF0;
+        header[7] = (byte) 0x00;
+
+        // then
+        assertEquals(0x00FF_FFFF_FFFF_FF00L, layout.field("h").get(header, 0));
+        assertEquals(-1L, layout.field("i").get(header, 0));
+    }
+}
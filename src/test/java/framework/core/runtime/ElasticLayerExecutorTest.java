@@ -0,0 +1,128 @@
+package framework.core.runtime;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.Test;
+
+import framework.core.data.Chunk;
+import framework.core.data.header.EmptyHeader;
+import framework.core.data.payload.Payload;
+import framework.core.layer.Layer;
+import framework.core.layer.LayerType;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ElasticLayerExecutorTest {
+
+    private static final int FLOWS = 64;
+    private static final int PER_FLOW = 100;
+
+    /**
+     * Chunk마다 일정 시간을 소비하며 흐름별 처리 순서를 검사하는 Layer
+     */
+    private static final class OrderCheckingLayer extends Layer {
+        final AtomicIntegerArray next = new AtomicIntegerArray(FLOWS);
+        final AtomicBoolean reordered = new AtomicBoolean();
+        final AtomicInteger processed = new AtomicInteger();
+
+        OrderCheckingLayer() {
+            super(LayerType.TRANSPORT);
+        }
+
+        @Override
+        protected void processInbound(Chunk chunk) {
+            ByteBuffer bytes = ByteBuffer.wrap(chunk.getPayload().getBytes());
+            int flow = bytes.getInt();
+            int seq = bytes.getInt();
+            if (!next.compareAndSet(flow, seq, seq + 1)) reordered.set(true);
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(200));
+            processed.incrementAndGet();
+        }
+
+        @Override
+        protected void processOutbound(Chunk chunk) { }
+    }
+
+    private static Chunk chunk(int flow, int seq) {
+        Chunk chunk = new Chunk();
+        chunk.setHeader(EmptyHeader.INSTANCE);
+        chunk.setPayload(new Payload(ByteBuffer.allocate(8).putInt(flow).putInt(seq).array()));
+        return chunk;
+    }
+
+    private static int flowKey(Chunk chunk) {
+        return ByteBuffer.wrap(chunk.getPayload().getBytes()).getInt();
+    }
+
+    private static boolean await(BooleanSupplier condition, long timeoutMillis) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) return false;
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(5));
+        }
+        return true;
+    }
+
+    @Test
+    void testScaling_growsUnderLoadShrinksWhenIdleAndKeepsFlowOrder() {
+        // given
+        ElasticExecutorConfig config = new ElasticExecutorConfig.Builder()
+                .minWorkers(1)
+                .maxWorkers(4)
+                .workerQueueCapacity(64)
+                .sampleIntervalNanos(TimeUnit.MILLISECONDS.toNanos(5))
+                .stableSamples(2)
+                .cooldownNanos(0)
+                .build();
+        List<ScalingEvent> events = new CopyOnWriteArrayList<>();
+        ElasticLayerExecutor executor = new ElasticLayerExecutor(config, ElasticLayerExecutorTest::flowKey, events::add);
+        OrderCheckingLayer layer = new OrderCheckingLayer();
+
+        try {
+            // when
+            executor.start(layer);
+            for (int seq = 0; seq < PER_FLOW; seq++) {
+                for (int flow = 0; flow < FLOWS; flow++) layer.getInboundQueue().add(chunk(flow, seq));
+            }
+
+            // then
+            assertTrue(await(() -> layer.processed.get() == FLOWS * PER_FLOW, 30_000));
+            assertFalse(layer.reordered.get());
+            assertTrue(executor.scaleUps(ElasticLayerExecutor.Direction.INBOUND) > 0);
+            assertTrue(events.get(0).isScaleUp());
+            assertEquals(LayerType.TRANSPORT, events.get(0).layerType());
+            assertEquals(FLOWS * PER_FLOW, executor.dispatched(ElasticLayerExecutor.Direction.INBOUND));
+
+            // then : 유휴 상태가 되면 최소 개수로 돌아온다
+            assertTrue(await(() -> executor.workers(ElasticLayerExecutor.Direction.INBOUND) == 1, 10_000));
+            assertTrue(executor.scaleDowns(ElasticLayerExecutor.Direction.INBOUND) > 0);
+            assertEquals(1, executor.workers(ElasticLayerExecutor.Direction.OUTBOUND));
+        } finally {
+            executor.stop();
+            layer.close();
+        }
+    }
+
+    @Test
+    void testIndex_stableAndWithinBounds() {
+        for (int workers = 1; workers <= 8; workers++) {
+            for (int key = -1000; key < 1000; key++) {
+                int index = ElasticLayerExecutor.index(key, workers);
+                assertTrue(index >= 0 && index < workers);
+                assertEquals(index, ElasticLayerExecutor.index(key, workers));
+            }
+        }
+        assertThrows(IllegalArgumentException.class,
+                () -> new ElasticExecutorConfig.Builder().minWorkers(4).maxWorkers(2).build());
+        assertThrows(IllegalArgumentException.class,
+                () -> new ElasticExecutorConfig.Builder().lowWatermark(0.8).highWatermark(0.5).build());
+    }
+}
@@ -0,0 +1,130 @@
+package framework.core.runtime;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TimingWheelTest {
+
+    private static final long MS = 1_000_000L;
+
+    @Test
+    void testAdvance_firesAtDeadlineAcrossLevels() {
+        // given
+        TimingWheel wheel = new TimingWheel(MS, 0);
+        List<Long> fired = new ArrayList<>();
+        long[] delays = { 0, 1, 63, 64, 65, 4095, 4096, 300_000, 20_000_000 };
+        for (long delay : delays) {
+            long deadline = delay * MS;
+            wheel.schedule(new Timeout(now -> {
+                assertTrue(now >= deadline);
+                fired.add(deadline / MS);
+            }), deadline, 0);
+        }
+
+        // when
+        for (long now = 0; now <= 20_000_000; now += 7) wheel.advance(now * MS);
+        wheel.advance(20_000_000 * MS);
+
+        // then : 만료 순서가 유지되고 tick 단위 지연 이내로 실행된다
+        assertEquals(List.of(0L, 1L, 63L, 64L, 65L, 4095L, 4096L, 300_000L, 20_000_000L), fired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void testAdvance_notFiredBeforeDeadline() {
+        // given
+        TimingWheel wheel = new TimingWheel(MS, 0);
+        Random random = new Random(7);
+        long[] firedAt = new long[1000];
+        long[] deadlines = new long[1000];
+        for (int i = 0; i < deadlines.length; i++) {
+            int id = i;
+            deadlines[i] = (random.nextInt(1_000_000) + 1) * MS + random.nextInt((int) MS);
+            wheel.schedule(new Timeout(now -> firedAt[id] = now), deadlines[i], 0);
+        }
+
+        // when
+        for (long now = 0; now <= 1_001_000 * MS; now += 997 * 1000) wheel.advance(now);
+
+        // then
+        for (int i = 0; i < deadlines.length; i++) {
+            assertTrue(firedAt[i] >= deadlines[i]);
+            assertTrue(firedAt[i] - deadlines[i] < MS + 997 * 1000);
+        }
+    }
+
+    @Test
+    void testCancelAndReschedule_reuseHandle() {
+        // given
+        TimingWheel wheel = new TimingWheel(MS, 0);
+        int[] count = { 0 };
+        Timeout timeout = new Timeout(now -> count[0]++);
+
+        // when
+        wheel.schedule(timeout, 10 * MS, 0);
+        assertTrue(timeout.cancel());
+        wheel.advance(20 * MS);
+
+        // then
+        assertEquals(0, count[0]);
+        assertFalse(timeout.isPending());
+
+        // when : 대기 중인 핸들을 다시 등록하면 마감 시각이 갱신된다
+        wheel.schedule(timeout, 10 * MS, 20 * MS);
+        wheel.schedule(timeout, 100 * MS, 25 * MS);
+        wheel.advance(40 * MS);
+
+        // then
+        assertEquals(0, count[0]);
+        assertEquals(1, wheel.size());
+
+        // when
+        wheel.advance(125 * MS);
+
+        // then
+        assertEquals(1, count[0]);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void testAdvance_periodicTimerReschedulesItself() {
+        // given
+        TimingWheel wheel = new TimingWheel(MS, 0);
+        List<Long> fired = new ArrayList<>();
+        Timeout[] periodic = new Timeout[1];
+        periodic[0] = new Timeout(now -> {
+            fired.add(now / MS);
+            if (fired.size() < 5) wheel.schedule(periodic[0], 64 * MS, now);
+        });
+        wheel.schedule(periodic[0], 64 * MS, 0);
+
+        // when
+        for (long now = 0; now <= 1000; now++) wheel.advance(now * MS);
+
+        // then : 같은 슬롯에 다시 등록되어도 한 바퀴 뒤에 실행된다
+        assertEquals(List.of(64L, 128L, 192L, 256L, 320L), fired);
+    }
+
+    @Test
+    void testNanosUntilNext() {
+        // given
+        TimingWheel wheel = new TimingWheel(MS, 0);
+
+        // then
+        assertEquals(-1, wheel.nanosUntilNext(0));
+
+        // when
+        wheel.schedule(new Timeout(now -> { }), 5 * MS, 0);
+        wheel.schedule(new Timeout(now -> { }), 10_000 * MS, 0);
+
+        // then
+        assertEquals(5 * MS, wheel.nanosUntilNext(0));
+        wheel.advance(5 * MS);
+        assertEquals(59 * MS, wheel.nanosUntilNext(5 * MS));
+    }
+}
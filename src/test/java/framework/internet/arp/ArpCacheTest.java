@@ -0,0 +1,135 @@
+package framework.internet.arp;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import framework.core.data.Chunk;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ArpCacheTest {
+
+    private static final int IP = 0x0A00_0001;
+    private static final long MAC = 0x0011_2233_4455L;
+    private static final long SECOND = 1_000_000_000L;
+
+    private final List<Integer> requests = new ArrayList<>();
+    private final List<Chunk> transmitted = new ArrayList<>();
+
+    private ArpCache cache(ArpConfig config) {
+        return new ArpCache(config, requests::add, (chunk, mac) -> {
+            assertEquals(MAC, mac);
+            transmitted.add(chunk);
+        });
+    }
+
+    @Test
+    void testResolve_missQueuesChunkAndFlushesOnReply() {
+        // given
+        ArpCache cache = cache(new ArpConfig.Builder().build());
+        Chunk first = new Chunk();
+        Chunk second = new Chunk();
+
+        // when
+        long r1 = cache.resolve(IP, first, 0);
+        long r2 = cache.resolve(IP, second, 1);
+
+        // then
+        assertEquals(ArpCache.UNRESOLVED, r1);
+        assertEquals(ArpCache.UNRESOLVED, r2);
+        assertEquals(List.of(IP), requests);
+        assertEquals(ArpCache.UNRESOLVED, cache.lookup(IP));
+
+        // when
+        cache.update(IP, MAC, 2, false);
+
+        // then
+        assertEquals(List.of(first, second), transmitted);
+        assertEquals(MAC, cache.lookup(IP));
+        assertEquals(MAC, cache.resolve(IP, new Chunk(), 3));
+    }
+
+    @Test
+    void testResolve_pendingQueueDropsOldest() {
+        // given
+        ArpCache cache = cache(new ArpConfig.Builder().pendingLimit(2).build());
+        Chunk a = new Chunk(), b = new Chunk(), c = new Chunk();
+
+        // when
+        cache.resolve(IP, a, 0);
+        cache.resolve(IP, b, 0);
+        cache.resolve(IP, c, 0);
+        cache.update(IP, MAC, 1, false);
+
+        // then
+        assertEquals(List.of(b, c), transmitted);
+        assertEquals(1, cache.pendingDrops());
+    }
+
+    @Test
+    void testExpire_agingAndProbeLimit() {
+        // given
+        ArpCache cache = cache(new ArpConfig.Builder()
+                .reachableNanos(10 * SECOND)
+                .staleNanos(20 * SECOND)
+                .maxProbes(2)
+                .build());
+        cache.update(IP, MAC, 0, true);
+        cache.resolve(IP + 1, new Chunk(), 0);
+
+        // when : REACHABLE → STALE, 미해결 항목 재전송
+        cache.expire(11 * SECOND);
+
+        // then
+        assertEquals(MAC, cache.lookup(IP));
+        assertEquals(List.of(IP + 1, IP + 1), requests);
+
+        // when : 재전송 한도 초과 항목 제거
+        cache.expire(25 * SECOND);
+
+        // then : STALE 항목은 전이 시점(11초)부터 staleNanos 동안 유지된다
+        assertEquals(MAC, cache.lookup(IP));
+        assertEquals(1, cache.size());
+        assertEquals(1, cache.pendingDrops());
+
+        // when : STALE 항목 제거
+        cache.expire(31 * SECOND);
+
+        // then
+        assertEquals(ArpCache.UNRESOLVED, cache.lookup(IP));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testResolve_requestRateLimited() {
+        // given
+        ArpCache cache = cache(new ArpConfig.Builder().requestsPerSecond(1).build());
+
+        // when : 1초 burst 이후의 요청은 억제된다
+        for (int i = 0; i < 5; i++) cache.resolve(IP + i, new Chunk(), 0);
+
+        // then
+        assertEquals(5, cache.size());
+        assertTrue(requests.size() < 5);
+        assertEquals(5 - requests.size(), cache.requestsSuppressed());
+    }
+
+    @Test
+    void testArpPacket_roundTrip() {
+        // given
+        byte[] bytes = new byte[ArpPacket.LENGTH + 2];
+
+        // when
+        ArpPacket.writeReply(bytes, 2, MAC, IP, 0x0000_AABB_CCDD_EEFFL, IP + 1);
+
+        // then
+        assertTrue(ArpPacket.isValid(bytes, 2, ArpPacket.LENGTH));
+        assertEquals(ArpPacket.OP_REPLY, ArpPacket.operation(bytes, 2));
+        assertEquals(MAC, ArpPacket.senderMac(bytes, 2));
+        assertEquals(IP, ArpPacket.senderIp(bytes, 2));
+        assertEquals(0x0000_AABB_CCDD_EEFFL, ArpPacket.targetMac(bytes, 2));
+        assertEquals(IP + 1, ArpPacket.targetIp(bytes, 2));
+    }
+}
@@ -0,0 +1,107 @@
+package framework.internet.route;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RoutingTableTest {
+
+    private static final int NET_10 = 0x0A00_0000;
+
+    @Test
+    void testLookup_longestPrefixWins() {
+        // given
+        RoutingTable table = new RoutingTable();
+        table.batch()
+                .add(0, 0, 1)                 // 0.0.0.0/0
+                .add(NET_10, 8, 2)            // 10.0.0.0/8
+                .add(0x0A01_0200, 24, 3)      // 10.1.2.0/24
+                .add(0x0A01_0280, 25, 4)      // 10.1.2.128/25
+                .add(0x0A01_0281, 32, 5)      // 10.1.2.129/32
+                .commit();
+
+        // then
+        assertEquals(1, table.lookup(0xC0A8_0001));
+        assertEquals(2, table.lookup(0x0A09_0909));
+        assertEquals(3, table.lookup(0x0A01_0201));
+        assertEquals(4, table.lookup(0x0A01_02FF));
+        assertEquals(5, table.lookup(0x0A01_0281));
+        assertEquals(5, table.size());
+    }
+
+    @Test
+    void testRemove_fallsBackToCoveringPrefix() {
+        // given
+        RoutingTable table = new RoutingTable(0);
+        table.add(NET_10, 8, 2);
+        table.add(0x0A01_0280, 25, 4);
+
+        // when
+        table.remove(0x0A01_0280, 25);
+
+        // then
+        assertEquals(2, table.lookup(0x0A01_0281));
+
+        // when
+        table.remove(NET_10, 8);
+
+        // then
+        assertEquals(RoutingTable.NO_ROUTE, table.lookup(0x0A01_0281));
+        assertEquals(0, table.size());
+    }
+
+    @Test
+    void testLookup_matchesLinearScanAfterRandomUpdates() {
+        // given
+        Random random = new Random(7);
+        RoutingTable table = new RoutingTable(0);
+        List<int[]> routes = new ArrayList<>();
+
+        for (int round = 0; round < 20; round++) {
+            RouteBatch batch = table.batch();
+            for (int i = 0; i < 200; i++) {
+                int length = 8 + random.nextInt(25);
+                int prefix = (NET_10 | (random.nextInt() & 0x000F_FFFF)) & RoutingTable.mask(length);
+                if (!routes.isEmpty() && random.nextInt(4) == 0) {
+                    int[] victim = routes.remove(random.nextInt(routes.size()));
+                    batch.remove(victim[0], victim[1]);
+                } else {
+                    routes.removeIf(r -> r[0] == prefix && r[1] == length);
+                    routes.add(new int[] { prefix, length, i + round * 1000 });
+                    batch.add(prefix, length, i + round * 1000);
+                }
+            }
+            batch.commit();
+
+            // then
+            for (int i = 0; i < 2000; i++) {
+                int address = NET_10 | (random.nextInt() & 0x000F_FFFF);
+                assertEquals(linearScan(routes, address), table.lookup(address), "address " + Integer.toHexString(address));
+            }
+        }
+    }
+
+    @Test
+    void testAdd_rejectsInvalidArguments() {
+        RoutingTable table = new RoutingTable();
+
+        assertThrows(IllegalArgumentException.class, () -> table.add(0, 33, 1));
+        assertThrows(IllegalArgumentException.class, () -> table.add(0, 8, RoutingTable.MAX_NEXT_HOP + 1));
+    }
+
+    private static int linearScan(List<int[]> routes, int address) {
+        int bestLength = -1;
+        int nextHop = RoutingTable.NO_ROUTE;
+        for (int[] route : routes) {
+            if ((address & RoutingTable.mask(route[1])) == route[0] && route[1] > bestLength) {
+                bestLength = route[1];
+                nextHop = route[2];
+            }
+        }
+        return nextHop;
+    }
+}
@@ -0,0 +1,90 @@
+package framework.transport.tcp;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConnectionTableTest {
+
+    @Test
+    void testPutGetRemove() {
+        // given
+        ConnectionTable<String> table = new ConnectionTable<>();
+
+        // when
+        assertNull(table.put(0x0A00_0001, 0x0A00_0002, 40000, 80, "a"));
+        assertEquals("a", table.put(0x0A00_0001, 0x0A00_0002, 40000, 80, "b"));
+        assertEquals("b", table.putIfAbsent(0x0A00_0001, 0x0A00_0002, 40000, 80, "c"));
+
+        // then
+        assertEquals("b", table.get(0x0A00_0001, 0x0A00_0002, 40000, 80));
+        assertNull(table.get(0x0A00_0002, 0x0A00_0001, 80, 40000));
+        assertEquals(1, table.size());
+
+        // when
+        assertEquals("b", table.remove(0x0A00_0001, 0x0A00_0002, 40000, 80));
+
+        // then
+        assertNull(table.get(0x0A00_0001, 0x0A00_0002, 40000, 80));
+        assertNull(table.putIfAbsent(0x0A00_0001, 0x0A00_0002, 40000, 80, "d"));
+        assertEquals("d", table.get(0x0A00_0001, 0x0A00_0002, 40000, 80));
+    }
+
+    @Test
+    void testGrowAndChurn() {
+        // given
+        ConnectionTable<Integer> table = new ConnectionTable<>(16);
+        int n = 200_000;
+
+        // when
+        for (int i = 0; i < n; i++) table.put(0x0A00_0000 | (i >>> 16), 0xC0A8_0001, i & 0xFFFF, 443, i);
+        for (int i = 0; i < n; i += 2) table.remove(0x0A00_0000 | (i >>> 16), 0xC0A8_0001, i & 0xFFFF, 443);
+        for (int i = 0; i < n; i += 2) table.put(0x0B00_0000 | (i >>> 16), 0xC0A8_0001, i & 0xFFFF, 443, -i);
+
+        // then
+        assertEquals(n, table.size());
+        for (int i = 0; i < n; i++) {
+            Integer expected = (i & 1) == 0 ? null : i;
+            assertEquals(expected, table.get(0x0A00_0000 | (i >>> 16), 0xC0A8_0001, i & 0xFFFF, 443));
+        }
+        AtomicInteger visited = new AtomicInteger();
+        table.forEach((srcIp, dstIp, srcPort, dstPort, value) -> {
+            assertEquals(443, dstPort);
+            visited.incrementAndGet();
+        });
+        assertEquals(n, visited.get());
+    }
+
+    @Test
+    void testLockFreeReadsDuringResize() throws Exception {
+        // given : 항상 존재하는 연결
+        ConnectionTable<Integer> table = new ConnectionTable<>(16);
+        for (int i = 0; i < 1000; i++) table.put(1, 2, i, 80, i);
+        AtomicBoolean done = new AtomicBoolean();
+        AtomicInteger failures = new AtomicInteger();
+
+        Thread reader = new Thread(() -> {
+            while (!done.get()) {
+                for (int i = 0; i < 1000; i++) {
+                    Integer v = table.get(1, 2, i, 80);
+                    if (v == null || v != i) failures.incrementAndGet();
+                }
+            }
+        });
+
+        // when : 다른 연결을 추가/제거하며 재구성을 반복한다
+        reader.start();
+        for (int round = 0; round < 20; round++) {
+            for (int i = 0; i < 20_000; i++) table.put(3, 4, i, 80, i);
+            for (int i = 0; i < 20_000; i++) table.remove(3, 4, i, 80);
+        }
+        done.set(true);
+        reader.join();
+
+        // then
+        assertEquals(0, failures.get());
+    }
+}
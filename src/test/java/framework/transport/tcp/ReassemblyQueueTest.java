@@ -0,0 +1,133 @@
+package framework.transport.tcp;
+
+import java.io.ByteArrayOutputStream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReassemblyQueueTest {
+
+    private final ByteArrayOutputStream delivered = new ByteArrayOutputStream();
+
+    private ReassemblyQueue queue(int irs, long maxBytes, ReassemblyMemory memory) {
+        return new ReassemblyQueue(irs, maxBytes, memory, delivered::write);
+    }
+
+    private static byte[] stream(int length) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) bytes[i] = (byte) i;
+        return bytes;
+    }
+
+    @Test
+    void testOffer_outOfOrderDeliveredWhenHoleCloses() {
+        // given
+        byte[] data = stream(300);
+        ReassemblyMemory memory = new ReassemblyMemory(1 << 20);
+        ReassemblyQueue queue = queue(1000, 1 << 16, memory);
+
+        // when
+        queue.offer(1200, data, 200, 100);
+        queue.offer(1100, data, 100, 100);
+
+        // then
+        assertEquals(0, delivered.size());
+        assertEquals(200, queue.bytesHeld());
+        assertEquals(200, memory.used());
+
+        // when
+        queue.offer(1000, data, 0, 100);
+
+        // then
+        assertArrayEquals(data, delivered.toByteArray());
+        assertEquals(1300, queue.rcvNxt());
+        assertEquals(0, queue.segments());
+        assertEquals(0, memory.used());
+    }
+
+    @Test
+    void testOffer_overlapsAndDuplicatesAreTrimmed() {
+        // given
+        byte[] data = stream(500);
+        ReassemblyQueue queue = queue(0, 1 << 16, new ReassemblyMemory(1 << 20));
+
+        // when
+        queue.offer(100, data, 100, 100);   // [100, 200)
+        queue.offer(300, data, 300, 100);   // [300, 400)
+        queue.offer(150, data, 150, 200);   // [150, 350) 가운데 [200, 300)만 보관
+        queue.offer(0, data, 0, 50);
+        queue.offer(0, data, 0, 120);       // 앞부분 중복
+        queue.offer(350, data, 350, 150);
+
+        // then
+        assertArrayEquals(data, delivered.toByteArray());
+        assertEquals(0, queue.bytesHeld());
+    }
+
+    @Test
+    void testSackBlocks_mostRecentFirst() {
+        // given
+        byte[] data = stream(1000);
+        ReassemblyQueue queue = queue(0, 1 << 16, new ReassemblyMemory(1 << 20));
+        queue.offer(100, data, 100, 100);
+        queue.offer(500, data, 500, 100);
+        queue.offer(300, data, 300, 100);
+        queue.offer(600, data, 600, 100);   // [500, 700) 블록이 가장 최근
+
+        // when
+        int[] blocks = new int[8];
+        int n = queue.sackBlocks(blocks, 3);
+
+        // then
+        assertEquals(3, n);
+        assertArrayEquals(new int[] { 500, 700, 300, 400, 100, 200, 0, 0 }, blocks);
+    }
+
+    @Test
+    void testOffer_sequenceWrapAround() {
+        // given
+        byte[] data = stream(200);
+        int irs = -50;  // 0xFFFFFFCE
+        ReassemblyQueue queue = queue(irs, 1 << 16, new ReassemblyMemory(1 << 20));
+
+        // when
+        queue.offer(irs + 100, data, 100, 100);
+        int[] blocks = new int[2];
+        queue.sackBlocks(blocks, 1);
+        queue.offer(irs, data, 0, 100);
+
+        // then
+        assertArrayEquals(new int[] { 50, 150 }, blocks);
+        assertArrayEquals(data, delivered.toByteArray());
+        assertEquals(150, queue.rcvNxt());
+    }
+
+    @Test
+    void testOffer_memoryCapsDropData() {
+        // given
+        byte[] data = stream(1000);
+        ReassemblyMemory memory = new ReassemblyMemory(150);
+        ReassemblyQueue first = queue(0, 100, memory);
+        ReassemblyQueue second = queue(0, 1000, memory);
+
+        // then : 연결별 상한
+        assertTrue(first.offer(100, data, 100, 100));
+        assertFalse(first.offer(300, data, 300, 100));
+        assertEquals(100, first.bytesDropped());
+
+        // then : 전역 상한
+        assertTrue(second.offer(100, data, 100, 50));
+        assertFalse(second.offer(200, data, 200, 100));
+        assertEquals(150, memory.used());
+
+        // when : 순서대로 도착한 데이터는 상한과 무관하게 전달된다
+        assertTrue(first.offer(0, data, 0, 100));
+        first.clear();
+        second.clear();
+
+        // then
+        assertEquals(200, delivered.size());
+        assertEquals(0, memory.used());
+    }
+}
@@ -0,0 +1,320 @@
+package framework.transport.tcp;
+
+import java.io.ByteArrayOutputStream;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+
+import org.junit.jupiter.api.Test;
+
+import framework.transport.tcp.congestion.CongestionControl;
+import framework.transport.tcp.congestion.Cubic;
+import framework.transport.tcp.congestion.NewReno;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SendControllerTest {
+
+    private static final int MSS = 1460;
+    private static final long MS = 1_000_000L;
+
+    @Test
+    void testNextSegmentSize_nagleAndWindow() {
+        // given
+        SendController controller = new SendController(new NewReno(MSS, 2), new RttEstimator(), MSS, 0, false);
+
+        // then : 전송 중인 데이터가 없으면 작은 세그먼트도 보낸다
+        assertEquals(100, controller.nextSegmentSize(100, 65535));
+
+        // when
+        controller.onSent(0, 100, false);
+
+        // then : Nagle, 전송 중인 데이터가 있으면 MSS 미만은 모은다
+        assertEquals(0, controller.nextSegmentSize(100, 65535));
+        assertEquals(MSS, controller.nextSegmentSize(5000, 65535));
+        // 수신 윈도우 제한으로 MSS 미만만 보낼 수 있는 경우도 모은다
+        assertEquals(0, controller.nextSegmentSize(5000, 500));
+    }
+
+    @Test
+    void testNextSegmentSize_noDelayLimitedByWindows() {
+        // given
+        NewReno reno = new NewReno(MSS, 2);
+        SendController controller = new SendController(reno, new RttEstimator(), MSS, 0, true);
+        controller.onSent(0, 100, false);
+
+        // then
+        assertEquals(100, controller.nextSegmentSize(100, 65535));
+        assertEquals(400, controller.nextSegmentSize(5000, 500));
+
+        // when : 혼잡 윈도우 소진
+        controller.onSent(100, 2 * MSS - 100, false);
+
+        // then
+        assertEquals(0, controller.nextSegmentSize(5000, 65535));
+    }
+
+    @Test
+    void testOnAck_dupAcksTriggerFastRetransmitAndRecovery() {
+        // given
+        NewReno reno = new NewReno(MSS, 10);
+        SendController controller = new SendController(reno, new RttEstimator(), MSS, 0, true);
+        for (int i = 0; i < 10; i++) controller.onSent(i * MSS, MSS, false);
+
+        // when
+        controller.onAck(MSS, 10 * MS, 10 * MS);
+        assertEquals(SendController.AckAction.NONE, controller.onAck(MSS, -1, 11 * MS));
+        assertEquals(SendController.AckAction.NONE, controller.onAck(MSS, -1, 11 * MS));
+        SendController.AckAction action = controller.onAck(MSS, -1, 11 * MS);
+
+        // then
+        assertEquals(SendController.AckAction.FAST_RETRANSMIT, action);
+        assertTrue(controller.inRecovery());
+        assertEquals(9L * MSS / 2, reno.ssthresh());
+
+        // when : 부분 ACK 후 전체 ACK
+        assertEquals(SendController.AckAction.RETRANSMIT_NEXT, controller.onAck(5 * MSS, -1, 12 * MS));
+        assertEquals(SendController.AckAction.NONE, controller.onAck(10 * MSS, -1, 13 * MS));
+
+        // then
+        assertFalse(controller.inRecovery());
+        assertEquals(1, controller.metrics().fastRetransmits());
+        assertTrue(controller.metrics().srttNanos() > 0);
+    }
+
+    @Test
+    void testOnRetransmitTimeout_duringRecoveryDoesNotReduceTwice() {
+        // given : 빠른 재전송으로 복구 구간 진입
+        Cubic cubic = new Cubic(MSS, 10);
+        SendController controller = new SendController(cubic, new RttEstimator(), MSS, 0, true);
+        for (int i = 0; i < 10; i++) controller.onSent(i * MSS, MSS, false);
+        controller.onAck(MSS, 10 * MS, 10 * MS);
+        for (int i = 0; i < 3; i++) controller.onAck(MSS, -1, 11 * MS);
+        long ssthresh = cubic.ssthresh();
+        assertEquals((long) (9L * MSS * 0.7), ssthresh);
+
+        // when : 복구 중 RTO, 이어서 RTO 한 번 더
+        controller.onRetransmitTimeout();
+        controller.onRetransmitTimeout();
+
+        // then : ssthresh는 복구 진입 시 값을 유지하고 cwnd만 1 MSS로 줄어든다
+        assertFalse(controller.inRecovery());
+        assertEquals(ssthresh, cubic.ssthresh());
+        assertEquals(MSS, cubic.cwnd());
+
+        // when : 타임아웃 전에 보낸 데이터에 대한 중복 ACK
+        controller.onSent(MSS, MSS, true);
+        for (int i = 0; i < 3; i++)
+            assertEquals(SendController.AckAction.NONE, controller.onAck(MSS, -1, 12 * MS));
+
+        // then : 다시 빠른 재전송하지 않는다
+        assertFalse(controller.inRecovery());
+        assertEquals(1, controller.metrics().fastRetransmits());
+        assertEquals(ssthresh, cubic.ssthresh());
+
+        // when : recover 이후까지 ACK된 뒤의 새 손실
+        controller.onAck(10 * MSS, -1, 13 * MS);
+        for (int i = 10; i < 14; i++) controller.onSent(i * MSS, MSS, false);
+        controller.onAck(11 * MSS, -1, 14 * MS);
+        for (int i = 0; i < 2; i++) controller.onAck(11 * MSS, -1, 15 * MS);
+
+        // then
+        assertEquals(SendController.AckAction.FAST_RETRANSMIT, controller.onAck(11 * MSS, -1, 15 * MS));
+        assertEquals(2, controller.metrics().fastRetransmits());
+    }
+
+    @Test
+    void testRttEstimator_rfc6298() {
+        // given
+        RttEstimator rtt = new RttEstimator(200 * MS, 60_000 * MS);
+
+        // when
+        rtt.sample(100 * MS);
+
+        // then : SRTT = R, RTTVAR = R/2, RTO = SRTT + 4 RTTVAR
+        assertEquals(100 * MS, rtt.srttNanos());
+        assertEquals(50 * MS, rtt.rttvarNanos());
+        assertEquals(300 * MS, rtt.rtoNanos());
+
+        // when
+        rtt.backoff();
+
+        // then
+        assertEquals(600 * MS, rtt.rtoNanos());
+    }
+
+    @Test
+    void testWindowScale() {
+        assertEquals(0, WindowScale.shiftFor(65535));
+        assertEquals(5, WindowScale.shiftFor(1024 * 1024));
+        assertEquals(6, WindowScale.shiftFor(2 * 1024 * 1024));
+        assertEquals(WindowScale.MAX_SHIFT, WindowScale.shiftFor(Long.MAX_VALUE));
+        assertEquals(65535L << 5, WindowScale.scale(0xFFFF, 5));
+        assertEquals(65535, WindowScale.field(1L << 30, 5));
+        assertEquals(31, WindowScale.field(1023, 5));
+    }
+
+    @Test
+    void testDelayedAck() {
+        // given
+        DelayedAck delayedAck = new DelayedAck(40 * MS);
+
+        // then
+        assertFalse(delayedAck.onSegment(true, false, 0));
+        assertEquals(40 * MS, delayedAck.deadline());
+        assertTrue(delayedAck.onSegment(true, false, MS));
+
+        // when
+        delayedAck.onAckSent();
+
+        // then
+        assertFalse(delayedAck.onSegment(false, false, 2 * MS));
+        assertTrue(delayedAck.isDue(42 * MS));
+        assertTrue(delayedAck.onSegment(false, true, 3 * MS));
+    }
+
+    @Test
+    void testLoopback_newRenoRecoversFromLossAndDelay() {
+        LoopbackResult result = transfer(mss -> new NewReno(mss, 10), 0.01, 20 * MS);
+
+        assertTrue(result.completed, result.metrics.toString());
+        assertTrue(result.metrics.fastRetransmits() > 0, result.metrics.toString());
+        assertTrue(result.metrics.bytesRetransmitted() > 0);
+    }
+
+    @Test
+    void testLoopback_cubicRecoversFromLossAndDelay() {
+        LoopbackResult result = transfer(mss -> new Cubic(mss, 10), 0.01, 20 * MS);
+
+        assertTrue(result.completed, result.metrics.toString());
+        assertTrue(result.metrics.fastRetransmits() > 0, result.metrics.toString());
+    }
+
+    @Test
+    void testLoopback_windowGrowsWithoutLoss() {
+        LoopbackResult reno = transfer(mss -> new NewReno(mss, 10), 0, 20 * MS);
+        LoopbackResult cubic = transfer(mss -> new Cubic(mss, 10), 0, 20 * MS);
+
+        assertTrue(reno.completed && cubic.completed);
+        assertEquals(0, reno.metrics.bytesRetransmitted());
+        assertTrue(reno.metrics.cwnd() > 10L * MSS);
+        assertTrue(cubic.metrics.cwnd() > 10L * MSS);
+    }
+
+    @Test
+    void testLoopback_timeoutRepairsSeveralLossesInOneWindow() {
+        // given : 마지막 윈도우의 세그먼트 5개를 잃어 중복 ACK 없이 타임아웃만 발생한다
+        IntPredicate lostOnce = offset -> offset >= 5 * MSS;
+
+        // when
+        LoopbackResult reno = transfer(mss -> new NewReno(mss, 10), 10 * MSS, 0, lostOnce, 20 * MS);
+        LoopbackResult cubic = transfer(mss -> new Cubic(mss, 10), 10 * MSS, 0, lostOnce, 20 * MS);
+
+        // then : 한 번의 타임아웃 후 sndUna부터 다시 보내며 나머지 손실도 함께 복구한다
+        assertTrue(reno.completed && cubic.completed);
+        assertEquals(1, reno.metrics.timeouts(), reno.metrics.toString());
+        assertEquals(1, cubic.metrics.timeouts(), cubic.metrics.toString());
+        assertEquals(5L * MSS, reno.metrics.bytesRetransmitted());
+    }
+
+    private static final class LoopbackResult {
+        boolean completed;
+        TcpMetrics metrics;
+    }
+
+    /**
+     * 단방향 지연과 데이터 세그먼트 손실을 주입한 가상 시간 기반 in-process 루프백에서 전송을 수행한다.
+     */
+    private static LoopbackResult transfer(IntFunction<CongestionControl> algorithm, double lossRate, long oneWayDelay) {
+        return transfer(algorithm, 2 * 1024 * 1024, lossRate, offset -> false, oneWayDelay);
+    }
+
+    /**
+     * @param lostOnce 첫 전송을 잃을 세그먼트 (데이터 시작 기준 오프셋), 재전송은 손실시키지 않는다
+     */
+    private static LoopbackResult transfer(IntFunction<CongestionControl> algorithm, int total, double lossRate,
+                                           IntPredicate lostOnce, long oneWayDelay) {
+        final int iss = 1_000_000;
+        final long rwnd = 4L * 1024 * 1024;
+        byte[] data = new byte[total];
+        new Random(1).nextBytes(data);
+        Random loss = new Random(42);
+
+        SendController sender = new SendController(algorithm.apply(MSS), new RttEstimator(200 * MS, 60_000 * MS), MSS, iss, false);
+        ByteArrayOutputStream received = new ByteArrayOutputStream();
+        ReassemblyQueue receiver = new ReassemblyQueue(iss, Long.MAX_VALUE, new ReassemblyMemory(Long.MAX_VALUE), received::write);
+
+        // event : {time, kind(0=data, 1=ack), seq/ack, length, echoTime, retransmission, order}
+        PriorityQueue<long[]> events = new PriorityQueue<>((a, b) -> a[0] != b[0] ? Long.compare(a[0], b[0]) : Long.compare(a[6], b[6]));
+        long[] order = { 0 };
+        long now = 0;
+        long rtoDeadline = Long.MAX_VALUE;
+        int nextNew = iss;
+
+        LoopbackResult result = new LoopbackResult();
+        while (now < 600_000 * MS) {
+            // sndNxt부터 전송, 타임아웃 후에는 이미 보낸 구간을 다시 보낸다
+            int size;
+            while ((size = sender.nextSegmentSize(iss + total - sender.sndNxt(), rwnd)) > 0) {
+                int seq = sender.sndNxt();
+                boolean retransmission = seq - nextNew < 0;
+                boolean lost = !retransmission && lostOnce.test(seq - iss);
+                if (!lost && loss.nextDouble() >= lossRate) {
+                    events.add(new long[] { now + oneWayDelay, 0, seq, size, now, retransmission ? 1 : 0, order[0]++ });
+                }
+                sender.onSent(seq, size, retransmission);
+                if (seq + size - nextNew > 0) nextNew = seq + size;
+                if (rtoDeadline == Long.MAX_VALUE) rtoDeadline = now + sender.rtoNanos();
+            }
+
+            if (received.size() == total) {
+                result.completed = true;
+                break;
+            }
+
+            long[] event = events.peek();
+            if (event == null || rtoDeadline < event[0]) {
+                if (rtoDeadline == Long.MAX_VALUE) break;
+                now = rtoDeadline;
+                sender.onRetransmitTimeout();
+                retransmit(sender, events, order, now, nextNew, oneWayDelay, loss, lossRate);
+                rtoDeadline = now + sender.rtoNanos();
+                continue;
+            }
+
+            events.poll();
+            now = event[0];
+            if (event[1] == 0) {
+                int seq = (int) event[2];
+                int length = (int) event[3];
+                receiver.offer(seq, data, seq - iss, length);
+                events.add(new long[] { now + oneWayDelay, 1, receiver.rcvNxt(), 0, event[4], event[5], order[0]++ });
+            } else {
+                int before = sender.sndUna();
+                long rtt = event[5] == 0 ? now - event[4] : -1;
+                SendController.AckAction action = sender.onAck((int) event[2], rtt, now);
+                if (action != SendController.AckAction.NONE) {
+                    retransmit(sender, events, order, now, nextNew, oneWayDelay, loss, lossRate);
+                }
+                if (sender.sndUna() != before) {
+                    rtoDeadline = sender.inFlight() > 0 ? now + sender.rtoNanos() : Long.MAX_VALUE;
+                }
+            }
+        }
+        result.metrics = sender.metrics();
+        if (result.completed) assertArrayEquals(data, received.toByteArray());
+        return result;
+    }
+
+    private static void retransmit(SendController sender, PriorityQueue<long[]> events, long[] order, long now,
+                                   int nextNew, long oneWayDelay, Random loss, double lossRate) {
+        int seq = sender.sndUna();
+        int length = Math.min(MSS, nextNew - seq);
+        if (length <= 0) return;
+        if (loss.nextDouble() >= lossRate) {
+            events.add(new long[] { now + oneWayDelay, 0, seq, length, now, 1, order[0]++ });
+        }
+        sender.onSent(seq, length, true);
+    }
+}
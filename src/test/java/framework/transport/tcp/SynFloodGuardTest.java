@@ -0,0 +1,75 @@
+package framework.transport.tcp;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SynFloodGuardTest {
+
+    private static final long MINUTE = 60_000_000_000L;
+
+    @Test
+    void testAdmit_switchesToCookiesAtLimit() {
+        // given
+        SynFloodGuard guard = new SynFloodGuard(2);
+
+        // then
+        assertEquals(SynFloodGuard.Admission.STATEFUL, guard.admit());
+        assertEquals(SynFloodGuard.Admission.STATEFUL, guard.admit());
+        assertEquals(SynFloodGuard.Admission.COOKIE, guard.admit());
+
+        // when
+        guard.release();
+
+        // then
+        assertEquals(SynFloodGuard.Admission.STATEFUL, guard.admit());
+    }
+
+    @Test
+    void testRelease_neverDropsBelowZero() {
+        // given
+        SynFloodGuard guard = new SynFloodGuard(1);
+        assertEquals(SynFloodGuard.Admission.STATEFUL, guard.admit());
+        assertEquals(SynFloodGuard.Admission.COOKIE, guard.admit());
+
+        // when : 정상 반환 후 중복 반환, COOKIE 승인에 대한 반환
+        assertTrue(guard.release());
+        assertFalse(guard.release());
+        assertFalse(guard.release());
+
+        // then : 상한이 늘어나지 않는다
+        assertEquals(0, guard.halfOpen());
+        assertEquals(SynFloodGuard.Admission.STATEFUL, guard.admit());
+        assertEquals(SynFloodGuard.Admission.COOKIE, guard.admit());
+    }
+
+    @Test
+    void testCookie_roundTripRestoresMss() {
+        // given
+        SynFloodGuard guard = new SynFloodGuard(0);
+        int clientIsn = 0x1234_5678;
+        long now = 10 * MINUTE;
+
+        // when
+        int isn = guard.cookie(0x0A00_0001, 0x0A00_0002, 51000, 443, clientIsn, 1460, now);
+
+        // then
+        assertEquals(1460, guard.validate(0x0A00_0001, 0x0A00_0002, 51000, 443, clientIsn + 1, isn + 1, now + MINUTE));
+        assertEquals(1300, guard.validate(0x0A00_0001, 0x0A00_0002, 51000, 443, clientIsn + 1,
+                guard.cookie(0x0A00_0001, 0x0A00_0002, 51000, 443, clientIsn, 1400, now) + 1, now));
+    }
+
+    @Test
+    void testCookie_rejectsTamperedOrExpired() {
+        // given
+        SynFloodGuard guard = new SynFloodGuard(0);
+        long now = 10 * MINUTE;
+        int isn = guard.cookie(0x0A00_0001, 0x0A00_0002, 51000, 443, 100, 1460, now);
+
+        // then
+        assertEquals(SynFloodGuard.INVALID_COOKIE, guard.validate(0x0A00_0001, 0x0A00_0002, 51001, 443, 101, isn + 1, now));
+        assertEquals(SynFloodGuard.INVALID_COOKIE, guard.validate(0x0A00_0001, 0x0A00_0002, 51000, 443, 101, isn + 2, now));
+        assertEquals(SynFloodGuard.INVALID_COOKIE, guard.validate(0x0A00_0001, 0x0A00_0002, 51000, 443, 101, isn + 1, now + 5 * MINUTE));
+        assertEquals(3, guard.cookiesRejected());
+    }
+}
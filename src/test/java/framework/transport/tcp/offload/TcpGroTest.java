@@ -0,0 +1,92 @@
+package framework.transport.tcp.offload;
+
+import static framework.transport.tcp.offload.SegmentHeaders.*;
+import static framework.transport.tcp.offload.TcpGsoTest.data;
+import static framework.transport.tcp.offload.TcpGsoTest.packet;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import framework.core.data.Chunk;
+import framework.util.InternetChecksum;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TcpGroTest {
+
+    private static final byte[] NO_OPTIONS = new byte[0];
+
+    private final List<Chunk> out = new ArrayList<>();
+
+    @Test
+    void testReceive_coalescesGsoOutputBackIntoOnePacket() {
+        // given
+        byte[] data = data(10_000);
+        byte[] large = packet(1, ACK | PSH, NO_OPTIONS, data, 0, data.length);
+        List<Chunk> segments = new ArrayList<>();
+        TcpGso.segment(large, 1460, segments::add);
+        TcpGro gro = new TcpGro(out::add);
+
+        // when
+        for (Chunk segment : segments) gro.receive(segment);
+        gro.flush();
+
+        // then : PSH가 있는 마지막 세그먼트까지 하나로 병합된다
+        assertEquals(1, out.size());
+        byte[] merged = out.get(0).getPayload().getBytes();
+        assertEquals(40 + data.length, u16(merged, IP_TOTAL_LENGTH));
+        assertArrayEquals(data, Arrays.copyOfRange(merged, 40, merged.length));
+        assertEquals(ACK | PSH, merged[20 + TCP_FLAGS] & 0xFF);
+        assertEquals(0, InternetChecksum.checksum(merged, 0, 20));
+        assertTrue(tcpChecksumValid(merged, 20, merged.length));
+        assertEquals(segments.size(), gro.segmentsIn());
+        assertEquals(1, gro.packetsOut());
+    }
+
+    @Test
+    void testReceive_gapOrOptionChangeStartsNewPacket() {
+        // given
+        byte[] data = data(6000);
+        byte[] tsA = { 1, 1, 8, 10, 0, 0, 0, 1, 0, 0, 0, 0 };
+        byte[] tsB = { 1, 1, 8, 10, 0, 0, 0, 2, 0, 0, 0, 0 };
+        TcpGro gro = new TcpGro(out::add);
+
+        // when
+        gro.receive(chunk(packet(0, ACK, tsA, data, 0, 1000)));
+        gro.receive(chunk(packet(1000, ACK, tsA, data, 1000, 1000)));
+        gro.receive(chunk(packet(3000, ACK, tsA, data, 3000, 1000)));   // 빈 구간
+        gro.receive(chunk(packet(4000, ACK, tsB, data, 4000, 1000)));   // 옵션 변경
+        gro.flush();
+
+        // then
+        assertEquals(3, out.size());
+        assertEquals(20 + 32 + 2000, out.get(0).getPayload().getBytes().length);
+        assertEquals(3000, i32(out.get(1).getPayload().getBytes(), 20 + TCP_SEQ));
+        assertEquals(4000, i32(out.get(2).getPayload().getBytes(), 20 + TCP_SEQ));
+    }
+
+    @Test
+    void testReceive_corruptAndControlSegmentsPassThroughInOrder() {
+        // given
+        byte[] data = data(3000);
+        TcpGro gro = new TcpGro(out::add);
+        byte[] corrupt = packet(1000, ACK, NO_OPTIONS, data, 1000, 1000);
+        corrupt[corrupt.length - 1] ^= 0x7F;
+        Chunk fin = chunk(packet(2000, ACK | FIN, NO_OPTIONS, data, 2000, 0));
+
+        // when
+        gro.receive(chunk(packet(0, ACK, NO_OPTIONS, data, 0, 1000)));
+        gro.receive(chunk(corrupt));
+        gro.receive(fin);
+        gro.flush();
+
+        // then : 병합할 수 없는 패킷은 같은 흐름의 대기 패킷 뒤에 그대로 전달된다
+        assertEquals(3, out.size());
+        assertEquals(0, i32(out.get(0).getPayload().getBytes(), 20 + TCP_SEQ));
+        assertSame(corrupt, out.get(1).getPayload().getBytes());
+        assertSame(fin, out.get(2));
+    }
+}
@@ -0,0 +1,93 @@
+package framework.transport.tcp.offload;
+
+import static framework.transport.tcp.offload.SegmentHeaders.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import framework.core.data.Chunk;
+import framework.util.InternetChecksum;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TcpGsoTest {
+
+    static final int SRC_IP = 0xC0A8_0001;
+    static final int DST_IP = 0xC0A8_0002;
+
+    /**
+     * 체크섬까지 채워진 IPv4 / TCP 패킷을 만든다.
+     */
+    static byte[] packet(int seq, int flags, byte[] options, byte[] payload, int payloadOffset, int payloadLength) {
+        int tcp = 20;
+        int headerLength = tcp + TCP_MIN_LENGTH + options.length;
+        byte[] bytes = new byte[headerLength + payloadLength];
+        bytes[0] = 0x45;
+        bytes[IP_TTL] = 64;
+        bytes[IP_PROTOCOL] = PROTOCOL_TCP;
+        put16(bytes, IP_ID, 100);
+        put16(bytes, IP_FRAGMENT, 0x4000);
+        put32(bytes, IP_SRC, SRC_IP);
+        put32(bytes, IP_DST, DST_IP);
+        put16(bytes, tcp + TCP_SRC_PORT, 40000);
+        put16(bytes, tcp + TCP_DST_PORT, 80);
+        put32(bytes, tcp + TCP_SEQ, seq);
+        put32(bytes, tcp + TCP_ACK, 777);
+        bytes[tcp + TCP_DATA_OFFSET] = (byte) ((headerLength - tcp) / 4 << 4);
+        bytes[tcp + TCP_FLAGS] = (byte) flags;
+        put16(bytes, tcp + TCP_WINDOW, 1000);
+        System.arraycopy(options, 0, bytes, tcp + TCP_MIN_LENGTH, options.length);
+        System.arraycopy(payload, payloadOffset, bytes, headerLength, payloadLength);
+        finish(bytes, tcp, bytes.length);
+        return bytes;
+    }
+
+    static byte[] data(int length) {
+        byte[] data = new byte[length];
+        for (int i = 0; i < length; i++) data[i] = (byte) (i * 31);
+        return data;
+    }
+
+    @Test
+    void testSegment_splitsAndFixesHeaders() {
+        // given
+        byte[] data = data(3500);
+        byte[] large = packet(5000, ACK | PSH | FIN | CWR, new byte[0], data, 0, data.length);
+        List<Chunk> out = new ArrayList<>();
+
+        // when
+        int count = TcpGso.segment(large, 1460, out::add);
+
+        // then
+        assertEquals(3, count);
+        int[] lengths = { 1460, 1460, 580 };
+        for (int i = 0; i < count; i++) {
+            byte[] bytes = out.get(i).getPayload().getBytes();
+            int flags = bytes[20 + TCP_FLAGS] & 0xFF;
+            assertEquals(40 + lengths[i], u16(bytes, IP_TOTAL_LENGTH));
+            assertEquals(5000 + i * 1460, i32(bytes, 20 + TCP_SEQ));
+            assertEquals(100 + i, u16(bytes, IP_ID));
+            assertEquals(i == 2, (flags & (FIN | PSH)) == (FIN | PSH));
+            assertEquals(i == 0, (flags & CWR) != 0);
+            assertEquals(0, InternetChecksum.checksum(bytes, 0, 20));
+            assertTrue(tcpChecksumValid(bytes, 20, bytes.length));
+        }
+    }
+
+    @Test
+    void testSegment_smallChunkPassesThrough() {
+        // given
+        byte[] small = packet(1, ACK, new byte[0], data(100), 0, 100);
+        Chunk chunk = chunk(small);
+        List<Chunk> out = new ArrayList<>();
+
+        // when
+        int count = TcpGso.segment(chunk, 1460, out::add);
+
+        // then
+        assertEquals(1, count);
+        assertSame(chunk, out.get(0));
+    }
+}
@@ -0,0 +1,116 @@
+package framework.transport.udp;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UdpDemuxTest {
+
+    private static final int SRC_IP = 0x0A00_0001;
+    private static final int DST_IP = 0x0A00_0002;
+
+    private static byte[] datagram(int srcPort, int dstPort, String payload) {
+        byte[] body = payload.getBytes();
+        byte[] bytes = new byte[UdpHeader.LENGTH + body.length];
+        System.arraycopy(body, 0, bytes, UdpHeader.LENGTH, body.length);
+        UdpHeader.write(bytes, 0, SRC_IP, DST_IP, srcPort, dstPort, body.length);
+        return bytes;
+    }
+
+    @Test
+    void testReceive_deliveredInBatch() {
+        // given
+        UdpDemux demux = new UdpDemux();
+        UdpSocket socket = demux.bind(53, 8, false);
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            byte[] bytes = datagram(40000 + i, 53, "query-" + i);
+            assertTrue(demux.receive(SRC_IP, DST_IP, bytes, 0, bytes.length));
+        }
+        List<String> payloads = new ArrayList<>();
+        int n = socket.drain(d -> payloads.add(new String(d.bytes(), d.offset(), d.length())), 16);
+
+        // then
+        assertEquals(3, n);
+        assertEquals(List.of("query-0", "query-1", "query-2"), payloads);
+        assertFalse(socket.hasPending());
+    }
+
+    @Test
+    void testReceive_ringFullCountsPortDrops() {
+        // given
+        UdpDemux demux = new UdpDemux();
+        UdpSocket socket = demux.bind(9000, 2, false);
+        byte[] bytes = datagram(1234, 9000, "x");
+
+        // when
+        for (int i = 0; i < 5; i++) demux.receive(SRC_IP, DST_IP, bytes, 0, bytes.length);
+
+        // then
+        assertEquals(3, demux.drops(9000));
+        assertEquals(3, socket.dropped());
+        assertEquals(2, socket.drain(d -> { }, 16));
+
+        // when : 비워진 슬롯은 재사용된다
+        assertTrue(demux.receive(SRC_IP, DST_IP, bytes, 0, bytes.length));
+
+        // then
+        assertEquals(1, socket.drain(d -> { }, 16));
+    }
+
+    @Test
+    void testReceive_rejectsUnboundPortAndBadChecksum() {
+        // given
+        UdpDemux demux = new UdpDemux();
+        UdpSocket socket = demux.bind(7, 4, false);
+        byte[] unbound = datagram(1000, 8, "a");
+        byte[] corrupted = datagram(1000, 7, "b");
+        corrupted[UdpHeader.LENGTH] ^= 0x01;
+        byte[] truncated = datagram(1000, 7, "hello");
+
+        // then
+        assertFalse(demux.receive(SRC_IP, DST_IP, unbound, 0, unbound.length));
+        assertFalse(demux.receive(SRC_IP, DST_IP, corrupted, 0, corrupted.length));
+        assertFalse(demux.receive(SRC_IP, DST_IP, truncated, 0, truncated.length - 1));
+        assertEquals(1, demux.noPort());
+        assertEquals(1, demux.badChecksum());
+        assertEquals(1, demux.malformed());
+        assertFalse(socket.hasPending());
+    }
+
+    @Test
+    void testBind_reusePortSpreadsFlows() {
+        // given
+        UdpDemux demux = new UdpDemux();
+        UdpSocket first = demux.bind(5000, 256, true);
+        UdpSocket second = demux.bind(5000, 256, true);
+
+        // then
+        assertThrows(IllegalStateException.class, () -> demux.bind(5000, 256, false));
+
+        // when
+        for (int port = 1; port <= 200; port++) {
+            byte[] bytes = datagram(port, 5000, "p");
+            demux.receive(SRC_IP, DST_IP, bytes, 0, bytes.length);
+        }
+
+        // then
+        assertEquals(200, first.received() + second.received());
+        assertTrue(first.received() > 0 && second.received() > 0);
+
+        // when
+        demux.unbind(first);
+        long before = second.received();
+        for (int port = 1; port <= 10; port++) {
+            byte[] bytes = datagram(port, 5000, "p");
+            demux.receive(SRC_IP, DST_IP, bytes, 0, bytes.length);
+        }
+
+        // then
+        assertEquals(before + 10, second.received());
+    }
+}
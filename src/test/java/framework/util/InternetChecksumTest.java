@@ -0,0 +1,118 @@
+package framework.util;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import framework.core.data.Chunk;
+import framework.core.data.header.Header;
+import framework.core.data.payload.Payload;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InternetChecksumTest {
+
+    @Test
+    void testChecksum_rfc1071Example() {
+        // given
+        byte[] bytes = { 0x00, 0x01, (byte) 0xf2, 0x03, (byte) 0xf4, (byte) 0xf5, (byte) 0xf6, (byte) 0xf7 };
+
+        // then
+        assertEquals(0xddf2, InternetChecksum.fold(InternetChecksum.sum(bytes, 0, bytes.length, 0)));
+        assertEquals(0x220d, InternetChecksum.checksum(bytes, 0, bytes.length));
+    }
+
+    @Test
+    void testChecksum_matchesNaiveLoop() {
+        // given
+        Random random = new Random(1);
+
+        for (int length = 0; length < 300; length++) {
+            byte[] bytes = new byte[length + 3];
+            random.nextBytes(bytes);
+            int offset = length % 3;
+
+            // then
+            assertEquals(naive(bytes, offset, length), InternetChecksum.checksum(bytes, offset, length), "length " + length);
+        }
+    }
+
+    @Test
+    void testAccumulator_oddSlicesEqualConcatenation() {
+        // given
+        Random random = new Random(2);
+        byte[] bytes = new byte[257];
+        random.nextBytes(bytes);
+
+        // when
+        int chained = new InternetChecksum.Accumulator()
+                .update(bytes, 0, 13)
+                .update(bytes, 13, 0)
+                .update(bytes, 13, 100)
+                .update(bytes, 113, 1)
+                .update(bytes, 114, 143)
+                .finish();
+
+        // then
+        assertEquals(InternetChecksum.checksum(bytes, 0, bytes.length), chained);
+    }
+
+    @Test
+    void testChecksum_chunkHeaderAndPayload() {
+        // given
+        byte[] header = { 0x45, 0x00, 0x00, 0x1c, 0x12 };
+        byte[] payload = { 0x34, 0x40, 0x00, 0x40, 0x11 };
+        Chunk chunk = new Chunk();
+        chunk.setHeader(new Header(header) { });
+        chunk.setPayload(new Payload(payload));
+
+        byte[] concat = { 0x45, 0x00, 0x00, 0x1c, 0x12, 0x34, 0x40, 0x00, 0x40, 0x11 };
+
+        // then
+        assertEquals(InternetChecksum.checksum(concat, 0, concat.length), InternetChecksum.checksum(chunk));
+    }
+
+    @Test
+    void testUpdate16_ttlDecrement() {
+        // given : IPv4 헤더, 체크섬 필드(10~11) 0
+        byte[] ip = {
+                0x45, 0x00, 0x00, 0x73, 0x00, 0x00, 0x40, 0x00, 0x40, 0x11, 0x00, 0x00,
+                (byte) 0xc0, (byte) 0xa8, 0x00, 0x01, (byte) 0xc0, (byte) 0xa8, 0x00, (byte) 0xc7 };
+        int original = InternetChecksum.checksum(ip, 0, ip.length);
+        assertEquals(0xb861, original);
+
+        // when
+        int updated = InternetChecksum.update16(original, 0x4011, 0x3f11);
+        ip[8] = 0x3f;
+
+        // then
+        assertEquals(InternetChecksum.checksum(ip, 0, ip.length), updated);
+    }
+
+    @Test
+    void testUpdate32_addressRewrite() {
+        // given
+        byte[] ip = {
+                0x45, 0x00, 0x00, 0x73, 0x00, 0x00, 0x40, 0x00, 0x40, 0x11, 0x00, 0x00,
+                (byte) 0xc0, (byte) 0xa8, 0x00, 0x01, (byte) 0xc0, (byte) 0xa8, 0x00, (byte) 0xc7 };
+        int original = InternetChecksum.checksum(ip, 0, ip.length);
+
+        // when
+        int updated = InternetChecksum.update32(original, 0xc0a80001, 0x0a000005);
+        ip[12] = 0x0a; ip[13] = 0x00; ip[14] = 0x00; ip[15] = 0x05;
+
+        // then
+        assertEquals(InternetChecksum.checksum(ip, 0, ip.length), updated);
+    }
+
+    private static int naive(byte[] bytes, int offset, int length) {
+        long sum = 0;
+        for (int i = 0; i < length; i += 2) {
+            int hi = bytes[offset + i] & 0xFF;
+            int lo = i + 1 < length ? bytes[offset + i + 1] & 0xFF : 0;
+            sum += (hi << 8) | lo;
+        }
+        while ((sum >>> 16) != 0) sum = (sum & 0xFFFF) + (sum >>> 16);
+        return (int) (~sum & 0xFFFF);
+    }
+}
@@ -3,13 +3,18 @@ package local.framework.adapter;
 import org.junit.jupiter.api.Test;
 import org.pcap4j.core.NotOpenException;
 import org.pcap4j.core.PcapHandle;
-import org.pcap4j.packet.Packet;
 
 import framework.adapter.Pcap4jAdapter;
+import framework.adapter.capture.CaptureConfig;
+import framework.adapter.capture.FrameSink;
 
 import java.io.EOFException;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 public class Pcap4jAdapterTest {
@@ -18,22 +23,48 @@ public class Pcap4jAdapterTest {
     void testRun_withMockHandles() throws Exception {
         // given
         PcapHandle mockHandle = mock(PcapHandle.class);
-        Packet mockPacket = mock(Packet.class);
 
-        when(mockHandle.getNextPacketEx())
-            .thenReturn(mockPacket)
+        when(mockHandle.getNextRawPacketEx())
+            .thenReturn("mock".getBytes())
             .thenThrow(new NotOpenException());
 
-        when(mockPacket.getRawData()).thenReturn("mock".getBytes());
-
         Pcap4jAdapter adapter = Pcap4jAdapter.of(List.of(mockHandle));
 
         //when
         adapter.run();
 
         //then
-        verify(mockHandle, atLeastOnce()).getNextPacketEx();
-        verify(mockPacket).getRawData();
+        verify(mockHandle, timeout(1000).atLeast(2)).getNextRawPacketEx();
+        assertEquals(1, adapter.captureStats().get(0).captured());
+
+        adapter.stop();
+    }
+
+    @Test
+    void testRun_sinkExceptionDoesNotStopDecoding() throws Exception {
+        // given : 첫 프레임에서만 예외를 던지는 하위 계층
+        PcapHandle mockHandle = mock(PcapHandle.class);
+        when(mockHandle.getNextRawPacketEx())
+            .thenReturn(new byte[] { 1 }, new byte[] { 2 }, new byte[] { 3 })
+            .thenThrow(new TimeoutException());
+
+        AtomicBoolean thrown = new AtomicBoolean();
+        List<Byte> seen = new CopyOnWriteArrayList<>();
+        FrameSink sink = (nic, bytes, offset, length, timestampNanos) -> {
+            if (thrown.compareAndSet(false, true)) throw new IllegalStateException("sink failure");
+            return seen.add(bytes[offset]);
+        };
+        Pcap4jAdapter adapter = Pcap4jAdapter.of(List.of(mockHandle), null, null,
+                new CaptureConfig.Builder().build(), sink);
+
+        // when
+        adapter.run();
+        long deadline = System.nanoTime() + 1_000_000_000L;
+        while (seen.size() < 2 && System.nanoTime() < deadline) Thread.sleep(10);
+
+        // then : 예외를 던진 프레임만 건너뛰고 이후 프레임은 계속 전달된다
+        assertEquals(List.of((byte) 2, (byte) 3), seen);
+        assertEquals(3, adapter.captureStats().get(0).delivered());
 
         adapter.stop();
     }